@@ -0,0 +1,35 @@
+plugins {
+    java
+    id("me.champeau.gradle.jmh") version "0.5.3"
+    `copper-leaf-base`
+    `copper-leaf-version`
+}
+
+description = "JMH benchmarks for the option extraction, conversion, JSON and CLI parsing utilities in common-core"
+
+java {
+    sourceCompatibility = JavaVersion.toVersion(Config.javaVersion)
+    targetCompatibility = JavaVersion.toVersion(Config.javaVersion)
+}
+
+dependencies {
+    jmh(project(":common-core"))
+    jmh("io.github.copper-leaf:clog-core-jvm:4.1.0")
+    jmh("org.json:json:20210307")
+    jmh("javax.inject:javax.inject:1")
+}
+
+// Run with `./gradlew :common-benchmarks:jmh`, optionally narrowing the suites with `-PjmhInclude=<regex>`. Results
+// are written as JSON so runs from different commits can be compared with any JMH result visualizer.
+jmh {
+    jmhVersion = "1.29"
+    if (project.hasProperty("jmhInclude")) {
+        include = listOf(project.property("jmhInclude").toString())
+    }
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    resultsFile = project.file("${project.buildDir}/reports/jmh/results.json")
+    duplicateClassesStrategy = DuplicatesStrategy.EXCLUDE
+}
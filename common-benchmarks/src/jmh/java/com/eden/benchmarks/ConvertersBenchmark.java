@@ -0,0 +1,172 @@
+package com.eden.benchmarks;
+
+import com.eden.orchid.api.converters.BooleanConverter;
+import com.eden.orchid.api.converters.ClogStringConverterHelper;
+import com.eden.orchid.api.converters.Converters;
+import com.eden.orchid.api.converters.DateConverter;
+import com.eden.orchid.api.converters.DateTimeConverter;
+import com.eden.orchid.api.converters.DoubleConverter;
+import com.eden.orchid.api.converters.ExtractableConverter;
+import com.eden.orchid.api.converters.FlexibleIterableConverter;
+import com.eden.orchid.api.converters.FlexibleMapConverter;
+import com.eden.orchid.api.converters.FloatConverter;
+import com.eden.orchid.api.converters.IntegerConverter;
+import com.eden.orchid.api.converters.LongConverter;
+import com.eden.orchid.api.converters.NumberConverter;
+import com.eden.orchid.api.converters.StringConverter;
+import com.eden.orchid.api.converters.StringConverterHelper;
+import com.eden.orchid.api.converters.TimeConverter;
+import com.eden.orchid.api.converters.TypeConverter;
+import com.eden.orchid.api.options.DefaultExtractor;
+import com.eden.orchid.api.options.Extractor;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.inject.Provider;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures `Converters.convert` for each of the built-in `TypeConverter`s, with the same converters that
+ * `DefaultExtractor` uses. Each converter is given a typical input that needs converting, rather than a value which is
+ * already the target type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConvertersBenchmark {
+
+    private Converters converters;
+
+    private Map<String, Object> mapInput;
+    private List<Object> listInput;
+    private JSONObject jsonInput;
+
+    @Setup
+    public void setup() {
+        Set<StringConverterHelper> stringConverterHelpers = new HashSet<>();
+        stringConverterHelpers.add(new ClogStringConverterHelper());
+
+        StringConverter stringConverter = new StringConverter(stringConverterHelpers);
+        LongConverter longConverter = new LongConverter(stringConverter);
+        DoubleConverter doubleConverter = new DoubleConverter(stringConverter);
+        NumberConverter numberConverter = new NumberConverter(longConverter, doubleConverter);
+        DateTimeConverter dateTimeConverter = new DateTimeConverter(stringConverter);
+        FlexibleMapConverter flexibleMapConverter = new FlexibleMapConverter();
+
+        // Converters is injected with a Set of raw TypeConverters
+        @SuppressWarnings("rawtypes")
+        Set<TypeConverter> typeConverters = new HashSet<>();
+        typeConverters.add(stringConverter);
+        typeConverters.add(longConverter);
+        typeConverters.add(new IntegerConverter(stringConverter));
+        typeConverters.add(doubleConverter);
+        typeConverters.add(new FloatConverter(stringConverter));
+        typeConverters.add(numberConverter);
+        typeConverters.add(new BooleanConverter(stringConverter, numberConverter));
+        typeConverters.add(dateTimeConverter);
+        typeConverters.add(new DateConverter(dateTimeConverter));
+        typeConverters.add(new TimeConverter(dateTimeConverter));
+        typeConverters.add(flexibleMapConverter);
+        typeConverters.add(new FlexibleIterableConverter(flexibleMapConverter));
+        typeConverters.add(new ExtractableConverter(
+                new Provider<Extractor>() {
+                    @Override
+                    public Extractor get() {
+                        return DefaultExtractor.getInstance();
+                    }
+                },
+                flexibleMapConverter
+        ));
+
+        converters = new Converters(typeConverters);
+
+        mapInput = new HashMap<>();
+        mapInput.put("title", "Home");
+        mapInput.put("pageSize", 10);
+        mapInput.put("draft", true);
+
+        listInput = Arrays.<Object>asList("one", "two", "three");
+        jsonInput = new JSONObject(mapInput);
+    }
+
+    @Benchmark
+    public Object convertString() {
+        return converters.convert(1234, String.class);
+    }
+
+    @Benchmark
+    public Object convertLong() {
+        return converters.convert("1234", Long.class);
+    }
+
+    @Benchmark
+    public Object convertInteger() {
+        return converters.convert("1234", Integer.class);
+    }
+
+    @Benchmark
+    public Object convertDouble() {
+        return converters.convert("1234.5", Double.class);
+    }
+
+    @Benchmark
+    public Object convertFloat() {
+        return converters.convert("1234.5", Float.class);
+    }
+
+    @Benchmark
+    public Object convertNumber() {
+        return converters.convert("1234.5", Number.class);
+    }
+
+    @Benchmark
+    public Object convertBoolean() {
+        return converters.convert("true", Boolean.class);
+    }
+
+    @Benchmark
+    public Object convertDateTime() {
+        return converters.convert("2021-04-01T12:30:00", LocalDateTime.class);
+    }
+
+    @Benchmark
+    public Object convertDate() {
+        return converters.convert("2021-04-01", LocalDate.class);
+    }
+
+    @Benchmark
+    public Object convertTime() {
+        return converters.convert("12:30:00", LocalTime.class);
+    }
+
+    @Benchmark
+    public Object convertMap() {
+        return converters.convert(jsonInput, Map.class);
+    }
+
+    @Benchmark
+    public Object convertIterable() {
+        return converters.convert(listInput, Iterable.class);
+    }
+
+    @Benchmark
+    public Object convertExtractable() {
+        return converters.convert(mapInput, ExtractorBenchmark.SmallHolder.class);
+    }
+
+}
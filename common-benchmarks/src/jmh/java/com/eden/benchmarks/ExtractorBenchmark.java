@@ -0,0 +1,198 @@
+package com.eden.benchmarks;
+
+import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.options.DefaultExtractor;
+import com.eden.orchid.api.options.Extractable;
+import com.eden.orchid.api.options.Extractor;
+import com.eden.orchid.api.options.annotations.Option;
+import com.eden.orchid.api.options.annotations.StringDefault;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures `Extractor.extractOptions` on options holders of different shapes: a small holder with a few options, a wide
+ * holder with many options of every common type, and a tree of nested `Extractable` holders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExtractorBenchmark {
+
+    public static class SmallHolder implements Extractable {
+        @Option @StringDefault("Untitled")
+        public String title;
+
+        @Option
+        public int pageSize;
+
+        @Option
+        public boolean draft;
+
+        @Override
+        public void extractOptions(Extractor extractor, Map<String, Object> options) {
+            extractor.extractOptions(this, options);
+        }
+    }
+
+    public static class WideHolder implements Extractable {
+        @Option public String string1;
+        @Option public String string2;
+        @Option public String string3;
+        @Option public String string4;
+        @Option public String string5;
+        @Option public String string6;
+        @Option public int int1;
+        @Option public int int2;
+        @Option public int int3;
+        @Option public int int4;
+        @Option public long long1;
+        @Option public long long2;
+        @Option public long long3;
+        @Option public double double1;
+        @Option public double double2;
+        @Option public double double3;
+        @Option public float float1;
+        @Option public float float2;
+        @Option public boolean boolean1;
+        @Option public boolean boolean2;
+        @Option public boolean boolean3;
+        @Option public String[] stringArray;
+        @Option public List<String> stringList;
+        @Option public Map<String, Object> map;
+        @Option public SmallHolder small;
+
+        @Override
+        public void extractOptions(Extractor extractor, Map<String, Object> options) {
+            extractor.extractOptions(this, options);
+        }
+    }
+
+    public static class NestedHolder implements Extractable {
+        @Option
+        public String name;
+
+        @Option
+        public int depth;
+
+        @Option
+        public List<NestedHolder> children;
+
+        @Override
+        public void extractOptions(Extractor extractor, Map<String, Object> options) {
+            extractor.extractOptions(this, options);
+        }
+    }
+
+    private static final int BATCH_SIZE = 1000;
+
+    private Extractor extractor;
+
+    private Map<String, Object> smallOptions;
+    private Map<String, Object> wideOptions;
+    private Map<String, Object> nestedOptions;
+
+    private List<EdenPair<Object, Map<String, Object>>> batch;
+
+    @Setup
+    public void setup() {
+        extractor = DefaultExtractor.getInstance();
+
+        smallOptions = new HashMap<>();
+        smallOptions.put("title", "Home");
+        smallOptions.put("pageSize", 10);
+        smallOptions.put("draft", true);
+
+        wideOptions = new HashMap<>();
+        for (int i = 1; i <= 6; i++) {
+            wideOptions.put("string" + i, "value " + i);
+        }
+        for (int i = 1; i <= 4; i++) {
+            wideOptions.put("int" + i, i);
+        }
+        for (int i = 1; i <= 3; i++) {
+            wideOptions.put("long" + i, (long) i);
+            wideOptions.put("double" + i, i + 0.5);
+            wideOptions.put("boolean" + i, "true");
+        }
+        for (int i = 1; i <= 2; i++) {
+            wideOptions.put("float" + i, i + "." + i);
+        }
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            strings.add("item " + i);
+        }
+        wideOptions.put("stringArray", strings);
+        wideOptions.put("stringList", strings);
+        wideOptions.put("map", new HashMap<>(smallOptions));
+        wideOptions.put("small", new HashMap<>(smallOptions));
+
+        nestedOptions = createNestedOptions(0, 4, 3);
+
+        batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new EdenPair<Object, Map<String, Object>>(new SmallHolder(), smallOptions));
+        }
+    }
+
+    @Benchmark
+    public Object extractSmall() {
+        SmallHolder holder = new SmallHolder();
+        extractor.extractOptions(holder, smallOptions);
+        return holder;
+    }
+
+    @Benchmark
+    public Object extractWide() {
+        WideHolder holder = new WideHolder();
+        extractor.extractOptions(holder, wideOptions);
+        return holder;
+    }
+
+    @Benchmark
+    public Object extractNested() {
+        NestedHolder holder = new NestedHolder();
+        extractor.extractOptions(holder, nestedOptions);
+        return holder;
+    }
+
+    /**
+     * Extracts a batch of small holders with `Extractor.extractAll`, to compare against {@link #extractSmall()} and to
+     * check that throughput scales with the number of cores. The holders are created once in {@link #setup()} and
+     * extracted into again on every invocation, so only the extraction itself is measured.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Object extractAllSmall() {
+        extractor.extractAll(batch);
+        return batch;
+    }
+
+    private static Map<String, Object> createNestedOptions(int depth, int maxDepth, int childCount) {
+        Map<String, Object> options = new HashMap<>();
+        options.put("name", "node at depth " + depth);
+        options.put("depth", depth);
+
+        if (depth < maxDepth) {
+            List<Object> children = new ArrayList<>();
+            for (int i = 0; i < childCount; i++) {
+                children.add(createNestedOptions(depth + 1, maxDepth, childCount));
+            }
+            options.put("children", children);
+        }
+
+        return options;
+    }
+
+}
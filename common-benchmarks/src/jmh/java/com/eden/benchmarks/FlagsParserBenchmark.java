@@ -0,0 +1,83 @@
+package com.eden.benchmarks;
+
+import com.eden.orchid.api.cli.FlagsParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures `FlagsParser.parseArgs` on long argument strings, mixing positional args, full flag names, aliases,
+ * `--flag=value` pairs, multi-valued flags, and quoted values with escaped quotes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlagsParserBenchmark {
+
+    @Param({"10", "100"})
+    public int flagCount;
+
+    private FlagsParser parser;
+    private String argString;
+    private String[] args;
+
+    @Setup
+    public void setup() {
+        FlagsParser.FlagsParserBuilder builder = FlagsParser.builder()
+                .validName("task")
+                .positionalNames(Collections.singletonList("task"));
+
+        StringBuilder sb = new StringBuilder("build ");
+        for (int i = 0; i < flagCount; i++) {
+            String name = "flag" + i;
+            builder.validName(name);
+            builder.validAlias("f" + i, name);
+
+            switch (i % 5) {
+                case 0:
+                    sb.append("--").append(name).append(' ');
+                    break;
+                case 1:
+                    sb.append("--").append(name).append("=value").append(i).append(' ');
+                    break;
+                case 2:
+                    sb.append("-f").append(i).append(" value").append(i).append(' ');
+                    break;
+                case 3:
+                    sb.append("--").append(name).append(" one two three ");
+                    break;
+                default:
+                    sb.append("--").append(name).append(" \"a quoted \\\"value\\\" ").append(i).append("\" ");
+                    break;
+            }
+        }
+
+        parser = builder.build();
+        argString = sb.toString().trim();
+
+        List<String> argsList = new ArrayList<>();
+        Collections.addAll(argsList, argString.split(" "));
+        args = argsList.toArray(new String[0]);
+    }
+
+    @Benchmark
+    public Object parseArgString() {
+        return parser.parseArgs(argString);
+    }
+
+    @Benchmark
+    public Object parseArgsArray() {
+        return parser.parseArgs(args);
+    }
+
+}
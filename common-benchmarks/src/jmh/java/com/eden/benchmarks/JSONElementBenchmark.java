@@ -0,0 +1,67 @@
+package com.eden.benchmarks;
+
+import com.eden.common.json.JSONElement;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures `JSONElement.query` for shallow and deep paths, paths through arrays, and paths which match nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JSONElementBenchmark {
+
+    private JSONElement element;
+
+    @Setup
+    public void setup() {
+        JSONObject root = new JSONObject();
+        JSONObject current = root;
+        for (int i = 0; i < 8; i++) {
+            JSONObject child = new JSONObject();
+            child.put("name", "level " + i);
+            current.put("level" + i, child);
+            current = child;
+        }
+
+        JSONArray items = new JSONArray();
+        for (int i = 0; i < 50; i++) {
+            items.put(new JSONObject().put("id", i).put("title", "item " + i));
+        }
+        root.put("items", items);
+        root.put("title", "root");
+
+        element = new JSONElement(root);
+    }
+
+    @Benchmark
+    public Object queryShallow() {
+        return element.query("title");
+    }
+
+    @Benchmark
+    public Object queryDeep() {
+        return element.query("level0.level1.level2.level3.level4.level5.level6.level7.name");
+    }
+
+    @Benchmark
+    public Object queryArray() {
+        return element.query("items.25.title");
+    }
+
+    @Benchmark
+    public Object queryMissing() {
+        return element.query("level0.level1.missing.name");
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.eden.benchmarks;
+
+import com.eden.common.json.JSONElement;
+import com.eden.common.json.JsonTree;
+import com.eden.common.json.LazyJsonDocument;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a large document and reading a single path out of it, with org.json, a `LazyJsonDocument`, and a
+ * `JsonTree` which has already been built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonDocumentBenchmark {
+
+    private String json;
+    private byte[] jsonBytes;
+    private JSONElement tree;
+
+    @Setup
+    public void setup() {
+        JSONArray items = new JSONArray();
+        for (int i = 0; i < 2000; i++) {
+            items.put(new JSONObject()
+                    .put("id", i)
+                    .put("title", "item " + i)
+                    .put("price", i * 1.25)
+                    .put("tags", new JSONArray().put("a").put("b").put("c")));
+        }
+        JSONObject root = new JSONObject().put("items", items).put("title", "root");
+
+        json = root.toString();
+        jsonBytes = json.getBytes(Charset.forName("UTF-8"));
+        tree = new JSONElement(JsonTree.of(root).getRoot());
+    }
+
+    @Benchmark
+    public Object orgJsonParseAndQuery() {
+        return new JSONElement(new JSONObject(json)).query("items.1000.title");
+    }
+
+    @Benchmark
+    public Object lazyParseAndQuery() {
+        return new JSONElement(LazyJsonDocument.parse(jsonBytes).getRoot()).query("items.1000.title");
+    }
+
+    @Benchmark
+    public Object jsonTreeQuery() {
+        return tree.query("items.1000.title");
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.eden.benchmarks;
+
+import com.eden.common.util.EdenUtils;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures `EdenUtils.merge` on two large nested maps which overlap on half their keys at every level, both as plain
+ * Maps and as JSONObjects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MergeBenchmark {
+
+    @Param({"10", "20"})
+    public int width;
+
+    @Param({"3"})
+    public int depth;
+
+    private Map<String, Object> first;
+    private Map<String, Object> second;
+
+    private JSONObject firstJson;
+    private JSONObject secondJson;
+
+    @Setup
+    public void setup() {
+        first = createNestedMap("", 0, 0);
+        second = createNestedMap("", width / 2, 0);
+
+        firstJson = new JSONObject(first);
+        secondJson = new JSONObject(second);
+    }
+
+    @Benchmark
+    public Object mergeMaps() {
+        return EdenUtils.merge(first, second);
+    }
+
+    @Benchmark
+    public Object mergeJsonObjects() {
+        return EdenUtils.merge(firstJson, secondJson);
+    }
+
+    /**
+     * Collections are left out of the values, so that only merging nested maps is measured.
+     */
+    private Map<String, Object> createNestedMap(String prefix, int offset, int level) {
+        Map<String, Object> map = new HashMap<>();
+
+        for (int i = offset; i < offset + width; i++) {
+            String key = prefix + "key" + i;
+            if (level < depth - 1) {
+                map.put(key, createNestedMap(key + ".", offset, level + 1));
+            }
+            else if (i % 2 == 0) {
+                map.put(key, "value " + i);
+            }
+            else {
+                map.put(key, i);
+            }
+        }
+
+        return map;
+    }
+
+}
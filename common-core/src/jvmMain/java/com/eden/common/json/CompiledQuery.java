@@ -0,0 +1,253 @@
+package com.eden.common.json;
+
+import com.eden.common.util.EdenUtils;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A query for {@link JSONElement#query(String)}, parsed once into its path segments so it can be evaluated any number
+ * of times. Queries use the same syntax as `JSONElement.query`: either a JSONPointer like `/a/b`, or a Javascript-like
+ * path like `a.b`, and match the same values.
+ *
+ * Evaluating a query walks the JSON tree directly, and a path which does not match anything simply returns null
+ * rather than throwing and catching an exception along the way. {@link #compile(String)} keeps the most recently used
+ * queries, so callers may compile the same query repeatedly without parsing it again each time.
+ *
+ * ```java
+ * CompiledQuery query = CompiledQuery.compile("site.title");
+ * JSONElement title = query.query(siteData);
+ * ```
+ *
+ * @since v3.1.0
+ */
+public final class CompiledQuery {
+
+    private static final int COMPILED_CACHE_SIZE = 256;
+
+    private static final Map<String, CompiledQuery> compiledCache = Collections.synchronizedMap(new LinkedHashMap<String, CompiledQuery>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledQuery> eldest) {
+            return size() > COMPILED_CACHE_SIZE;
+        }
+    });
+
+    private final String query;
+    private final String[] segments;
+
+    // the array index for each segment, or -1 if the segment cannot be used as an index
+    private final int[] indexes;
+
+    private CompiledQuery(String query) {
+        this.query = query;
+
+        if (EdenUtils.isEmpty(query)) {
+            this.segments = null;
+            this.indexes = null;
+            return;
+        }
+
+        // a leading '/' is optional, and '.' may be used in place of '/'
+        int start = (query.charAt(0) == '/' || query.charAt(0) == '.') ? 1 : 0;
+
+        List<String> parsedSegments = new ArrayList<>();
+        int segmentStart = start;
+        for (int i = start; i <= query.length(); i++) {
+            if (i == query.length() || query.charAt(i) == '/' || query.charAt(i) == '.') {
+                parsedSegments.add(unescape(query.substring(segmentStart, i)));
+                segmentStart = i + 1;
+            }
+        }
+
+        this.segments = parsedSegments.toArray(new String[0]);
+        this.indexes = new int[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            indexes[i] = parseIndex(segments[i]);
+        }
+    }
+
+    /**
+     * Get the compiled form of a query, parsing it only if it has not been used recently.
+     *
+     * @param query a JSONPointer or Javascript-like path
+     * @return the compiled query
+     */
+    public static CompiledQuery compile(String query) {
+        String key = (query != null) ? query : "";
+        CompiledQuery compiledQuery = compiledCache.get(key);
+        if (compiledQuery == null) {
+            compiledQuery = new CompiledQuery(key);
+            compiledCache.put(key, compiledQuery);
+        }
+        return compiledQuery;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+// Evaluate queries
+//----------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Evaluate this query against a JSONElement.
+     *
+     * @param element the element to query
+     * @return the item matched by this query, otherwise null
+     */
+    public JSONElement query(JSONElement element) {
+        return wrap(evaluate(element.getQueryRoot()));
+    }
+
+    /**
+     * Evaluate this query against a JSON value.
+     *
+     * @param root a JSONObject, JSONArray, or {@link JsonNode} to query
+     * @return the raw value matched by this query, otherwise null
+     */
+    public Object evaluate(Object root) {
+        if (segments == null || !isContainer(root)) {
+            return null;
+        }
+
+        Object current = root;
+        for (int i = 0; i < segments.length; i++) {
+            current = child(current, i);
+        }
+        return current;
+    }
+
+    /**
+     * Evaluate many queries against the same JSONElement, walking each part of the tree shared by several queries only
+     * once. For example, `site.title` and `site.description` look up `site` once between them.
+     *
+     * @param element the element to query
+     * @param queries the queries to evaluate
+     * @return the item matched by each query, in the same order as the queries, or null for those which match nothing
+     */
+    public static JSONElement[] queryAll(JSONElement element, CompiledQuery... queries) {
+        Object root = element.getQueryRoot();
+        Object[] values = new Object[queries.length];
+
+        List<Integer> walkedQueries = new ArrayList<>(queries.length);
+        for (int i = 0; i < queries.length; i++) {
+            if (queries[i].segments != null) {
+                walkedQueries.add(i);
+            }
+        }
+        if (isContainer(root)) {
+            evaluateAll(root, 0, queries, walkedQueries, values);
+        }
+
+        JSONElement[] results = new JSONElement[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            results[i] = wrap(values[i]);
+        }
+        return results;
+    }
+
+    private static void evaluateAll(Object node, int depth, CompiledQuery[] queries, List<Integer> queryIndexes, Object[] values) {
+        // group the queries which continue past this node by their next segment, so each child is looked up once
+        Map<String, List<Integer>> queriesBySegment = new LinkedHashMap<>();
+        for (int queryIndex : queryIndexes) {
+            CompiledQuery query = queries[queryIndex];
+            if (query.segments.length == depth) {
+                values[queryIndex] = node;
+            }
+            else {
+                List<Integer> group = queriesBySegment.get(query.segments[depth]);
+                if (group == null) {
+                    group = new ArrayList<>();
+                    queriesBySegment.put(query.segments[depth], group);
+                }
+                group.add(queryIndex);
+            }
+        }
+
+        for (List<Integer> group : queriesBySegment.values()) {
+            Object child = queries[group.get(0)].child(node, depth);
+            if (child != null) {
+                evaluateAll(child, depth + 1, queries, group, values);
+            }
+        }
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    private Object child(Object node, int segment) {
+        if (node instanceof JSONObject) {
+            return ((JSONObject) node).opt(segments[segment]);
+        }
+        else if (node instanceof JSONArray) {
+            int index = indexes[segment];
+            JSONArray array = (JSONArray) node;
+            return (index >= 0 && index < array.length()) ? array.opt(index) : null;
+        }
+        else if (node instanceof JsonNode) {
+            JsonNode jsonNode = (JsonNode) node;
+            return (jsonNode.isObject()) ? jsonNode.get(segments[segment]) : jsonNode.get(indexes[segment]);
+        }
+        else {
+            return null;
+        }
+    }
+
+    private static boolean isContainer(Object node) {
+        return node instanceof JSONObject || node instanceof JSONArray || node instanceof JsonNode;
+    }
+
+    private static JSONElement wrap(Object value) {
+        if (value instanceof JsonNode) {
+            // keep nested nodes as proxies, so they are only converted to org.json if their value is actually needed
+            return new JSONElement((Jsonable) value);
+        }
+        return (value != null && EdenUtils.isJsonAware(value)) ? new JSONElement(value) : null;
+    }
+
+    /**
+     * Unescape a segment the way JSONPointer does.
+     */
+    private static String unescape(String segment) {
+        if (segment.indexOf('~') == -1) {
+            return segment;
+        }
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * Parse a segment as an array index the way JSONPointer does, but without throwing for segments which aren't
+     * indexes.
+     */
+    private static int parseIndex(String segment) {
+        int length = segment.length();
+        if (length == 0) {
+            return -1;
+        }
+
+        int start = (segment.charAt(0) == '+' || segment.charAt(0) == '-') ? 1 : 0;
+        if (start == length) {
+            return -1;
+        }
+
+        long index = 0;
+        for (int i = start; i < length; i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+            if (index > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+
+        return (segment.charAt(0) == '-' && index != 0) ? -1 : (int) index;
+    }
+
+}
@@ -4,34 +4,69 @@ import com.eden.common.util.EdenUtils;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.util.Objects;
 
+/**
+ * A wrapper around any json-aware value. Elements created from a {@link Jsonable} or another JSONElement resolve that
+ * value lazily, the first time it is needed, and then keep it. Chains of proxies are flattened as they are resolved, so
+ * each Jsonable is only converted once, and later calls go straight to the resolved value.
+ *
+ * An element wrapping a {@link JsonNode} such as a {@link JsonTree} can be queried without converting the node to
+ * org.json; the node is only converted when {@link #getElement()} is called.
+ *
+ * JSONElements compare JSONObjects and JSONArrays by identity. Use {@link #freeze()} to get an immutable copy which
+ * compares them by their contents instead, for use as a key in Maps and caches.
+ */
 public final class JSONElement {
 
     private Jsonable jsonableProxy;
     private JSONElement jsonElementProxy;
 
-    private Object element;
-
-    public JSONElement(Object object)      { this.element          = validate(object); }
-    public JSONElement(Jsonable object)    { this.jsonableProxy    = validate(object); }
-    public JSONElement(JSONElement object) { this.jsonElementProxy = validate(object); }
-    public JSONElement(JSONObject object)  { this.element          = validate(object); }
-    public JSONElement(JSONArray object)   { this.element          = validate(object); }
-    public JSONElement(String object)      { this.element          = validate(object); }
-    public JSONElement(byte object)        { this.element          = validate(object); }
-    public JSONElement(short object)       { this.element          = validate(object); }
-    public JSONElement(int object)         { this.element          = validate(object); }
-    public JSONElement(long object)        { this.element          = validate(object); }
-    public JSONElement(float object)       { this.element          = validate(object); }
-    public JSONElement(double object)      { this.element          = validate(object); }
-    public JSONElement(boolean object)     { this.element          = validate(object); }
-
-    private <T> T validate(T object) {
+    private volatile Object element;
+
+    private final boolean frozen;
+    private final int frozenHash;
+
+    public JSONElement(Object object)      { this(valueOf(validate(object)), null, proxyOf(object)); }
+    public JSONElement(Jsonable object)    { this(null, validate(object), null); }
+    public JSONElement(JSONElement object) { this(null, null, validate(object)); }
+    public JSONElement(JSONObject object)  { this(validate(object), null, null); }
+    public JSONElement(JSONArray object)   { this(validate(object), null, null); }
+    public JSONElement(String object)      { this(validate(object), null, null); }
+    public JSONElement(byte object)        { this(validate(object), null, null); }
+    public JSONElement(short object)       { this(validate(object), null, null); }
+    public JSONElement(int object)         { this(validate(object), null, null); }
+    public JSONElement(long object)        { this(validate(object), null, null); }
+    public JSONElement(float object)       { this(validate(object), null, null); }
+    public JSONElement(double object)      { this(validate(object), null, null); }
+    public JSONElement(boolean object)     { this(validate(object), null, null); }
+
+    private JSONElement(Object element, Jsonable jsonableProxy, JSONElement jsonElementProxy) {
+        this.element = element;
+        this.jsonableProxy = jsonableProxy;
+        this.jsonElementProxy = jsonElementProxy;
+        this.frozen = false;
+        this.frozenHash = 0;
+    }
+
+    private JSONElement(Object frozenValue, int frozenHash) {
+        this.element = frozenValue;
+        this.frozen = true;
+        this.frozenHash = frozenHash;
+    }
+
+    private static <T> T validate(T object) {
         if(object == null) {
             throw new IllegalArgumentException("A JSONElement cannot be null");
         }
-        else if(!EdenUtils.isJsonAware(object)) {
+        else if(!(object instanceof JSONElement) && !EdenUtils.isJsonAware(object)) {
             throw new IllegalArgumentException("A JSONElement must be an object that is json-aware (JSONObject, JSONArray, JSONElement, Jsonable, String, or primitive)");
         }
         else {
@@ -39,13 +74,43 @@ public final class JSONElement {
         }
     }
 
+    // a JSONElement passed as an Object is proxied, just like one passed to the JSONElement constructor
+    private static Object valueOf(Object object) {
+        return (object instanceof JSONElement) ? null : object;
+    }
+
+    private static JSONElement proxyOf(Object object) {
+        return (object instanceof JSONElement) ? (JSONElement) object : null;
+    }
+
     private void proxy() {
         if(element == null) {
-            if(jsonableProxy != null) {
-                element = jsonableProxy.toJson();
+            Object proxy = (jsonableProxy != null) ? jsonableProxy : jsonElementProxy;
+            if(proxy != null) {
+                element = resolve(proxy);
+
+                // the proxies are no longer needed once resolved
+                jsonableProxy = null;
+                jsonElementProxy = null;
             }
-            else if(jsonElementProxy != null) {
-                element = jsonElementProxy.getElement();
+        }
+    }
+
+    /**
+     * Follow a chain of Jsonables and JSONElements down to the value at its end. Each JSONElement in the chain keeps its
+     * own resolved value, so a chain shared by several elements is only walked once.
+     */
+    private static Object resolve(Object proxy) {
+        Object value = proxy;
+        while (true) {
+            if (value instanceof JSONElement) {
+                value = ((JSONElement) value).getElement();
+            }
+            else if (value instanceof Jsonable) {
+                value = ((Jsonable) value).toJson();
+            }
+            else {
+                return value;
             }
         }
     }
@@ -56,12 +121,73 @@ public final class JSONElement {
         return element;
     }
 
+    /**
+     * The value queries should walk. An element which is still a proxy for a {@link JsonNode} is queried through the
+     * node itself, so only the parts of it which are matched need to be converted to org.json.
+     */
+    Object getQueryRoot() {
+        Object currentElement = element;
+        if (currentElement == null) {
+            Jsonable proxy = jsonableProxy;
+            if (proxy instanceof JsonNode) {
+                return proxy;
+            }
+        }
+        return getElement();
+    }
+
     @Override
     public String toString() {
         proxy();
         return element.toString();
     }
 
+// Streaming
+//----------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Write this element as JSON, token by token, rather than rendering it into a single String first. If this element
+     * is still a proxy for a {@link StreamingJsonable}, that Jsonable writes itself directly, without building its
+     * JSONElement. The Writer is flushed, but not closed.
+     *
+     * @param writer the Writer to write to
+     * @throws IOException if the Writer fails
+     */
+    public void writeTo(Writer writer) throws IOException {
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        writeTo(jsonWriter);
+        jsonWriter.flush();
+    }
+
+    /**
+     * Write this element as UTF-8 encoded JSON, through a buffer. The stream is flushed, but not closed.
+     *
+     * @param outputStream the stream to write to
+     * @throws IOException if the stream fails
+     * @see #writeTo(Writer)
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        writeTo(new BufferedWriter(new OutputStreamWriter(outputStream, Charset.forName("UTF-8"))));
+    }
+
+    /**
+     * Write this element as the next value of a JsonWriter.
+     *
+     * @param writer the JsonWriter to write to
+     * @throws IOException if the JsonWriter fails
+     * @see #writeTo(Writer)
+     */
+    public void writeTo(JsonWriter writer) throws IOException {
+        if (element == null) {
+            Object proxy = (jsonableProxy != null) ? jsonableProxy : jsonElementProxy;
+            if (proxy instanceof StreamingJsonable || proxy instanceof JSONElement) {
+                writer.value(proxy);
+                return;
+            }
+        }
+        writer.value(getElement());
+    }
+
     /**
      * Query the gathered site data using a javascript-like syntax, or the native JSONObject query syntax. For example,
      * given a JSONObject initialized with this document:
@@ -81,39 +207,166 @@ public final class JSONElement {
      * "a.b"
      * </pre>
      * Then this method will return the String "c".
-     * In the end, the Javascript syntax is converted to the corresponding JSONPointer syntax and queried.
+     * Both syntaxes match exactly what the corresponding JSONPointer would. Pointers are compiled once and kept in a
+     * cache, so querying the same pointer repeatedly does not parse it each time. See {@link CompiledQuery}.
      *
      * @param pointer  string that can be used to create a JSONPointer
      * @return  the item matched by the JSONPointer, otherwise null
      */
     public JSONElement query(String pointer) {
-        proxy();
+        return CompiledQuery.compile(pointer).query(this);
+    }
 
-        try {
-            if (!EdenUtils.isEmpty(pointer)) {
-                pointer = pointer.replaceAll("\\.", "/");
+    /**
+     * Query this element with a query which has already been compiled.
+     *
+     * @param query the compiled query
+     * @return  the item matched by the query, otherwise null
+     * @see #query(String)
+     */
+    public JSONElement query(CompiledQuery query) {
+        return query.query(this);
+    }
 
-                if (!pointer.startsWith("/")) {
-                    pointer = "/" + pointer;
-                }
+    /**
+     * Query this element with many pointers at once, using the same syntax as {@link #query(String)}. Parts of the
+     * tree shared by several pointers are only walked once.
+     *
+     * @param pointers strings that can be used to create a JSONPointer
+     * @return  the item matched by each pointer, in the same order as the pointers, or null for those which match nothing
+     */
+    public JSONElement[] queryAll(String... pointers) {
+        CompiledQuery[] queries = new CompiledQuery[pointers.length];
+        for (int i = 0; i < pointers.length; i++) {
+            queries[i] = CompiledQuery.compile(pointers[i]);
+        }
+        return CompiledQuery.queryAll(this, queries);
+    }
 
-                Object result = null;
+// Frozen elements
+//----------------------------------------------------------------------------------------------------------------------
 
-                if (element instanceof JSONObject) {
-                    result = ((JSONObject) element).query(pointer);
-                } else if (element instanceof JSONArray) {
-                    result = ((JSONArray) element).query(pointer);
-                }
+    /**
+     * Get an immutable copy of this element, which compares by its contents and caches its hash, so it can be used as a
+     * key in Maps and caches. The value is deeply copied when frozen, so later changes to this element's value do not
+     * affect the frozen copy, and the frozen copy's value must not be modified. Two frozen elements are equal if their
+     * values are, as by `JSONObject.similar()`. A frozen element is never equal to one that isn't frozen.
+     *
+     * @return a frozen copy of this element, or this element if it is already frozen
+     */
+    public JSONElement freeze() {
+        if (frozen) {
+            return this;
+        }
 
-                if (result != null) {
-                    return new JSONElement(result);
+        Object frozenValue = copyValue(getElement());
+        return new JSONElement(frozenValue, contentHash(frozenValue));
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject source = (JSONObject) value;
+            JSONObject copy = new JSONObject();
+            for (String key : source.keySet()) {
+                copy.put(key, copyValue(source.opt(key)));
+            }
+            return copy;
+        }
+        else if (value instanceof JSONArray) {
+            JSONArray source = (JSONArray) value;
+            JSONArray copy = new JSONArray();
+            for (int i = 0; i < source.length(); i++) {
+                copy.put(copyValue(source.opt(i)));
+            }
+            return copy;
+        }
+        else {
+            return value;
+        }
+    }
+
+    private static int contentHash(Object value) {
+        if (value instanceof JSONObject) {
+            // sum the entries, so the hash doesn't depend on iteration order
+            JSONObject object = (JSONObject) value;
+            int hash = 0;
+            for (String key : object.keySet()) {
+                hash += key.hashCode() ^ contentHash(object.opt(key));
+            }
+            return hash;
+        }
+        else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            int hash = 1;
+            for (int i = 0; i < array.length(); i++) {
+                hash = 31 * hash + contentHash(array.opt(i));
+            }
+            return hash;
+        }
+        else if (value instanceof Number) {
+            // numbers which are equal in value hash the same, whatever their type. Adding 0.0 turns -0.0 into 0.0
+            return Double.valueOf(((Number) value).doubleValue() + 0.0).hashCode();
+        }
+        else {
+            return Objects.hashCode(value);
+        }
+    }
+
+    private static boolean contentEquals(Object value, Object other) {
+        if (value instanceof JSONObject && other instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            JSONObject otherObject = (JSONObject) other;
+            if (object.length() != otherObject.length()) {
+                return false;
+            }
+            for (String key : object.keySet()) {
+                if (!otherObject.has(key) || !contentEquals(object.opt(key), otherObject.opt(key))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        else if (value instanceof JSONArray && other instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            JSONArray otherArray = (JSONArray) other;
+            if (array.length() != otherArray.length()) {
+                return false;
+            }
+            for (int i = 0; i < array.length(); i++) {
+                if (!contentEquals(array.opt(i), otherArray.opt(i))) {
+                    return false;
                 }
             }
-        } catch (Exception e) {
+            return true;
+        }
+        else if (value instanceof Number && other instanceof Number) {
+            return numbersEqual((Number) value, (Number) other);
+        }
+        else {
+            return Objects.equals(value, other);
+        }
+    }
 
+    private static boolean numbersEqual(Number value, Number other) {
+        if (isIntegral(value) && isIntegral(other)) {
+            return value.longValue() == other.longValue();
         }
 
-        return null;
+        try {
+            return new BigDecimal(value.toString()).compareTo(new BigDecimal(other.toString())) == 0;
+        }
+        catch (NumberFormatException e) {
+            // NaN and Infinity
+            return Double.compare(value.doubleValue(), other.doubleValue()) == 0;
+        }
+    }
+
+    private static boolean isIntegral(Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
     }
 
     @Override
@@ -121,12 +374,15 @@ public final class JSONElement {
         if (this == o) return true;
         if (!(o instanceof JSONElement)) return false;
         JSONElement that = (JSONElement) o;
+        if (frozen || that.frozen) {
+            return frozen && that.frozen && frozenHash == that.frozenHash && contentEquals(element, that.element);
+        }
         return Objects.equals(getElement(), that.getElement());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getElement());
+        return (frozen) ? frozenHash : Objects.hash(getElement());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.eden.common.json;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * A read-only JSON object or array which can be navigated and queried without first converting it to org.json. Child
+ * values are either another JsonNode, for nested objects and arrays, or a String, Number, Boolean, or
+ * `JSONObject.NULL`.
+ *
+ * JsonNodes are Jsonable, so they can be wrapped in a {@link JSONElement}. {@link JSONElement#query(String)} then walks
+ * the node directly, and only the values which are actually read out of the element are converted to org.json. Nodes
+ * are also written to a {@link JsonWriter} directly, without converting them.
+ *
+ * @since v3.1.0
+ */
+public abstract class JsonNode implements StreamingJsonable {
+
+    /**
+     * @return true if this is a JSON object, false if it is an array
+     */
+    public abstract boolean isObject();
+
+    public final boolean isArray() {
+        return !isObject();
+    }
+
+    /**
+     * @return the number of entries in this object, or items in this array
+     */
+    public abstract int size();
+
+    /**
+     * @return the keys of this object, or an empty Collection for an array
+     */
+    public abstract Collection<String> keys();
+
+    /**
+     * @param key the key to look up
+     * @return the value for the key in this object, or null if there is no such key or this is an array
+     */
+    public abstract Object get(String key);
+
+    /**
+     * @param index the index to look up
+     * @return the item at the index in this array, or null if the index is out of bounds or this is an object
+     */
+    public abstract Object get(int index);
+
+    /**
+     * Convert this node and everything in it to org.json.
+     *
+     * @return a JSONObject or JSONArray with the same contents as this node
+     */
+    public Object toJsonValue() {
+        if (isObject()) {
+            JSONObject object = new JSONObject();
+            for (String key : keys()) {
+                object.put(key, toJsonValue(get(key)));
+            }
+            return object;
+        }
+        else {
+            JSONArray array = new JSONArray();
+            for (int i = 0; i < size(); i++) {
+                array.put(toJsonValue(get(i)));
+            }
+            return array;
+        }
+    }
+
+    @Override
+    public void writeJson(JsonWriter writer) throws IOException {
+        if (isObject()) {
+            writer.beginObject();
+            for (String key : keys()) {
+                writer.name(key).value(get(key));
+            }
+            writer.endObject();
+        }
+        else {
+            writer.beginArray();
+            for (int i = 0; i < size(); i++) {
+                writer.value(get(i));
+            }
+            writer.endArray();
+        }
+    }
+
+    @Override
+    public JSONElement toJson() {
+        return new JSONElement(toJsonValue());
+    }
+
+    @Override
+    public String toString() {
+        return toJsonValue().toString();
+    }
+
+    private static Object toJsonValue(Object value) {
+        return (value instanceof JsonNode) ? ((JsonNode) value).toJsonValue() : value;
+    }
+
+}
@@ -0,0 +1,392 @@
+package com.eden.common.json;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, immutable copy of a JSON document, for large documents which are loaded once and then only read. Rather
+ * than a JSONObject or JSONArray for every container and a boxed value for every number, the whole tree is kept in a
+ * few flat arrays:
+ *
+ * - each node is a type tag and a single `long`, which holds numbers and booleans directly, or points into the
+ *   other arrays. This includes the BigDecimals org.json parses decimals into, which are stored as a `double` whenever
+ *   that gives back an equal BigDecimal
+ * - the children of each object or array are stored next to each other, so any array item is found in constant time,
+ *   and object keys are kept sorted so a key is found by binary search
+ * - each distinct String, whether a key or a value, is stored only once per tree
+ *
+ * Trees are converted from org.json with {@link #of(Object)}, and back again with {@link JsonNode#toJsonValue()}. The
+ * root of the tree is a {@link JsonNode}, so it can be wrapped in a {@link JSONElement} and queried like any other
+ * element, without converting it back to org.json.
+ *
+ * ```java
+ * JSONElement data = new JSONElement(JsonTree.parse(hugeJsonString).getRoot());
+ * JSONElement title = data.query("site.title");
+ * ```
+ *
+ * @since v3.1.0
+ */
+public final class JsonTree {
+
+    private static final byte OBJECT   = 0;
+    private static final byte ARRAY    = 1;
+    private static final byte NULL     = 2;
+    private static final byte TRUE     = 3;
+    private static final byte FALSE    = 4;
+    private static final byte INT      = 5;
+    private static final byte LONG     = 6;
+    private static final byte FLOAT    = 7;
+    private static final byte DOUBLE   = 8;
+    private static final byte CONSTANT = 9;
+    private static final byte DECIMAL  = 10;
+
+    // the type of each node
+    private final byte[] types;
+
+    // the value of each node: the number itself, the bits of a floating-point number, an index into `constants`, or for
+    // objects and arrays, the offset of their children in `children` in the high bits and their size in the low bits
+    private final long[] values;
+
+    // the children of every object and array. An array's entries are its child nodes. An object's entries are the index
+    // of each child's key in `constants`, followed by its child nodes in the same order
+    private final int[] children;
+
+    // Strings and any other values which cannot be stored as a primitive
+    private final Object[] constants;
+
+    private final JsonNode root;
+
+    private JsonTree(Builder builder) {
+        this.types = Arrays.copyOf(builder.types, builder.nodeCount);
+        this.values = Arrays.copyOf(builder.values, builder.nodeCount);
+        this.children = Arrays.copyOf(builder.children, builder.childCount);
+        this.constants = builder.constants.toArray();
+        this.root = new Node(0);
+    }
+
+    /**
+     * Copy an org.json value into a new tree.
+     *
+     * @param json a JSONObject, JSONArray, or a JSONElement or Jsonable holding one
+     * @return the compact tree
+     * @throws IllegalArgumentException if the value is not a JSON object or array
+     */
+    public static JsonTree of(Object json) {
+        Object value = resolve(json);
+        if (!(value instanceof JSONObject) && !(value instanceof JSONArray)) {
+            throw new IllegalArgumentException("A JsonTree must be built from a JSONObject or JSONArray");
+        }
+
+        Builder builder = new Builder();
+        builder.add(value);
+        return new JsonTree(builder);
+    }
+
+    /**
+     * Parse a JSON String into a new tree.
+     *
+     * @param json the JSON text of an object or array
+     * @return the compact tree
+     */
+    public static JsonTree parse(String json) {
+        return of(new JSONTokener(json).nextValue());
+    }
+
+    /**
+     * @return the root object or array of this tree
+     */
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the number of values in this tree, including every object and array
+     */
+    public int getNodeCount() {
+        return types.length;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonTree{" +
+                "nodeCount=" + types.length +
+                ", constantCount=" + constants.length +
+                '}';
+    }
+
+// Nodes
+//----------------------------------------------------------------------------------------------------------------------
+
+    private Object value(int node) {
+        switch (types[node]) {
+            case OBJECT:
+            case ARRAY:    return new Node(node);
+            case NULL:     return JSONObject.NULL;
+            case TRUE:     return Boolean.TRUE;
+            case FALSE:    return Boolean.FALSE;
+            case INT:      return (int) values[node];
+            case LONG:     return values[node];
+            case FLOAT:    return (float) Double.longBitsToDouble(values[node]);
+            case DOUBLE:   return Double.longBitsToDouble(values[node]);
+            case DECIMAL:  return BigDecimal.valueOf(Double.longBitsToDouble(values[node]));
+            default:       return constants[(int) values[node]];
+        }
+    }
+
+    private static int childOffset(long value) {
+        return (int) (value >>> 32);
+    }
+
+    private static int childCount(long value) {
+        return (int) value;
+    }
+
+    /**
+     * A view of one object or array in the tree. Nodes hold nothing but their position, so they are created as they are
+     * needed.
+     */
+    private final class Node extends JsonNode {
+        private final int node;
+
+        Node(int node) {
+            this.node = node;
+        }
+
+        @Override
+        public boolean isObject() {
+            return types[node] == OBJECT;
+        }
+
+        @Override
+        public int size() {
+            return childCount(values[node]);
+        }
+
+        @Override
+        public Collection<String> keys() {
+            if (!isObject()) {
+                return Collections.emptyList();
+            }
+            final int offset = childOffset(values[node]);
+            final int size = size();
+            return new AbstractList<String>() {
+                @Override
+                public String get(int index) {
+                    if (index < 0 || index >= size) {
+                        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                    }
+                    return (String) constants[children[offset + index]];
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        @Override
+        public Object get(String key) {
+            if (key == null || !isObject()) {
+                return null;
+            }
+
+            int offset = childOffset(values[node]);
+            int size = size();
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int comparison = ((String) constants[children[offset + mid]]).compareTo(key);
+                if (comparison < 0) {
+                    low = mid + 1;
+                }
+                else if (comparison > 0) {
+                    high = mid - 1;
+                }
+                else {
+                    return value(children[offset + size + mid]);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Object get(int index) {
+            if (isObject() || index < 0 || index >= size()) {
+                return null;
+            }
+            return value(children[childOffset(values[node]) + index]);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Node)) return false;
+            Node that = (Node) o;
+            return node == that.node && tree() == that.tree();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(tree()) + node;
+        }
+
+        private JsonTree tree() {
+            return JsonTree.this;
+        }
+    }
+
+// Building trees
+//----------------------------------------------------------------------------------------------------------------------
+
+    private static Object resolve(Object value) {
+        while (true) {
+            if (value instanceof JSONElement) {
+                value = ((JSONElement) value).getElement();
+            }
+            else if (value instanceof JsonNode) {
+                value = ((JsonNode) value).toJsonValue();
+            }
+            else if (value instanceof Jsonable) {
+                value = ((Jsonable) value).toJson();
+            }
+            else {
+                return value;
+            }
+        }
+    }
+
+    private static final class Builder {
+        private byte[] types = new byte[16];
+        private long[] values = new long[16];
+        private int nodeCount;
+
+        private int[] children = new int[16];
+        private int childCount;
+
+        private final List<Object> constants = new ArrayList<>();
+        private final Map<String, Integer> stringConstants = new HashMap<>();
+
+        private int add(Object jsonValue) {
+            Object value = resolve(jsonValue);
+            int node = nextNode();
+
+            if (value instanceof JSONObject) {
+                JSONObject object = (JSONObject) value;
+                List<String> sortedKeys = new ArrayList<>(object.keySet());
+                Collections.sort(sortedKeys);
+
+                int[] childNodes = new int[sortedKeys.size()];
+                int[] childKeys = new int[sortedKeys.size()];
+                for (int i = 0; i < childNodes.length; i++) {
+                    String key = sortedKeys.get(i);
+                    childKeys[i] = constant(key);
+                    childNodes[i] = add(object.opt(key));
+                }
+                set(node, OBJECT, container(childNodes, childKeys));
+            }
+            else if (value instanceof JSONArray) {
+                JSONArray array = (JSONArray) value;
+                int[] childNodes = new int[array.length()];
+                for (int i = 0; i < childNodes.length; i++) {
+                    childNodes[i] = add(array.opt(i));
+                }
+                set(node, ARRAY, container(childNodes, null));
+            }
+            else if (value == null || JSONObject.NULL.equals(value)) {
+                set(node, NULL, 0);
+            }
+            else if (value instanceof Boolean) {
+                set(node, ((Boolean) value) ? TRUE : FALSE, 0);
+            }
+            else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                set(node, INT, ((Number) value).intValue());
+            }
+            else if (value instanceof Long) {
+                set(node, LONG, (Long) value);
+            }
+            else if (value instanceof Float) {
+                set(node, FLOAT, Double.doubleToRawLongBits((Float) value));
+            }
+            else if (value instanceof Double) {
+                set(node, DOUBLE, Double.doubleToRawLongBits((Double) value));
+            }
+            else if (value instanceof BigDecimal && isDouble((BigDecimal) value)) {
+                set(node, DECIMAL, Double.doubleToRawLongBits(((BigDecimal) value).doubleValue()));
+            }
+            else {
+                // Strings, and numbers which cannot be stored in a primitive without losing precision or scale
+                set(node, CONSTANT, constant(value));
+            }
+
+            return node;
+        }
+
+        /**
+         * @return true if the decimal is read back unchanged from its `double` value, including its scale, so `2.5` is
+         * stored as a double but `2.50` and decimals with more digits than a double holds are not
+         */
+        private static boolean isDouble(BigDecimal value) {
+            double doubleValue = value.doubleValue();
+            return !Double.isInfinite(doubleValue) && BigDecimal.valueOf(doubleValue).equals(value);
+        }
+
+        private int nextNode() {
+            if (nodeCount == types.length) {
+                types = Arrays.copyOf(types, nodeCount * 2);
+                values = Arrays.copyOf(values, nodeCount * 2);
+            }
+            return nodeCount++;
+        }
+
+        private void set(int node, byte type, long value) {
+            types[node] = type;
+            values[node] = value;
+        }
+
+        private long container(int[] childNodes, int[] childKeys) {
+            int offset = childCount;
+            int keyCount = (childKeys != null) ? childKeys.length : 0;
+            int required = childCount + keyCount + childNodes.length;
+            if (required > children.length) {
+                children = Arrays.copyOf(children, Math.max(required, children.length * 2));
+            }
+
+            if (childKeys != null) {
+                System.arraycopy(childKeys, 0, children, offset, keyCount);
+            }
+            System.arraycopy(childNodes, 0, children, offset + keyCount, childNodes.length);
+            childCount = required;
+
+            return ((long) offset << 32) | childNodes.length;
+        }
+
+        private int constant(Object value) {
+            if (value instanceof String) {
+                Integer index = stringConstants.get(value);
+                if (index == null) {
+                    index = constants.size();
+                    constants.add(value);
+                    stringConstants.put((String) value, index);
+                }
+                return index;
+            }
+
+            constants.add(value);
+            return constants.size() - 1;
+        }
+    }
+
+}
@@ -0,0 +1,281 @@
+package com.eden.common.json;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Writes JSON to a Writer one token at a time, so large documents can be written without building them in memory first.
+ * Output is compact, and matches what `JSONObject.toString()` would produce for the same values.
+ *
+ * ```java
+ * JsonWriter writer = new JsonWriter(out);
+ * writer.beginObject()
+ *       .name("title").value("Home")
+ *       .name("pages").beginArray();
+ * for (Page page : pages) {
+ *     writer.value(page);
+ * }
+ * writer.endArray()
+ *       .endObject()
+ *       .flush();
+ * ```
+ *
+ * Any json-aware value may be written with {@link #value(Object)}, including JSONObjects, JSONArrays, JSONElements and
+ * Jsonables. A {@link StreamingJsonable} writes itself to this writer, and a {@link JsonNode} is written without
+ * converting it to org.json. JsonWriters are not thread-safe.
+ *
+ * @since v3.1.0
+ */
+public final class JsonWriter implements Closeable, Flushable {
+
+    private static final int EMPTY_OBJECT    = 0;
+    private static final int NONEMPTY_OBJECT = 1;
+    private static final int DANGLING_NAME   = 2;
+    private static final int EMPTY_ARRAY     = 3;
+    private static final int NONEMPTY_ARRAY  = 4;
+
+    private final Writer writer;
+
+    // the state of each object and array which is currently open
+    private int[] stack = new int[16];
+    private int depth;
+    private boolean complete;
+
+    public JsonWriter(Writer writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("A JsonWriter's Writer cannot be null");
+        }
+        this.writer = writer;
+    }
+
+    public Writer getWriter() {
+        return writer;
+    }
+
+// Structure
+//----------------------------------------------------------------------------------------------------------------------
+
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        writer.write('{');
+        return this;
+    }
+
+    public JsonWriter endObject() throws IOException {
+        int state = peek();
+        if (state != EMPTY_OBJECT && state != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("Cannot end an object here");
+        }
+        depth--;
+        writer.write('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        writer.write('[');
+        return this;
+    }
+
+    public JsonWriter endArray() throws IOException {
+        int state = peek();
+        if (state != EMPTY_ARRAY && state != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("Cannot end an array here");
+        }
+        depth--;
+        writer.write(']');
+        return this;
+    }
+
+    public JsonWriter name(String name) throws IOException {
+        if (name == null) {
+            throw new IllegalArgumentException("A JSON object's keys cannot be null");
+        }
+
+        int state = peek();
+        if (state == NONEMPTY_OBJECT) {
+            writer.write(',');
+        }
+        else if (state != EMPTY_OBJECT) {
+            throw new IllegalStateException("A name can only be written inside an object, before its value");
+        }
+        stack[depth - 1] = DANGLING_NAME;
+
+        JSONObject.quote(name, writer);
+        writer.write(':');
+        return this;
+    }
+
+// Values
+//----------------------------------------------------------------------------------------------------------------------
+
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        JSONObject.quote(value, writer);
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        writer.write(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        writer.write(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(double value) throws IOException {
+        return value((Number) value);
+    }
+
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        // check the number before writing anything, since NaN and Infinity are not valid JSON
+        String number = JSONObject.numberToString(value);
+        beforeValue();
+        writer.write(number);
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        writer.write("null");
+        return this;
+    }
+
+    /**
+     * Write any json-aware value, along with everything inside it.
+     *
+     * @param value a JSONObject, JSONArray, JSONElement, Jsonable, String, Number, Boolean, or null
+     * @return this writer
+     * @throws IOException if the underlying Writer fails
+     */
+    public JsonWriter value(Object value) throws IOException {
+        if (value == null || JSONObject.NULL.equals(value)) {
+            return nullValue();
+        }
+        else if (value instanceof String) {
+            return value((String) value);
+        }
+        else if (value instanceof Number) {
+            return value((Number) value);
+        }
+        else if (value instanceof Boolean) {
+            return value(((Boolean) value).booleanValue());
+        }
+        else if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            beginObject();
+            for (String key : object.keySet()) {
+                name(key).value(object.opt(key));
+            }
+            return endObject();
+        }
+        else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            beginArray();
+            for (int i = 0; i < array.length(); i++) {
+                value(array.opt(i));
+            }
+            return endArray();
+        }
+        else if (value instanceof JSONElement) {
+            ((JSONElement) value).writeTo(this);
+            return this;
+        }
+        else if (value instanceof StreamingJsonable) {
+            ((StreamingJsonable) value).writeJson(this);
+            return this;
+        }
+        else if (value instanceof Jsonable) {
+            return value(((Jsonable) value).toJson());
+        }
+        else {
+            // anything else is written the same way org.json would write it
+            beforeValue();
+            writer.write(JSONObject.valueToString(value));
+            return this;
+        }
+    }
+
+// Output
+//----------------------------------------------------------------------------------------------------------------------
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Close the underlying Writer. The Writer is always closed, even when the document is incomplete, so that a writer
+     * used in a try-with-resources block is not leaked when writing fails partway through.
+     *
+     * @throws IOException if the underlying Writer fails
+     * @throws IllegalStateException if an object or array is still open. The underlying Writer has been closed already.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+        if (depth > 0) {
+            throw new IllegalStateException("Incomplete JSON document: " + depth + " objects or arrays were not ended");
+        }
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    private void beforeValue() throws IOException {
+        if (depth == 0) {
+            if (complete) {
+                throw new IllegalStateException("A JSON document can only have one top-level value");
+            }
+            complete = true;
+            return;
+        }
+
+        switch (stack[depth - 1]) {
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                writer.write(',');
+                break;
+            case DANGLING_NAME:
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                break;
+            default:
+                throw new IllegalStateException("A value inside an object must follow its name");
+        }
+    }
+
+    private void push(int state) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = state;
+    }
+
+    private int peek() {
+        if (depth == 0) {
+            throw new IllegalStateException("No object or array is open");
+        }
+        return stack[depth - 1];
+    }
+
+}
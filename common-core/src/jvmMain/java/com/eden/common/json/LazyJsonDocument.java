@@ -0,0 +1,637 @@
+package com.eden.common.json;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A JSON document which is parsed lazily, straight from its raw UTF-8 bytes. Opening a document makes a single pass
+ * over the bytes to index its structure into a "tape": the position of every value, and for each object and array, where
+ * it ends, so a whole sub-tree can be stepped over at once. No Strings, numbers, JSONObjects or JSONArrays are created
+ * until a value is actually read, so a large document which is only queried for a few paths never has most of it
+ * converted at all.
+ *
+ * The root of the document is a {@link JsonNode}, so it can be wrapped in a {@link JSONElement} and queried as usual.
+ * Queried objects and arrays stay lazy until their value is needed, and only that sub-tree is then converted to org.json.
+ *
+ * ```java
+ * JSONElement data = new JSONElement(LazyJsonDocument.parse(bytes).getRoot());
+ * JSONElement title = data.query("site.title");
+ * ```
+ *
+ * Unlike `JSONTokener`, documents must be strict JSON: keys and Strings must be double-quoted, and comments are not
+ * allowed. Syntax errors are found when the document is indexed, and are thrown as a `JSONException`. Documents are
+ * immutable and may be shared between threads, as long as their bytes are not modified.
+ *
+ * @since v3.1.0
+ */
+public final class LazyJsonDocument {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final byte OBJECT         = 0;
+    private static final byte ARRAY          = 1;
+    private static final byte KEY            = 2;
+    private static final byte ESCAPED_KEY    = 3;
+    private static final byte STRING         = 4;
+    private static final byte ESCAPED_STRING = 5;
+    private static final byte NUMBER         = 6;
+    private static final byte TRUE           = 7;
+    private static final byte FALSE          = 8;
+    private static final byte NULL           = 9;
+
+    private final ByteBuffer bytes;
+
+    // the tape: for each entry, its type, the position of its first byte, the entry following it and everything inside
+    // it, and its length, which is the byte length of Strings and numbers, or the number of children of objects and arrays
+    private final byte[] types;
+    private final int[] offsets;
+    private final int[] nexts;
+    private final int[] lengths;
+
+    private final JsonNode root;
+
+    // checks that the bytes can still be read before each read, or null if they always can
+    private final BytesGuard guard;
+
+    private LazyJsonDocument(ByteBuffer bytes, Indexer indexer, BytesGuard guard) {
+        this.bytes = bytes;
+        this.guard = guard;
+        this.types = Arrays.copyOf(indexer.types, indexer.count);
+        this.offsets = Arrays.copyOf(indexer.offsets, indexer.count);
+        this.nexts = Arrays.copyOf(indexer.nexts, indexer.count);
+        this.lengths = Arrays.copyOf(indexer.lengths, indexer.count);
+        this.root = new Node(0);
+    }
+
+    /**
+     * Index a JSON String.
+     *
+     * @param json the JSON text of an object or array
+     * @return the lazy document
+     * @throws JSONException if the JSON is not valid
+     */
+    public static LazyJsonDocument parse(String json) {
+        return parse(json.getBytes(UTF_8));
+    }
+
+    /**
+     * Index UTF-8 encoded JSON.
+     *
+     * @param json the UTF-8 bytes of a JSON object or array. The array is used directly, and must not be modified afterward
+     * @return the lazy document
+     * @throws JSONException if the JSON is not valid
+     */
+    public static LazyJsonDocument parse(byte[] json) {
+        return parse(ByteBuffer.wrap(json));
+    }
+
+    /**
+     * Index UTF-8 encoded JSON, from the remaining bytes of a buffer. The buffer's position and limit are not changed,
+     * and its bytes are read as they are needed, so they must not be modified afterward.
+     *
+     * @param json a buffer with the UTF-8 bytes of a JSON object or array
+     * @return the lazy document
+     * @throws JSONException if the JSON is not valid
+     */
+    public static LazyJsonDocument parse(ByteBuffer json) {
+        return parse(json, null);
+    }
+
+    /**
+     * Index UTF-8 encoded JSON from a buffer whose bytes may become unreadable, such as a mapped file which could be
+     * truncated. The guard is called before the bytes are read by each operation on a node, so such a document fails
+     * with an `UncheckedIOException` instead of faulting.
+     */
+    static LazyJsonDocument parse(ByteBuffer json, BytesGuard guard) {
+        ByteBuffer bytes = json.slice();
+        Indexer indexer = new Indexer(bytes);
+        indexer.index();
+        return new LazyJsonDocument(bytes, indexer, guard);
+    }
+
+    /**
+     * @return the root object or array of this document
+     */
+    public JsonNode getRoot() {
+        return root;
+    }
+
+    /**
+     * @return the number of entries in this document's tape, which is the number of values and object keys in it
+     */
+    public int getTapeLength() {
+        return types.length;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyJsonDocument{" +
+                "byteLength=" + bytes.limit() +
+                ", tapeLength=" + types.length +
+                '}';
+    }
+
+// Nodes
+//----------------------------------------------------------------------------------------------------------------------
+
+    private void checkReadable() {
+        if (guard != null) {
+            try {
+                guard.checkReadable();
+            }
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Object value(int entry) {
+        switch (types[entry]) {
+            case OBJECT:
+            case ARRAY:  return new Node(entry);
+            case NUMBER: return JSONObject.stringToValue(new String(copyBytes(entry), UTF_8));
+            case TRUE:   return Boolean.TRUE;
+            case FALSE:  return Boolean.FALSE;
+            case NULL:   return JSONObject.NULL;
+            default:     return string(entry);
+        }
+    }
+
+    private String string(int entry) {
+        String raw = new String(copyBytes(entry), UTF_8);
+        return (types[entry] == ESCAPED_KEY || types[entry] == ESCAPED_STRING) ? unescape(raw) : raw;
+    }
+
+    private byte[] copyBytes(int entry) {
+        byte[] copy = new byte[lengths[entry]];
+        ByteBuffer source = bytes.duplicate();
+        source.position(offsets[entry]);
+        source.get(copy);
+        return copy;
+    }
+
+    private boolean keyEquals(int entry, String key, byte[] keyBytes) {
+        if (types[entry] == ESCAPED_KEY) {
+            return string(entry).equals(key);
+        }
+        if (lengths[entry] != keyBytes.length) {
+            return false;
+        }
+        int offset = offsets[entry];
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (bytes.get(offset + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A view of one object or array in the document. Objects are stored on the tape as alternating keys and values, and
+     * children are found by stepping from one to the next, skipping over everything inside them.
+     */
+    private final class Node extends JsonNode {
+        private final int entry;
+
+        Node(int entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public boolean isObject() {
+            return types[entry] == OBJECT;
+        }
+
+        @Override
+        public int size() {
+            return lengths[entry];
+        }
+
+        @Override
+        public Collection<String> keys() {
+            checkReadable();
+            List<String> keys = new ArrayList<>();
+            if (isObject()) {
+                int child = entry + 1;
+                for (int i = 0; i < size(); i++) {
+                    keys.add(string(child));
+                    child = nexts[child + 1];
+                }
+            }
+            return keys;
+        }
+
+        @Override
+        public Object get(String key) {
+            if (key == null || !isObject()) {
+                return null;
+            }
+            checkReadable();
+
+            byte[] keyBytes = key.getBytes(UTF_8);
+            int child = entry + 1;
+            for (int i = 0; i < size(); i++) {
+                if (keyEquals(child, key, keyBytes)) {
+                    return value(child + 1);
+                }
+                child = nexts[child + 1];
+            }
+            return null;
+        }
+
+        @Override
+        public Object get(int index) {
+            if (isObject() || index < 0 || index >= size()) {
+                return null;
+            }
+            checkReadable();
+
+            int child = entry + 1;
+            for (int i = 0; i < index; i++) {
+                child = nexts[child];
+            }
+            return value(child);
+        }
+
+        @Override
+        public Object toJsonValue() {
+            checkReadable();
+            return convert();
+        }
+
+        @Override
+        public void writeJson(JsonWriter writer) throws IOException {
+            checkReadable();
+            write(writer);
+        }
+
+        private Object convert() {
+            // walk the children in order, rather than looking each one up from the start
+            int child = entry + 1;
+            if (isObject()) {
+                JSONObject object = new JSONObject();
+                for (int i = 0; i < size(); i++) {
+                    object.put(string(child), toJsonValue(value(child + 1)));
+                    child = nexts[child + 1];
+                }
+                return object;
+            }
+            else {
+                JSONArray array = new JSONArray();
+                for (int i = 0; i < size(); i++) {
+                    array.put(toJsonValue(value(child)));
+                    child = nexts[child];
+                }
+                return array;
+            }
+        }
+
+        private void write(JsonWriter writer) throws IOException {
+            int child = entry + 1;
+            if (isObject()) {
+                writer.beginObject();
+                for (int i = 0; i < size(); i++) {
+                    writer.name(string(child));
+                    write(writer, value(child + 1));
+                    child = nexts[child + 1];
+                }
+                writer.endObject();
+            }
+            else {
+                writer.beginArray();
+                for (int i = 0; i < size(); i++) {
+                    write(writer, value(child));
+                    child = nexts[child];
+                }
+                writer.endArray();
+            }
+        }
+
+        // nested nodes are converted and written directly, since the bytes were checked once for the whole sub-tree
+
+        private Object toJsonValue(Object value) {
+            return (value instanceof Node) ? ((Node) value).convert() : value;
+        }
+
+        private void write(JsonWriter writer, Object value) throws IOException {
+            if (value instanceof Node) {
+                ((Node) value).write(writer);
+            }
+            else {
+                writer.value(value);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Node)) return false;
+            Node that = (Node) o;
+            return entry == that.entry && document() == that.document();
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(document()) + entry;
+        }
+
+        private LazyJsonDocument document() {
+            return LazyJsonDocument.this;
+        }
+    }
+
+    interface BytesGuard {
+        void checkReadable() throws IOException;
+    }
+
+// Indexing
+//----------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Builds the tape in a single pass over the bytes, checking the syntax as it goes but not decoding any values.
+     */
+    private static final class Indexer {
+        private final ByteBuffer bytes;
+        private final int limit;
+        private int position;
+
+        private byte[] types = new byte[64];
+        private int[] offsets = new int[64];
+        private int[] nexts = new int[64];
+        private int[] lengths = new int[64];
+        private int count;
+
+        Indexer(ByteBuffer bytes) {
+            this.bytes = bytes;
+            this.limit = bytes.limit();
+        }
+
+        void index() {
+            // skip a byte order mark
+            if (limit >= 3 && bytes.get(0) == (byte) 0xEF && bytes.get(1) == (byte) 0xBB && bytes.get(2) == (byte) 0xBF) {
+                position = 3;
+            }
+
+            skipWhitespace();
+            if (position < limit && bytes.get(position) != '{' && bytes.get(position) != '[') {
+                throw error("A LazyJsonDocument must be a JSON object or array");
+            }
+            indexValue();
+
+            skipWhitespace();
+            if (position < limit) {
+                throw error("Unexpected content after the end of the document");
+            }
+        }
+
+        private void indexValue() {
+            skipWhitespace();
+            switch (peek()) {
+                case '{': indexObject(); break;
+                case '[': indexArray(); break;
+                case '"': indexString(STRING); break;
+                case 't': indexLiteral("true", TRUE); break;
+                case 'f': indexLiteral("false", FALSE); break;
+                case 'n': indexLiteral("null", NULL); break;
+                default:  indexNumber(); break;
+            }
+        }
+
+        private void indexObject() {
+            int entry = add(OBJECT, position, 0);
+            position++;
+
+            int size = 0;
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+            }
+            else {
+                while (true) {
+                    skipWhitespace();
+                    if (peek() != '"') {
+                        throw error("Expected a double-quoted key");
+                    }
+                    indexString(KEY);
+                    skipWhitespace();
+                    if (next() != ':') {
+                        throw error("Expected ':' after a key");
+                    }
+                    indexValue();
+                    size++;
+
+                    skipWhitespace();
+                    byte c = next();
+                    if (c == '}') {
+                        break;
+                    }
+                    else if (c != ',') {
+                        throw error("Expected ',' or '}'");
+                    }
+                }
+            }
+
+            lengths[entry] = size;
+            nexts[entry] = count;
+        }
+
+        private void indexArray() {
+            int entry = add(ARRAY, position, 0);
+            position++;
+
+            int size = 0;
+            skipWhitespace();
+            if (peek() == ']') {
+                position++;
+            }
+            else {
+                while (true) {
+                    indexValue();
+                    size++;
+
+                    skipWhitespace();
+                    byte c = next();
+                    if (c == ']') {
+                        break;
+                    }
+                    else if (c != ',') {
+                        throw error("Expected ',' or ']'");
+                    }
+                }
+            }
+
+            lengths[entry] = size;
+            nexts[entry] = count;
+        }
+
+        private void indexString(byte type) {
+            int start = ++position;
+            boolean escaped = false;
+            while (true) {
+                byte c = next();
+                if (c == '"') {
+                    break;
+                }
+                else if (c == '\\') {
+                    escaped = true;
+                    indexEscape();
+                }
+                else if (c >= 0 && c < 0x20) {
+                    throw error("Unescaped control character in a String");
+                }
+            }
+
+            if (escaped) {
+                type = (type == KEY) ? ESCAPED_KEY : ESCAPED_STRING;
+            }
+            add(type, start, position - start - 1);
+        }
+
+        private void indexEscape() {
+            byte c = next();
+            if (c == 'u') {
+                for (int i = 0; i < 4; i++) {
+                    if (Character.digit((char) next(), 16) == -1) {
+                        throw error("Illegal unicode escape");
+                    }
+                }
+            }
+            else if ("btnfr\"\\/".indexOf(c) == -1) {
+                throw error("Illegal escape");
+            }
+        }
+
+        private void indexLiteral(String literal, byte type) {
+            int start = position;
+            for (int i = 0; i < literal.length(); i++) {
+                if (next() != literal.charAt(i)) {
+                    position = start;
+                    throw error("Unexpected value");
+                }
+            }
+            add(type, start, literal.length());
+        }
+
+        private void indexNumber() {
+            int start = position;
+            if (position < limit && bytes.get(position) == '-') {
+                position++;
+            }
+            int integerStart = position;
+            int integerDigits = digits();
+            if (integerDigits == 0) {
+                position = start;
+                throw error("Unexpected value");
+            }
+            if (integerDigits > 1 && bytes.get(integerStart) == '0') {
+                throw error("Numbers cannot have leading zeros");
+            }
+            if (position < limit && bytes.get(position) == '.') {
+                position++;
+                if (digits() == 0) {
+                    throw error("Expected a digit");
+                }
+            }
+            if (position < limit && (bytes.get(position) == 'e' || bytes.get(position) == 'E')) {
+                position++;
+                if (position < limit && (bytes.get(position) == '+' || bytes.get(position) == '-')) {
+                    position++;
+                }
+                if (digits() == 0) {
+                    throw error("Expected a digit");
+                }
+            }
+            add(NUMBER, start, position - start);
+        }
+
+        private int digits() {
+            int start = position;
+            while (position < limit && bytes.get(position) >= '0' && bytes.get(position) <= '9') {
+                position++;
+            }
+            return position - start;
+        }
+
+        private void skipWhitespace() {
+            while (position < limit) {
+                byte c = bytes.get(position);
+                if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        private byte peek() {
+            if (position >= limit) {
+                throw error("Unexpected end of JSON");
+            }
+            return bytes.get(position);
+        }
+
+        private byte next() {
+            byte c = peek();
+            position++;
+            return c;
+        }
+
+        private int add(byte type, int offset, int length) {
+            if (count == types.length) {
+                int capacity = count * 2;
+                types = Arrays.copyOf(types, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                nexts = Arrays.copyOf(nexts, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+            types[count] = type;
+            offsets[count] = offset;
+            nexts[count] = count + 1;
+            lengths[count] = length;
+            return count++;
+        }
+
+        private JSONException error(String message) {
+            return new JSONException(message + " at byte " + position);
+        }
+    }
+
+    private static String unescape(String raw) {
+        StringBuilder builder = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+
+            char escape = raw.charAt(++i);
+            switch (escape) {
+                case 'b': builder.append('\b'); break;
+                case 't': builder.append('\t'); break;
+                case 'n': builder.append('\n'); break;
+                case 'f': builder.append('\f'); break;
+                case 'r': builder.append('\r'); break;
+                case '"':
+                case '\\':
+                case '/': builder.append(escape); break;
+                default:
+                    // escapes were checked when the document was indexed, so this can only be a unicode escape
+                    builder.append((char) Integer.parseInt(raw.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+            }
+        }
+        return builder.toString();
+    }
+
+}
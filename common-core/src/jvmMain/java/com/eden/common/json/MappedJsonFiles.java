@@ -0,0 +1,250 @@
+package com.eden.common.json;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens JSON files by memory-mapping them, and parses them lazily straight from the mapped bytes with a
+ * {@link LazyJsonDocument}. The file is never read onto the heap as a String, and only the parts of it which are queried
+ * are ever decoded, so very large data files can be opened cheaply.
+ *
+ * Opened documents are cached by their canonical path, so opening the same file again shares both its mapping and its
+ * structural index. A cached document is reused only as long as the file's size, modification time and file key (its
+ * inode, where the platform has one) are unchanged; otherwise the file is mapped and indexed again. Checking these only
+ * costs a single stat of the file, so reopening even a very large file is cheap. A file which is rewritten in place
+ * without changing any of them, such as within the resolution of the file system's timestamps, is not noticed, so
+ * callers which rewrite files should {@link #evict(File)} them or open them with `cache` set to false.
+ *
+ * ```java
+ * JSONElement data = MappedJsonFiles.open(new File("data/large.json"));
+ * JSONElement title = data.query("site.title");
+ * ```
+ *
+ * Files must not be modified while they are open, since their contents are read through the mapping as they are
+ * needed. If a file is truncated while it is open, reading from its document throws an `UncheckedIOException` wrapping
+ * an IOException. To keep lookups cheap, a document checks its file's size at most once every 100 milliseconds rather
+ * than before each read, so reads made within that time of a truncation may still fault, which the JVM reports as an
+ * InternalError. Files must be UTF-8 encoded and smaller than 2GB.
+ *
+ * A mapping is only released once its document is garbage collected, and on Windows a mapped file cannot be replaced
+ * or deleted until then. Files which are being watched for changes, such as in watch mode, should be opened with
+ * `cache` set to false, so that their mappings are not kept alive by the cache.
+ *
+ * @since v3.1.0
+ */
+public final class MappedJsonFiles {
+
+    private static final int DOCUMENT_CACHE_SIZE = 16;
+    private static final long TRUNCATION_CHECK_INTERVAL_MILLIS = 100;
+
+    private static final Map<String, CachedDocument> documentCache = Collections.synchronizedMap(new LinkedHashMap<String, CachedDocument>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedDocument> eldest) {
+            return size() > DOCUMENT_CACHE_SIZE;
+        }
+    });
+
+    private MappedJsonFiles() {
+
+    }
+
+    /**
+     * Open a JSON file as a JSONElement, which is parsed lazily from the mapped file as it is queried.
+     *
+     * @param file a UTF-8 encoded JSON file, holding an object or array
+     * @return the element for the root of the file
+     * @throws IOException if the file cannot be read
+     * @throws org.json.JSONException if the file is not valid JSON
+     */
+    public static JSONElement open(File file) throws IOException {
+        return open(file, true);
+    }
+
+    /**
+     * Open a JSON file as a JSONElement, which is parsed lazily from the mapped file as it is queried.
+     *
+     * @param file a UTF-8 encoded JSON file, holding an object or array
+     * @param cache false to neither reuse a cached document nor cache this one, such as for files which are being watched
+     * @return the element for the root of the file
+     * @throws IOException if the file cannot be read
+     * @throws org.json.JSONException if the file is not valid JSON
+     */
+    public static JSONElement open(File file, boolean cache) throws IOException {
+        return new JSONElement(openDocument(file, cache).getRoot());
+    }
+
+    /**
+     * Open a JSON file as a LazyJsonDocument, reusing the document from an earlier open of the same file if the file has
+     * not changed since.
+     *
+     * @param file a UTF-8 encoded JSON file, holding an object or array
+     * @return the lazy document for the file
+     * @throws IOException if the file cannot be read
+     * @throws org.json.JSONException if the file is not valid JSON
+     */
+    public static LazyJsonDocument openDocument(File file) throws IOException {
+        return openDocument(file, true);
+    }
+
+    /**
+     * Open a JSON file as a LazyJsonDocument.
+     *
+     * @param file a UTF-8 encoded JSON file, holding an object or array
+     * @param cache true to reuse the document from an earlier open of the same file if the file has not changed since,
+     *              and to cache this one. False to always map the file again, and to drop any cached document for it.
+     * @return the lazy document for the file
+     * @throws IOException if the file cannot be read
+     * @throws org.json.JSONException if the file is not valid JSON
+     */
+    public static LazyJsonDocument openDocument(File file, boolean cache) throws IOException {
+        String path = file.getCanonicalPath();
+        BasicFileAttributes attributes = readAttributes(file);
+        if (!cache) {
+            documentCache.remove(path);
+            return parse(file, map(file), attributes.fileKey());
+        }
+
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Object fileKey = attributes.fileKey();
+
+        CachedDocument cached = documentCache.get(path);
+        if (cached != null && cached.length == length && cached.lastModified == lastModified && Objects.equals(cached.fileKey, fileKey)) {
+            return cached.document;
+        }
+
+        LazyJsonDocument document = parse(file, map(file), fileKey);
+        documentCache.put(path, new CachedDocument(document, length, lastModified, fileKey));
+        return document;
+    }
+
+    /**
+     * Forget the cached document for a file, if there is one.
+     *
+     * @param file the file to forget
+     * @throws IOException if the file's canonical path cannot be found
+     */
+    public static void evict(File file) throws IOException {
+        documentCache.remove(file.getCanonicalPath());
+    }
+
+    /**
+     * Forget all cached documents, so the next open of each file maps and indexes it again. The mappings themselves are
+     * released once nothing refers to their documents any longer.
+     */
+    public static void clearCache() {
+        documentCache.clear();
+    }
+
+    private static MappedByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            FileChannel channel = randomAccessFile.getChannel();
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("JSON file '" + file + "' is too large to be mapped (" + size + " bytes)");
+            }
+
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(File file) throws IOException {
+        try {
+            return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        }
+        catch (NoSuchFileException e) {
+            throw new FileNotFoundException(file + " (No such file or directory)");
+        }
+    }
+
+    private static LazyJsonDocument parse(File file, MappedByteBuffer mapping, Object fileKey) throws IOException {
+        return LazyJsonDocument.parse(mapping, new TruncationGuard(file, mapping.capacity(), fileKey));
+    }
+
+    /**
+     * Reading past the end of a truncated file through its mapping crashes the JVM or throws an InternalError some time
+     * later, so a mapped document checks that its file is still long enough before it is read. Queries look up each
+     * path segment separately, so rather than stat the file before every lookup, the file is checked again only once
+     * the check interval has passed since the last check. Once a truncation has been found, every later read fails
+     * without checking again. A file which has been deleted or replaced, rather than truncated, can
+     * still be read through the old mapping.
+     */
+    private static final class TruncationGuard implements LazyJsonDocument.BytesGuard {
+        private static final long CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(TRUNCATION_CHECK_INTERVAL_MILLIS);
+
+        private final File file;
+        private final long length;
+        private final Object fileKey;
+
+        private volatile boolean checked;
+        private volatile long lastChecked;
+        private volatile boolean truncated;
+
+        private TruncationGuard(File file, long length, Object fileKey) {
+            this.file = file;
+            this.length = length;
+            this.fileKey = fileKey;
+        }
+
+        @Override
+        public void checkReadable() throws IOException {
+            if (truncated) {
+                throw truncatedException();
+            }
+
+            long now = System.nanoTime();
+            if (checked && now - lastChecked < CHECK_INTERVAL_NANOS) {
+                return;
+            }
+
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            }
+            catch (NoSuchFileException e) {
+                attributes = null;
+            }
+
+            boolean sameFile = attributes != null && (fileKey == null || fileKey.equals(attributes.fileKey()));
+            if (sameFile && attributes.size() < length) {
+                truncated = true;
+                throw truncatedException();
+            }
+
+            lastChecked = now;
+            checked = true;
+        }
+
+        private IOException truncatedException() {
+            return new IOException("JSON file '" + file + "' was truncated while it was open");
+        }
+    }
+
+    private static final class CachedDocument {
+        private final LazyJsonDocument document;
+        private final long length;
+        private final long lastModified;
+        private final Object fileKey;
+
+        private CachedDocument(LazyJsonDocument document, long length, long lastModified, Object fileKey) {
+            this.document = document;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.fileKey = fileKey;
+        }
+    }
+
+}
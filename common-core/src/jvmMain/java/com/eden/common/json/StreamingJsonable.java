@@ -0,0 +1,24 @@
+package com.eden.common.json;
+
+import java.io.IOException;
+
+/**
+ * A {@link Jsonable} which can also write itself straight to a {@link JsonWriter}, without building its JSONElement
+ * first. When a StreamingJsonable is written with {@link JSONElement#writeTo(java.io.Writer)}, or as a value in a
+ * JsonWriter, `writeJson` is used instead of `toJson`, so a large document can be streamed out without ever holding all
+ * of it, or its String form, in memory.
+ *
+ * `writeJson` should write exactly one value, and that value should match what `toJson` returns.
+ *
+ * This is a separate interface, rather than a default `writeJson` method on Jsonable, so that a JSONElement can tell
+ * which Jsonables really stream themselves. Any other Jsonable is resolved through `toJson` once, and its resolved
+ * value is then reused for every later query and write. If every Jsonable had a `writeJson`, a JSONElement could not
+ * know whether writing would stream or call `toJson` again each time.
+ *
+ * @since v3.1.0
+ */
+public interface StreamingJsonable extends Jsonable {
+
+    void writeJson(JsonWriter writer) throws IOException;
+
+}
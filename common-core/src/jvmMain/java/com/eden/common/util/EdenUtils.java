@@ -5,9 +5,12 @@ import com.eden.common.json.Jsonable;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class EdenUtils {
 
@@ -90,36 +93,73 @@ public class EdenUtils {
         return (el != null) && (el.getElement() != null) && (el.getElement() instanceof String);
     }
 
+    /**
+     * Deeply merge JSONObjects into a new JSONObject. Later sources take precedence, nested JSONObjects under the same
+     * key are merged recursively, and JSONArrays under the same key are concatenated. The result shares nothing with
+     * the sources, and keys whose value is `JSONObject.NULL` are skipped.
+     *
+     * @param sources the JSONObjects to merge, in increasing order of precedence. Null sources are skipped.
+     * @return a new JSONObject with the merged contents of all sources
+     */
     public static JSONObject merge(JSONObject... sources) {
-        JSONObject dest = new JSONObject();
+        return mergeInto(new JSONObject(), sources);
+    }
 
-        for (JSONObject tmpSource : sources) {
-            if (tmpSource == null) continue;
-            JSONObject source = new JSONObject(tmpSource.toMap());
+    /**
+     * Deeply merge JSONObjects into an existing JSONObject, exactly as {@link #merge(JSONObject...)} does, but modifying
+     * `target` and its nested JSONObjects and JSONArrays in place instead of building a new tree. Values taken from
+     * the sources are copied as they are added to `target`, so the sources are never modified and the two are not
+     * linked afterward. The sources are walked directly, so each value is copied only once.
+     *
+     * @param target the JSONObject to merge into
+     * @param sources the JSONObjects to merge, in increasing order of precedence. Null sources are skipped.
+     * @return `target`, after merging
+     */
+    public static JSONObject mergeInto(JSONObject target, JSONObject... sources) {
+        for (JSONObject source : sources) {
+            if (source == null) continue;
 
             for (String key : source.keySet()) {
-                if (dest.has(key)) {
-                    if (dest.get(key) instanceof JSONObject && source.get(key) instanceof JSONObject) {
-                        dest.put(key, merge(dest.getJSONObject(key), source.getJSONObject(key)));
-                    }
-                    else if (dest.get(key) instanceof JSONArray && source.get(key) instanceof JSONArray) {
-                        for (Object obj : source.getJSONArray(key)) {
-                            dest.getJSONArray(key).put(obj);
-                        }
-                    }
-                    else {
-                        dest.put(key, source.get(key));
+                Object sourceValue = source.opt(key);
+                if (sourceValue == null || sourceValue == JSONObject.NULL) continue;
+
+                Object targetValue = target.opt(key);
+                if (targetValue instanceof JSONObject && sourceValue instanceof JSONObject) {
+                    mergeInto((JSONObject) targetValue, (JSONObject) sourceValue);
+                }
+                else if (targetValue instanceof JSONArray && sourceValue instanceof JSONArray) {
+                    JSONArray targetArray = (JSONArray) targetValue;
+                    for (Object item : (JSONArray) sourceValue) {
+                        targetArray.put(copyJson(item));
                     }
                 }
                 else {
-                    dest.put(key, source.get(key));
+                    target.put(key, copyJson(sourceValue));
                 }
             }
         }
 
-        return dest;
+        return target;
+    }
+
+    private static Object copyJson(Object value) {
+        if (value instanceof JSONObject) {
+            return mergeInto(new JSONObject(), (JSONObject) value);
+        }
+        else if (value instanceof JSONArray) {
+            JSONArray source = (JSONArray) value;
+            JSONArray copy = new JSONArray();
+            for (int i = 0; i < source.length(); i++) {
+                copy.put(copyJson(source.opt(i)));
+            }
+            return copy;
+        }
+        else {
+            return value;
+        }
     }
 
+    @SafeVarargs
     public static Map<String, Object> merge(Map<String, ?>... sources) {
         Map<String, Object> dest = new HashMap<>();
 
@@ -133,9 +173,12 @@ public class EdenUtils {
                         dest.put(key, merge((Map<String, ?>) dest.get(key), (Map<String, ?>) source.get(key)));
                     }
                     else if (dest.get(key) instanceof Collection && source.get(key) instanceof Collection) {
-                        for (Object obj : (Collection) source.get(key)) {
-                            ((Collection) dest.get(key)).add(obj);
-                        }
+                        // copy rather than appending to the Collection, which belongs to one of the sources
+                        Collection<Object> mergedCollection = (dest.get(key) instanceof Set)
+                                ? new LinkedHashSet<Object>((Collection<?>) dest.get(key))
+                                : new ArrayList<Object>((Collection<?>) dest.get(key));
+                        mergedCollection.addAll((Collection<?>) source.get(key));
+                        dest.put(key, mergedCollection);
                     }
                     else {
                         dest.put(key, source.get(key));
@@ -2,17 +2,19 @@ package com.eden.common.util;
 
 import clog.Clog;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.PipedInputStream;
-import java.io.PipedOutputStream;
-import java.nio.charset.Charset;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
 
 import static clog.dsl.ConfigurationKt.tag;
 
+/**
+ * Handlers for reading streams such as the output of a subprocess. Each handler is a Runnable which reads its stream
+ * to the end when it is run, and can also be started on the shared {@link StreamPump} with `start()`, rather than on a
+ * new Thread.
+ */
 public class IOStreamUtils {
 
     public static class InputStreamCollector extends BaseInputStreamHandler {
@@ -71,7 +73,7 @@ public class IOStreamUtils {
         }
     }
 
-    private static abstract class BaseInputStreamHandler implements Runnable {
+    private static abstract class BaseInputStreamHandler implements Runnable, StreamPump.LineHandler {
 
         private final InputStream inputStream;
 
@@ -80,49 +82,70 @@ public class IOStreamUtils {
             this.inputStream = inputStream;
         }
 
+        /**
+         * Read the stream on the current thread. Errors reading the stream are ignored, and end the read.
+         */
         @Override
         public final void run() {
-            onBeforeRead();
-            final InputStreamReader inputStreamReader = new InputStreamReader(inputStream, Charset.forName("UTF-8"));
-
-            try (BufferedReader bufferedReader = new BufferedReader(inputStreamReader)) {
-                String line = bufferedReader.readLine();
-                while (line != null) {
-                    onReadLine(line);
-                    line = bufferedReader.readLine();
-                }
+            try {
+                read();
             }
             catch (Exception e) { }
-            onAfterRead();
         }
 
-        protected void onBeforeRead() {}
-        protected abstract void onReadLine(String line);
-        protected void onAfterRead() {}
-    }
+        /**
+         * Read the stream in the background, on a thread from the default {@link StreamPump}.
+         *
+         * @return a future which completes once the whole stream has been read, or completes exceptionally if reading
+         * fails
+         */
+        public CompletableFuture<Void> start() {
+            return start(StreamPump.getDefault());
+        }
 
-    public static InputStream converOutputToInputStream(final OnOutputStreamCreatedCallback callback) throws IOException {
-        final PipedInputStream pipedInputStream = new PipedInputStream();
-        final PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
-
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    callback.onOutputStreamCreated(pipedOutputStream);
-                }
-                finally {
+        /**
+         * Read the stream in the background, on a thread from the given pump.
+         *
+         * @param pump the pump whose Executor should read the stream
+         * @return a future which completes once the whole stream has been read, or completes exceptionally if reading
+         * fails
+         */
+        public CompletableFuture<Void> start(StreamPump pump) {
+            return CompletableFuture.runAsync(new Runnable() {
+                @Override
+                public void run() {
                     try {
-                        pipedOutputStream.close();
+                        read();
                     }
-                    catch (Exception e) {
-
+                    catch (IOException e) {
+                        throw new UncheckedIOException(e);
                     }
                 }
+            }, pump.getExecutor());
+        }
+
+        private void read() throws IOException {
+            onBeforeRead();
+            try {
+                StreamPump.readLines(inputStream, this);
+            }
+            finally {
+                onAfterRead();
             }
-        }).start();
+        }
+
+        @Override
+        public final void onLine(String line) {
+            onReadLine(line);
+        }
 
-        return pipedInputStream;
+        protected void onBeforeRead() {}
+        protected abstract void onReadLine(String line);
+        protected void onAfterRead() {}
+    }
+
+    public static InputStream converOutputToInputStream(final OnOutputStreamCreatedCallback callback) throws IOException {
+        return StreamPump.getDefault().pipe(callback);
     }
 
     public interface OnOutputStreamCreatedCallback {
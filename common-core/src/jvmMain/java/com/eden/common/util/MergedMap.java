@@ -0,0 +1,209 @@
+package com.eden.common.util;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-through view of several Maps merged together, with the same result as {@link EdenUtils#merge(Map[])}, but
+ * without copying the sources up-front. Each value is resolved only when its key is first read, and is then kept so
+ * that reading it again returns the same object:
+ *
+ * - keys found in only one source map to that source's value, without copying it
+ * - Maps under the same key in consecutive sources are merged into another lazy MergedMap
+ * - Collections under the same key in consecutive sources are concatenated into a new Collection, leaving the sources
+ *   untouched
+ * - otherwise, the value from the last source containing the key wins
+ *
+ * Reading a single key costs time proportional to the number of sources, rather than to the size of all of them.
+ * Operations which need every entry, such as iterating or `size()`, resolve every key once, as does the first write.
+ * Writes only ever change this view, never the sources, but changes made to the sources before a key is resolved will
+ * be seen by this view. Since reads update the resolved values, all access is synchronized.
+ *
+ * @since v3.1.0
+ */
+public final class MergedMap extends AbstractMap<String, Object> {
+
+    private final List<Map<String, ?>> sources;
+
+    // values which have been resolved from the sources so far
+    private final Map<String, Object> resolved = new HashMap<>();
+
+    // once every key has been resolved, or the map has been written to, this holds the entire map and sources are no
+    // longer read
+    private Map<String, Object> materialized;
+
+    /**
+     * @param sources the maps to merge, in increasing order of precedence. Null sources are skipped.
+     */
+    public MergedMap(List<? extends Map<String, ?>> sources) {
+        List<Map<String, ?>> nonEmptySources = new ArrayList<>(sources.size());
+        for (Map<String, ?> source : sources) {
+            if (!EdenUtils.isEmpty(source)) {
+                nonEmptySources.add(source);
+            }
+        }
+        this.sources = nonEmptySources;
+    }
+
+// Lazy reads
+//----------------------------------------------------------------------------------------------------------------------
+
+    @Override
+    public synchronized Object get(Object key) {
+        if (materialized != null) {
+            return materialized.get(key);
+        }
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+
+        String stringKey = (String) key;
+        Object value = resolved.get(stringKey);
+        if (value == null && !resolved.containsKey(stringKey)) {
+            int lastSource = findLastSourceContaining(stringKey, sources.size() - 1);
+            if (lastSource == -1) {
+                return null;
+            }
+            value = resolve(stringKey, lastSource);
+            resolved.put(stringKey, value);
+        }
+
+        return value;
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        if (materialized != null) {
+            return materialized.containsKey(key);
+        }
+
+        return (key == null || key instanceof String) && findLastSourceContaining((String) key, sources.size() - 1) != -1;
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        if (materialized != null) {
+            return materialized.isEmpty();
+        }
+
+        return sources.isEmpty();
+    }
+
+// Operations on the full map
+//----------------------------------------------------------------------------------------------------------------------
+
+    @Override
+    public synchronized Set<Entry<String, Object>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    @Override
+    public synchronized int size() {
+        return materialize().size();
+    }
+
+    @Override
+    public synchronized Object put(String key, Object value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public synchronized Object remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        materialize().clear();
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    private int findLastSourceContaining(String key, int fromSource) {
+        for (int i = fromSource; i >= 0; i--) {
+            if (sources.get(i).containsKey(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Walk backwards from the last source containing the key, for as long as each value can be merged with the one
+     * after it, then merge that run of values.
+     */
+    private Object resolve(String key, int lastSource) {
+        Object lastValue = sources.get(lastSource).get(key);
+
+        boolean isMap = lastValue instanceof Map;
+        boolean isCollection = lastValue instanceof Collection;
+        if (!isMap && !isCollection) {
+            return lastValue;
+        }
+
+        List<Object> run = new ArrayList<>();
+        run.add(lastValue);
+        int previousSource = findLastSourceContaining(key, lastSource - 1);
+        while (previousSource != -1) {
+            Object previousValue = sources.get(previousSource).get(key);
+            if ((isMap && !(previousValue instanceof Map)) || (isCollection && !(previousValue instanceof Collection))) {
+                break;
+            }
+            run.add(0, previousValue);
+            previousSource = findLastSourceContaining(key, previousSource - 1);
+        }
+
+        if (run.size() == 1) {
+            return lastValue;
+        }
+        else if (isMap) {
+            return mergeMaps(run);
+        }
+        else {
+            Collection<Object> merged = (run.get(0) instanceof Set) ? new LinkedHashSet<>() : new ArrayList<>();
+            for (Object collection : run) {
+                merged.addAll((Collection<?>) collection);
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * Nested Maps are expected to have String keys, like their parents, but this is not checked.
+     */
+    @SuppressWarnings("unchecked")
+    private static MergedMap mergeMaps(List<Object> maps) {
+        List<Map<String, ?>> sources = new ArrayList<>(maps.size());
+        for (Object map : maps) {
+            sources.add((Map<String, ?>) map);
+        }
+        return new MergedMap(sources);
+    }
+
+    private Map<String, Object> materialize() {
+        if (materialized == null) {
+            Set<String> keys = new HashSet<>();
+            for (Map<String, ?> source : sources) {
+                keys.addAll(source.keySet());
+            }
+
+            Map<String, Object> map = new HashMap<>();
+            for (String key : keys) {
+                map.put(key, get(key));
+            }
+
+            materialized = map;
+        }
+
+        return materialized;
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.eden.common.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A shared service for pumping streams in the background, such as the stdout and stderr of a subprocess. Each pump runs
+ * on a thread borrowed from the pump's Executor and returns a `CompletableFuture` which completes when the stream has
+ * been fully read, so callers no longer need to start and join a Thread for every stream.
+ *
+ * Every pump reads through a fixed-size buffer, and hands each chunk to its consumer before reading the next, so a slow
+ * consumer holds back the producer instead of letting output pile up in memory. Likewise, the pipes made by
+ * {@link #pipe(IOStreamUtils.OnOutputStreamCreatedCallback)} have a bounded buffer, and their writer blocks while it
+ * is full.
+ *
+ * The default pump reuses a pool of daemon threads. The pool is unbounded: it starts a new thread whenever every thread
+ * it has is busy, so it holds one thread for each stream being pumped at once, and idle threads are stopped after 30
+ * seconds. Since reading a stream blocks its thread, a pool with a fixed size could deadlock processes which wait for
+ * their output to be read. Pass a bounded Executor to {@link #StreamPump(Executor)} if the number of threads must be
+ * limited, or on a JVM with virtual threads, a virtual-thread-per-task Executor.
+ *
+ * @since v3.1.0
+ */
+public final class StreamPump {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final long IDLE_THREAD_SECONDS = 30;
+
+    private static final AtomicInteger pipeCount = new AtomicInteger();
+
+    private static volatile StreamPump defaultInstance;
+
+    private final Executor executor;
+
+    public StreamPump(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("A StreamPump's executor cannot be null");
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * @return the pump shared by {@link IOStreamUtils}, which reuses an unbounded pool of daemon threads
+     */
+    public static StreamPump getDefault() {
+        StreamPump pump = defaultInstance;
+        if (pump == null) {
+            synchronized (StreamPump.class) {
+                pump = defaultInstance;
+                if (pump == null) {
+                    pump = new StreamPump(createDefaultExecutor());
+                    defaultInstance = pump;
+                }
+            }
+        }
+        return pump;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+// Pumps
+//----------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Read a stream as UTF-8 text in the background, passing each line to a handler. The stream is closed once it has
+     * been read.
+     *
+     * @param inputStream the stream to read
+     * @param handler the handler for each line, which is called on the pump's thread
+     * @return a future which completes once the whole stream has been read, or completes exceptionally if reading fails
+     */
+    public CompletableFuture<Void> pumpLines(final InputStream inputStream, final LineHandler handler) {
+        checkStream(inputStream);
+        return CompletableFuture.runAsync(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    readLines(inputStream, handler);
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }, executor);
+    }
+
+    /**
+     * Read a stream as UTF-8 text in the background, collecting its lines. Each line, including the last, is followed by
+     * a newline.
+     *
+     * @param inputStream the stream to read
+     * @return a future for the collected text
+     */
+    public CompletableFuture<String> collect(InputStream inputStream) {
+        final StringBuilder output = new StringBuilder();
+        return pumpLines(inputStream, new LineHandler() {
+            @Override
+            public void onLine(String line) {
+                output.append(line).append('\n');
+            }
+        }).thenApply(new Function<Void, String>() {
+            @Override
+            public String apply(Void aVoid) {
+                return output.toString();
+            }
+        });
+    }
+
+    /**
+     * Read a stream to its end in the background and throw its contents away, without decoding them. The stream is
+     * closed once it has been read.
+     *
+     * @param inputStream the stream to drain
+     * @return a future which completes once the whole stream has been read
+     */
+    public CompletableFuture<Void> drain(final InputStream inputStream) {
+        checkStream(inputStream);
+        return CompletableFuture.runAsync(new Runnable() {
+            @Override
+            public void run() {
+                try (InputStream stream = inputStream) {
+                    byte[] buffer = new byte[BUFFER_SIZE];
+                    while (stream.read(buffer) != -1) {
+                        // discard
+                    }
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }, executor);
+    }
+
+    /**
+     * Run a callback in the background which writes to an OutputStream, and get an InputStream which reads what it
+     * writes. The pipe buffers a bounded amount of output, and the callback blocks while the buffer is full. The
+     * OutputStream is closed once the callback returns.
+     *
+     * The callback runs on its own daemon thread rather than on the pump's Executor. A piped stream checks whether the
+     * thread at its other end is still alive, which only works when that thread is not reused, and a writer blocked on
+     * a reader which has stopped reading would otherwise hold a pooled thread forever. Close the InputStream if it will
+     * not be read to its end, so the callback's next write fails and its thread can finish.
+     *
+     * @param callback the callback which writes to the pipe
+     * @return the InputStream which reads from the pipe
+     * @throws IOException if the pipe cannot be connected
+     */
+    public InputStream pipe(final IOStreamUtils.OnOutputStreamCreatedCallback callback) throws IOException {
+        final PipedInputStream pipedInputStream = new PipedInputStream(BUFFER_SIZE);
+        final PipedOutputStream pipedOutputStream = new PipedOutputStream(pipedInputStream);
+
+        Thread writerThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    callback.onOutputStreamCreated(pipedOutputStream);
+                }
+                finally {
+                    try {
+                        pipedOutputStream.close();
+                    }
+                    catch (Exception e) {
+
+                    }
+                }
+            }
+        }, "StreamPump-pipe-" + pipeCount.incrementAndGet());
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        return pipedInputStream;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamPump{" +
+                "executor=" + executor +
+                '}';
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Read a stream as UTF-8 text on the current thread, passing each line to a handler, and close it.
+     */
+    static void readLines(InputStream inputStream, LineHandler handler) throws IOException {
+        InputStreamReader inputStreamReader = new InputStreamReader(inputStream, Charset.forName("UTF-8"));
+        try (BufferedReader bufferedReader = new BufferedReader(inputStreamReader, BUFFER_SIZE)) {
+            String line = bufferedReader.readLine();
+            while (line != null) {
+                handler.onLine(line);
+                line = bufferedReader.readLine();
+            }
+        }
+    }
+
+    private static void checkStream(InputStream inputStream) {
+        if (inputStream == null) throw new NullPointerException("inputStream");
+    }
+
+    private static Executor createDefaultExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                0,
+                Integer.MAX_VALUE,
+                IDLE_THREAD_SECONDS,
+                TimeUnit.SECONDS,
+                new SynchronousQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "StreamPump-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                }
+        );
+    }
+
+    public interface LineHandler {
+        void onLine(String line);
+    }
+
+}
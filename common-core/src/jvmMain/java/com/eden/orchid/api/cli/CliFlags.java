@@ -1,22 +1,32 @@
 package com.eden.orchid.api.cli;
 
-import com.eden.common.util.EdenPair;
 import com.eden.common.util.EdenUtils;
 import com.eden.orchid.api.options.Extractor;
-import com.eden.orchid.api.options.annotations.Option;
+import com.eden.orchid.api.options.OptionsHolderMetadata;
 import com.eden.orchid.api.options.annotations.Protected;
 
 import javax.inject.Inject;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 public class CliFlags {
 
     private final Extractor extractor;
 
+    private static final int PARSER_CACHE_SIZE = 64;
+
+    private final Map<List<Object>, CachedParser> parserCache = Collections.synchronizedMap(new LinkedHashMap<List<Object>, CachedParser>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedParser> eldest) {
+            return size() > PARSER_CACHE_SIZE;
+        }
+    });
+
     @Inject
     public CliFlags(Extractor extractor) {
         this.extractor = extractor;
@@ -75,27 +85,59 @@ public class CliFlags {
     }
 
 
+    /**
+     * Get a FlagsParser which accepts the options of all the given flag classes. Parsers are immutable, so one is only
+     * built the first time a combination of flag classes and positional args is requested, and is then reused. The most
+     * recently used parsers are kept, and a parser is rebuilt if the Extractor's metadata for any of its flag classes
+     * has changed since, such as after {@link Extractor#clearCache()}.
+     *
+     * @param flagClasses the classes whose options are valid flags
+     * @param positionalArgs the names of the flags which may be given positionally
+     * @return a FlagsParser for the flag classes
+     */
     public FlagsParser getFlagsParser(List<Class<?>> flagClasses, List<String> positionalArgs) {
+        List<Object> cacheKey = Arrays.<Object>asList(
+                new ArrayList<>(flagClasses),
+                (positionalArgs != null) ? new ArrayList<>(positionalArgs) : null
+        );
+
+        List<OptionsHolderMetadata> flagMetadata = new ArrayList<>();
+        for (Class<?> flagClass : flagClasses) {
+            flagMetadata.add(extractor.getMetadata(flagClass));
+        }
+
+        CachedParser cachedParser = parserCache.get(cacheKey);
+        if (cachedParser == null || !cachedParser.isCurrent(flagMetadata)) {
+            cachedParser = new CachedParser(flagMetadata, createFlagsParser(flagMetadata, positionalArgs));
+            parserCache.put(cacheKey, cachedParser);
+        }
+
+        return cachedParser.parser;
+    }
+
+    /**
+     * Discard all cached FlagsParsers.
+     */
+    public void clearCache() {
+        parserCache.clear();
+    }
+
+    private FlagsParser createFlagsParser(List<OptionsHolderMetadata> flagMetadata, List<String> positionalArgs) {
         FlagsParser.FlagsParserBuilder builder = FlagsParser.builder();
         builder.positionalNames(positionalArgs);
 
-        for (Class<?> flagClass : flagClasses) {
-            EdenPair<Field, Set<Field>> flagFields = extractor.findOptionFields(flagClass);
-
-            for (Field field : flagFields.second) {
-                if (field.isAnnotationPresent(Option.class)) {
-                    String flagKey = (!EdenUtils.isEmpty(field.getAnnotation(Option.class).value()))
-                            ? field.getAnnotation(Option.class).value()
-                            : field.getName();
-                    String[] aliases = (field.isAnnotationPresent(FlagAliases.class))
-                            ? field.getAnnotation(FlagAliases.class).value()
-                            : null;
-
-                    builder.validName(flagKey);
-                    if (!EdenUtils.isEmpty(aliases)) {
-                        for (String alias : aliases) {
-                            builder.validAlias(alias, flagKey);
-                        }
+        for (OptionsHolderMetadata metadata : flagMetadata) {
+            for (OptionsHolderMetadata.OptionField optionField : metadata.getOptionFields()) {
+                Field field = optionField.getField();
+                String flagKey = optionField.getKey();
+                String[] aliases = (field.isAnnotationPresent(FlagAliases.class))
+                        ? field.getAnnotation(FlagAliases.class).value()
+                        : null;
+
+                builder.validName(flagKey);
+                if (!EdenUtils.isEmpty(aliases)) {
+                    for (String alias : aliases) {
+                        builder.validAlias(alias, flagKey);
                     }
                 }
             }
@@ -104,25 +146,41 @@ public class CliFlags {
         return builder.build();
     }
 
+    private static final class CachedParser {
+        private final List<OptionsHolderMetadata> flagMetadata;
+        private final FlagsParser parser;
+
+        CachedParser(List<OptionsHolderMetadata> flagMetadata, FlagsParser parser) {
+            this.flagMetadata = flagMetadata;
+            this.parser = parser;
+        }
+
+        boolean isCurrent(List<OptionsHolderMetadata> currentMetadata) {
+            for (int i = 0; i < flagMetadata.size(); i++) {
+                if (flagMetadata.get(i) != currentMetadata.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     public List<FlagValue> getFlagValues(Object flagObject) {
         List<FlagValue> values = new ArrayList<>();
-        EdenPair<Field, Set<Field>> flagFields = extractor.findOptionFields(flagObject.getClass());
-
-        for (Field field : flagFields.second) {
-            if (field.isAnnotationPresent(Option.class)) {
-                String flagKey = (!EdenUtils.isEmpty(field.getAnnotation(Option.class).value()))
-                        ? field.getAnnotation(Option.class).value()
-                        : field.getName();
-                boolean isProtected = field.isAnnotationPresent(Protected.class);
-
-                values.add(new FlagValue(
-                        flagObject,
-                        field.getType(),
-                        flagKey,
-                        extractor.getOptionValue(flagObject, field, flagKey),
-                        isProtected
-                ));
-            }
+        OptionsHolderMetadata flagMetadata = extractor.getMetadata(flagObject.getClass());
+
+        for (OptionsHolderMetadata.OptionField optionField : flagMetadata.getOptionFields()) {
+            Field field = optionField.getField();
+            String flagKey = optionField.getKey();
+            boolean isProtected = field.isAnnotationPresent(Protected.class);
+
+            values.add(new FlagValue(
+                    flagObject,
+                    field.getType(),
+                    flagKey,
+                    extractor.getOptionValue(flagObject, field, flagKey),
+                    isProtected
+            ));
         }
 
         return values;
@@ -3,6 +3,8 @@ package com.eden.orchid.api.cli;
 import clog.Clog;
 import com.eden.common.util.EdenUtils;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -20,6 +22,9 @@ public final class FlagsParser {
     private final Map<String, String> validAliases;
     private final List<String> positionalNames;
 
+    private final Map<String, String> flagNames;
+    private final Map<String, String> aliasNames;
+
     public FlagsParser(
             Set<String> validNames,
             Map<String, String> validAliases,
@@ -39,6 +44,16 @@ public final class FlagsParser {
                 throw new IllegalArgumentException("Positional arg references a flag that is not a valid name: " + positionalArg);
             }
         }
+
+        this.flagNames = new HashMap<>();
+        for(String validName : this.validNames) {
+            this.flagNames.put(validName, validName);
+        }
+
+        this.aliasNames = new HashMap<>();
+        for(Map.Entry<String, String> alias : this.validAliases.entrySet()) {
+            this.aliasNames.put(alias.getKey(), this.flagNames.get(alias.getValue()));
+        }
     }
 
     public static FlagsParserBuilder builder() {
@@ -55,234 +70,170 @@ public final class FlagsParser {
      * @return the result of parsing
      */
     public ParseResult parseArgs(String argString) {
-        List<String> argsList = new ArrayList<>();
-
-        Clog.v("Parsing string:");
-
-        String lastString = "";
-        char lastQuote = 0;
-        char lastChar = 0;
-
-        for(char c : argString.toCharArray()) {
-            Clog.v("  char [{}]", c);
-            if(lastQuote != 0) {
-                Clog.v("    in string");
-                if(c == lastQuote) {
-                    if(lastChar == '\\') {
-                        Clog.v("      endquote is escaped");
-                        lastString = lastString.substring(0, lastString.length() - 1);
-                        lastString += c;
-                    }
-                    else {
-                        Clog.v("      endquote closes");
-                        lastQuote = 0;
-                        argsList.add(lastString);
-                        lastString = "";
-                    }
-                }
-                else {
-                    lastString += c;
-                }
-            }
-            else {
-                Clog.v("   not in string");
-                if(Character.isWhitespace(c)) {
-                    argsList.add(lastString);
-                    lastString = "";
-                }
-                else if(c == '"') {
-                    lastQuote = '"';
-                }
-                else if(c == '\'') {
-                    lastQuote = '\'';
-                }
-                else {
-                    lastString += c;
-                }
-            }
+        Clog.v("Parsing string: {}", argString);
 
-            lastChar = c;
+        Tokenizer tokenizer = new Tokenizer();
+        for (int i = 0; i < argString.length(); i++) {
+            tokenizer.accept(argString.charAt(i));
         }
-
-        if(!EdenUtils.isEmpty(lastString)) {
-            Clog.v("adding last string: {}", lastString);
-            argsList.add(lastString);
-        }
-
-        Clog.v("", argsList);
-
-        String[] argsArray = new String[argsList.size()];
-        argsList.toArray(argsArray);
+        String[] argsArray = tokenizer.finish();
 
         ParseResult result = parseArgs(argsArray);
         result.setOriginalString(argString);
         return result;
     }
 
+    /**
+     * Parse the contents of a Reader as CLI flags, exactly as {@link #parseArgs(String)} would parse the same text. The
+     * Reader is split into args as it is read, so the text itself is never held in memory, and is therefore not
+     * available from {@link ParseResult#getOriginalString()}. The Reader is not closed.
+     *
+     * @param reader the Reader to read CLI flags from
+     * @return the result of parsing
+     * @throws IOException if the Reader throws
+     */
+    public ParseResult parseArgs(Reader reader) throws IOException {
+        Clog.v("Parsing from reader");
+
+        Tokenizer tokenizer = new Tokenizer();
+        char[] buffer = new char[1024];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                tokenizer.accept(buffer[i]);
+            }
+        }
+
+        return parseArgs(tokenizer.finish());
+    }
+
     /**
      * Parse the CLI args into maps, according to the rules set when creating the FlagsParser. Given a set of valid
      * flags, a map of aliases to those flags, and a list of the positional flags
      *
+     * A FlagsParser is immutable once created, so the same instance may be used to parse any number of command lines,
+     * from any number of threads.
+     *
      * @param args the CLI flags to parse
      * @return the result of parsing
      */
     public ParseResult parseArgs(String[] args) {
-        Clog.v("Parsing with:");
-        Clog.v("  valid names: {}", validNames);
-        Clog.v("  valid aliases: {}", validAliases);
-        Clog.v("  positionalNames: {}", positionalNames);
-
-        Map<String, Object> parsedValidFlags = new HashMap<>();
-        Map<String, Object> parsedInvalidFlags = new HashMap<>();
-        List<String> positionalArgs = new ArrayList<>();
+        ParseState state = new ParseState();
 
         // loop over flags, adding them to positional args until we get an arg starting with '--' or '-', at which point
         // we start adding to that key's values
-        String currentFlag = null;
-        boolean currentFlagIsAlias = false;
-
-        int valuesParsed = 0;
         for (int i = 0; i < args.length; i++) {
             String arg = (args[i] != null) ? args[i] : "";
-            Clog.v("arg [{}]", arg);
 
             if (arg.startsWith("--")) {
-                // full flag name
-                String flag = arg.replaceFirst("--", "");
-
-                if (flag.contains("=")) {
-                    String[] flagParts = flag.split("=");
-                    Clog.v("  is double dash equals: {}, {}", flagParts[0], flagParts[1]);
-                    addArgValue(parsedValidFlags, parsedInvalidFlags, flagParts[0], flagParts[1], false);
-                }
-                else {
-                    Clog.v("  is double dash: {}", flag);
-
-                    // parse as valid flag name
-                    if (valuesParsed == 0 && currentFlag != null) {
-                        // the previous flag had no values, mark it as true
-                        addArgValue(parsedValidFlags, parsedInvalidFlags, currentFlag, "true", currentFlagIsAlias);
-                    }
-                    currentFlag = flag;
-                    currentFlagIsAlias = false;
-                    valuesParsed = 0;
-                }
+                parseFlag(state, arg, 2, false);
             }
             else if (arg.startsWith("-")) {
-                // full flag name
-                String flag = arg.replaceFirst("-", "");
-
-                if (flag.contains("=")) {
-                    String[] flagParts = flag.split("=");
-                    Clog.v("  is single dash equals: {}, {}", flagParts[0], flagParts[1]);
-                    addArgValue(parsedValidFlags, parsedInvalidFlags, flagParts[0], flagParts[1], true);
-                }
-                else {
-                    Clog.v("  is single dash: {}", flag);
-
-                    // parse as valid flag name
-                    if (valuesParsed == 0 && currentFlag != null) {
-                        // the previous flag had no values, mark it as true
-                        addArgValue(parsedValidFlags, parsedInvalidFlags, currentFlag, "true", currentFlagIsAlias);
-                    }
-                    currentFlag = flag;
-                    currentFlagIsAlias = true;
-                    valuesParsed = 0;
-                }
+                parseFlag(state, arg, 1, true);
+            }
+            else if (state.currentFlag != null) {
+                // named flag values
+                addArgValue(state, state.currentFlag, arg, state.currentFlagIsAlias);
+                state.valuesParsed++;
             }
             else {
-                Clog.v("  is item");
-
-                if (currentFlag != null) {
-                    Clog.v("  is value: {}, {}", currentFlag, arg);
-
-                    // named flag values
-                    addArgValue(parsedValidFlags, parsedInvalidFlags, currentFlag, arg, currentFlagIsAlias);
-                    valuesParsed++;
-                }
-                else {
-                    Clog.v("  is positional: {}", arg);
-
-                    // positional flag values
-                    positionalArgs.add(arg);
-                }
+                // positional flag values
+                state.positionalArgs.add(arg);
             }
         }
 
-        if (valuesParsed == 0 && currentFlag != null) {
-            Clog.v("we have an extra value: {}", currentFlag);
-
+        if (state.valuesParsed == 0 && state.currentFlag != null) {
             // the final flag had no values, mark it as true
-            addArgValue(parsedValidFlags, parsedInvalidFlags, currentFlag, "true", currentFlagIsAlias);
+            addArgValue(state, state.currentFlag, "true", state.currentFlagIsAlias);
         }
 
         // add positional args to named args map. Positional args override named args
+        List<String> positionalArgs = state.positionalArgs;
         if (positionalArgs.size() > 0 && positionalNames.size() > 0) {
-            if(positionalNames.size() >= positionalArgs.size()) {
-                // parse one arg at a time for each positional arg
-                for (int i = 0; i < positionalArgs.size(); i++) {
-                    Clog.v("  positional arg: {}", positionalArgs.get(i));
-                    addArgValue(parsedValidFlags, parsedInvalidFlags, positionalNames.get(i), positionalArgs.get(i), false);
-                }
+            int namedPositionalArgs = Math.min(positionalNames.size(), positionalArgs.size());
+
+            // parse one arg at a time for each positional arg
+            for (int i = 0; i < namedPositionalArgs; i++) {
+                addArgValue(state, positionalNames.get(i), positionalArgs.get(i), false);
             }
-            else {
-                // parse one arg at a time for each positional arg
-                for (int i = 0; i < positionalNames.size(); i++) {
-                    Clog.v("  positional arg: {}", positionalArgs.get(i));
-                    addArgValue(parsedValidFlags, parsedInvalidFlags, positionalNames.get(i), positionalArgs.get(i), false);
-                }
 
-                // parse remaining args as last positional arg
-                for (int i = positionalNames.size(); i < positionalArgs.size(); i++) {
-                    Clog.v("  positional vararg: {}", positionalArgs.get(i));
-                    addArgValue(parsedValidFlags, parsedInvalidFlags, positionalNames.get(positionalNames.size() - 1), positionalArgs.get(i), false);
-                }
+            // parse remaining args as last positional arg
+            for (int i = namedPositionalArgs; i < positionalArgs.size(); i++) {
+                addArgValue(state, positionalNames.get(positionalNames.size() - 1), positionalArgs.get(i), false);
             }
         }
 
-        normalizeFlags(parsedValidFlags);
-        normalizeFlags(parsedInvalidFlags);
+        // only empty values need to be removed, so skip looking for them if there were none
+        if (state.hasEmptyValues) {
+            normalizeFlags(state.validFlags);
+            normalizeFlags(state.invalidFlags);
+        }
+
+        Clog.v("Parsed args: valid={}, invalid={}", state.validFlags, state.invalidFlags);
 
-        return new ParseResult(this, parsedValidFlags, parsedInvalidFlags, args);
+        return new ParseResult(this, state.validFlags, state.invalidFlags, args);
     }
 
-    private void addArgValue(
-            Map<String, Object> parsedValidFlags,
-            Map<String, Object> parsedInvalidFlags,
-            String key,
-            String value,
-            boolean isAlias) {
-        if (isAlias) {
-            if (validNames != null && validAliases != null && validAliases.containsKey(key)) {
-                key = validAliases.get(key);
-            }
-            else {
-                throw new IllegalArgumentException(format(Clog.INSTANCE, "Unrecognized flag: -{}", key));
+    /**
+     * Handle an arg starting with one or two dashes, either as a `--flag=value` pair, or as a flag name whose values
+     * are the args that follow it.
+     */
+    private void parseFlag(ParseState state, String arg, int prefixLength, boolean isAlias) {
+        int equalsIndex = arg.indexOf('=', prefixLength);
+
+        if (equalsIndex != -1) {
+            // like String.split, the value stops at a second '=', if there is one
+            int valueEnd = arg.indexOf('=', equalsIndex + 1);
+            String key = arg.substring(prefixLength, equalsIndex);
+            String value = arg.substring(equalsIndex + 1, (valueEnd != -1) ? valueEnd : arg.length());
+            addArgValue(state, key, value, isAlias);
+        }
+        else {
+            if (state.valuesParsed == 0 && state.currentFlag != null) {
+                // the previous flag had no values, mark it as true
+                addArgValue(state, state.currentFlag, "true", state.currentFlagIsAlias);
             }
+            state.currentFlag = arg.substring(prefixLength);
+            state.currentFlagIsAlias = isAlias;
+            state.valuesParsed = 0;
+        }
+    }
+
+    private void addArgValue(ParseState state, String key, String value, boolean isAlias) {
+        // resolve the key to the instance held by this parser, so every result shares the same key Strings
+        String name = (isAlias) ? aliasNames.get(key) : flagNames.get(key);
+
+        if (name == null && isAlias) {
+            throw new IllegalArgumentException(format(Clog.INSTANCE, "Unrecognized flag: -{}", key));
         }
 
-        if (validNames != null && validNames.contains(key)) {
-            Clog.v("    adding valid arg value: {}, {}", key, value);
-            addArgValueToMap(parsedValidFlags, key, value);
+        if (value.isEmpty()) {
+            state.hasEmptyValues = true;
+        }
+
+        if (name != null) {
+            addArgValueToMap(state.validFlags, name, value);
         }
         else {
-            Clog.v("    adding invalid arg value: {}, {}", key, value);
-            addArgValueToMap(parsedInvalidFlags, key, value);
+            addArgValueToMap(state.invalidFlags, key, value);
         }
     }
 
     private void addArgValueToMap(Map<String, Object> map, String key, String value) {
-        if (!map.containsKey(key)) {
+        Object existingValue = map.get(key);
+
+        if (existingValue == null) {
             map.put(key, value);
         }
         else {
-            if (!(map.get(key) instanceof List)) {
+            if (!(existingValue instanceof List)) {
                 List<Object> listValues = new ArrayList<>();
-                listValues.add(map.get(key));
+                listValues.add(existingValue);
                 map.put(key, listValues);
+                existingValue = listValues;
             }
 
-            ((List<Object>) map.get(key)).add(value);
+            ((List<Object>) existingValue).add(value);
         }
     }
 
@@ -310,6 +261,77 @@ public final class FlagsParser {
         }
     }
 
+    /**
+     * The mutable state of a single call to {@link #parseArgs(String[])}, kept apart from the parser itself so that
+     * the parser can be shared.
+     */
+    private static final class ParseState {
+        private final Map<String, Object> validFlags = new HashMap<>();
+        private final Map<String, Object> invalidFlags = new HashMap<>();
+        private final List<String> positionalArgs = new ArrayList<>();
+
+        private String currentFlag = null;
+        private boolean currentFlagIsAlias = false;
+        private int valuesParsed = 0;
+        private boolean hasEmptyValues = false;
+    }
+
+    /**
+     * Splits text into args one character at a time, in linear time. Unquoted whitespace ends the current arg, even if
+     * it is empty, and empty args are later dropped by {@link #normalizeFlags(Map)}. A closing quote ends the current arg
+     * unless the character before it was a backslash, in which case the backslash is replaced by the quote.
+     */
+    private static final class Tokenizer {
+        private final List<String> args = new ArrayList<>();
+        private final StringBuilder current = new StringBuilder();
+        private char quote = 0;
+        private char lastChar = 0;
+
+        void accept(char c) {
+            if (quote != 0) {
+                if (c == quote) {
+                    if (lastChar == '\\') {
+                        // replace the escaping backslash with the quote itself
+                        current.setCharAt(current.length() - 1, c);
+                    }
+                    else {
+                        quote = 0;
+                        endArg();
+                    }
+                }
+                else {
+                    current.append(c);
+                }
+            }
+            else if (Character.isWhitespace(c)) {
+                endArg();
+            }
+            else if (c == '"' || c == '\'') {
+                quote = c;
+            }
+            else {
+                current.append(c);
+            }
+
+            lastChar = c;
+        }
+
+        String[] finish() {
+            if (current.length() > 0) {
+                endArg();
+            }
+
+            Clog.v("Split into args: {}", args);
+
+            return args.toArray(new String[0]);
+        }
+
+        private void endArg() {
+            args.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
     public Set<String> getValidNames() {
         return this.validNames;
     }
@@ -0,0 +1,72 @@
+package com.eden.orchid.api.converters;
+
+import com.eden.common.util.EdenPair;
+
+/**
+ * A {@link TypeConverter} which reports its result without allocating an {@link EdenPair}.
+ * {@link #convertValue(Class, Object)} returns the converted value directly, or the shared {@link #FAILED} sentinel if
+ * the value cannot be converted:
+ *
+ * ```java
+ * Object result = converter.convertValue(clazz, objectToConvert);
+ * if (result != AbstractTypeConverter.FAILED) {
+ *     Integer value = (Integer) result;
+ * }
+ * ```
+ *
+ * Since the result is an Object, converters to primitive types still box their results. Converters such as
+ * {@link IntegerConverter} also have methods like {@link IntegerConverter#convertToInt(Object, int)} which return a
+ * primitive, and convert numbers without boxing them.
+ *
+ * {@link #convert(Class, Object)} still returns an {@link EdenPair} for existing callers, with the same value on failure
+ * as before, given by {@link #getFailedValue(Class, Object)}.
+ *
+ * @param <T> the type this converter converts to
+ * @since v3.1.0
+ */
+public abstract class AbstractTypeConverter<T> implements TypeConverter<T> {
+
+    /**
+     * Returned from {@link #convertValue(Class, Object)} when a value cannot be converted. Compare against it by
+     * identity.
+     */
+    public static final Object FAILED = new Object() {
+        @Override
+        public String toString() {
+            return "AbstractTypeConverter.FAILED";
+        }
+    };
+
+    /**
+     * Convert a value to this converter's type.
+     *
+     * @param clazz the class being converted to
+     * @param objectToConvert the value to convert
+     * @return the converted value, which is always an instance of T or null, or {@link #FAILED} if it cannot be
+     * converted
+     */
+    public abstract Object convertValue(Class<?> clazz, Object objectToConvert);
+
+    /**
+     * @param clazz the class being converted to
+     * @param objectToConvert the value that could not be converted
+     * @return the value returned with a failed result from {@link #convert(Class, Object)}
+     */
+    protected T getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return null;
+    }
+
+    // the raw Class is inherited from TypeConverter, and convertValue() only ever returns an instance of T on success
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public EdenPair<Boolean, T> convert(Class clazz, Object objectToConvert) {
+        Object result = convertValue(clazz, objectToConvert);
+        if (result != FAILED) {
+            return new EdenPair<>(true, (T) result);
+        }
+        else {
+            return new EdenPair<>(false, getFailedValue(clazz, objectToConvert));
+        }
+    }
+
+}
@@ -1,7 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
 
 /**
@@ -15,7 +13,7 @@ import javax.inject.Inject;
  *
  * @since v1.0.0
  */
-public final class BooleanConverter implements TypeConverter<Boolean> {
+public final class BooleanConverter extends AbstractTypeConverter<Boolean> {
 
     private final StringConverter stringConverter;
     private final NumberConverter numberConverter;
@@ -32,35 +30,70 @@ public final class BooleanConverter implements TypeConverter<Boolean> {
     }
 
     @Override
-    public EdenPair<Boolean, Boolean> convert(Class clazz, Object objectToConvert) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
         if (objectToConvert == null) {
-            return new EdenPair<>(false, false);
+            return FAILED;
         }
 
-        if (objectToConvert instanceof Boolean) {
-            return new EdenPair<>(true, (Boolean) objectToConvert);
+        if (convertsWithoutParsing(objectToConvert)) {
+            return convertToBoolean(objectToConvert, false);
         }
         if (objectToConvert instanceof String) {
-            String s = stringConverter.convert(clazz, objectToConvert).second;
+            String s = stringConverter.convertToString(objectToConvert);
             if (s.equalsIgnoreCase("true")) {
-                return new EdenPair<>(true, true);
+                return true;
             }
             else if (s.equalsIgnoreCase("false")) {
-                return new EdenPair<>(true, false);
+                return false;
             }
         }
 
-        EdenPair<Boolean, Number> numberValue = numberConverter.convert(clazz, objectToConvert);
-        if (numberValue.first) {
-            if (numberValue.second.doubleValue() == 0) {
-                return new EdenPair<>(true, false);
-            }
-            else {
-                return new EdenPair<>(true, true);
-            }
+        Object numberValue = numberConverter.convertValue(clazz, objectToConvert);
+        if (numberValue != FAILED) {
+            return ((Number) numberValue).doubleValue() != 0;
         }
 
-        return new EdenPair<>(false, false);
+        return FAILED;
+    }
+
+    @Override
+    protected Boolean getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return false;
+    }
+
+    /**
+     * Convert to a primitive boolean. Booleans and numbers are converted without boxing, and other values are converted
+     * with {@link #convertValue(Class, Object)} and unboxed.
+     *
+     * @param objectToConvert the value to convert
+     * @param fallback the value to return if it cannot be converted
+     * @return the converted value, or the fallback
+     */
+    public boolean convertToBoolean(Object objectToConvert, boolean fallback) {
+        if (objectToConvert instanceof Boolean) {
+            return (Boolean) objectToConvert;
+        }
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).doubleValue() != 0;
+        }
+
+        Object result = convertValue(boolean.class, objectToConvert);
+        return (result != FAILED) ? (Boolean) result : fallback;
+    }
+
+    /**
+     * @param objectToConvert the value to convert
+     * @return true if the value is a Boolean or a boxed primitive number. These are converted directly, instead of
+     * being formatted and parsed as a String, which gives exactly the same result.
+     */
+    public boolean convertsWithoutParsing(Object objectToConvert) {
+        return objectToConvert instanceof Boolean
+                || objectToConvert instanceof Integer
+                || objectToConvert instanceof Long
+                || objectToConvert instanceof Double
+                || objectToConvert instanceof Float
+                || objectToConvert instanceof Short
+                || objectToConvert instanceof Byte;
     }
 
 }
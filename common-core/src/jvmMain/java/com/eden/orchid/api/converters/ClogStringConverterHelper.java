@@ -4,7 +4,7 @@ import clog.Clog;
 
 import static clog.dsl.UtilsKt.format;
 
-public class ClogStringConverterHelper implements StringConverterHelper {
+public class ClogStringConverterHelper implements TemplateStringConverterHelper {
 
     @Override
     public boolean matches(String input) {
@@ -15,4 +15,13 @@ public class ClogStringConverterHelper implements StringConverterHelper {
         return format(Clog.INSTANCE, input);
     }
 
+    /**
+     * Clog's formatters only replace `{}`-style placeholders or `%`-style format specifiers, so anything without those
+     * is returned unchanged.
+     */
+    @Override
+    public String getTriggerCharacters() {
+        return "{%";
+    }
+
 }
@@ -1,26 +1,110 @@
 package com.eden.orchid.api.converters;
 
 import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.registration.Prioritized;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Converts objects to a target class with the first {@link TypeConverter} that accepts it. Converters are checked in
+ * a fixed order: those extending {@link Prioritized} by descending priority, all others with priority 0, and ties
+ * broken by class name. The converter chosen for each target class is cached, so repeated lookups are O(1) and always
+ * pick the same converter regardless of the iteration order of the injected Set.
+ */
 public class Converters {
 
-    private final Set<TypeConverter> converters;
+    private static final Object NO_CONVERTER = new Object();
+
+    private final List<TypeConverter<?>> converters;
+
+    private final ConcurrentMap<Class<?>, Object> converterCache = new ConcurrentHashMap<>();
 
     @Inject
     public Converters(Set<TypeConverter> converters) {
-        this.converters = converters;
+        List<TypeConverter<?>> sortedConverters = new ArrayList<>(converters.size());
+        for (TypeConverter<?> converter : converters) {
+            sortedConverters.add(converter);
+        }
+        Collections.sort(sortedConverters, new Comparator<TypeConverter<?>>() {
+            @Override
+            public int compare(TypeConverter<?> o1, TypeConverter<?> o2) {
+                int priority1 = getPriority(o1);
+                int priority2 = getPriority(o2);
+                if (priority1 == priority2) {
+                    return o1.getClass().getName().compareTo(o2.getClass().getName());
+                }
+                else {
+                    return priority2 - priority1;
+                }
+            }
+        });
+        this.converters = Collections.unmodifiableList(sortedConverters);
     }
 
     public <T> EdenPair<Boolean, T> convert(Object object, Class<T> targetClass) {
-        for(TypeConverter converter : converters) {
-            if(converter.acceptsClass(targetClass)) {
-                return (EdenPair<Boolean, T>) converter.convert(targetClass, object);
-            }
+        TypeConverter<?> converter = findConverter(targetClass);
+        if (converter != null) {
+            return (EdenPair<Boolean, T>) converter.convert(targetClass, object);
         }
 
         return new EdenPair<>(false, null);
     }
+
+    /**
+     * Convert a value with the first converter accepting the target class, without allocating an {@link EdenPair} for
+     * converters extending {@link AbstractTypeConverter}.
+     *
+     * @param object the value to convert
+     * @param targetClass the class to convert to
+     * @return the converted value, or {@link AbstractTypeConverter#FAILED} if it could not be converted
+     */
+    public Object convertValue(Object object, Class<?> targetClass) {
+        TypeConverter<?> converter = findConverter(targetClass);
+        if (converter instanceof AbstractTypeConverter) {
+            return ((AbstractTypeConverter<?>) converter).convertValue(targetClass, object);
+        }
+        else if (converter != null) {
+            EdenPair<Boolean, ?> result = converter.convert(targetClass, object);
+            if (result != null && result.first) {
+                return result.second;
+            }
+        }
+
+        return AbstractTypeConverter.FAILED;
+    }
+
+    /**
+     * @param targetClass the class to convert to
+     * @return the first converter accepting that class, or null if none of them do
+     */
+    public TypeConverter<?> findConverter(Class<?> targetClass) {
+        Object converter = converterCache.get(targetClass);
+        if (converter == null) {
+            converter = NO_CONVERTER;
+            for (TypeConverter<?> candidate : converters) {
+                if (candidate.acceptsClass(targetClass)) {
+                    converter = candidate;
+                    break;
+                }
+            }
+            converterCache.putIfAbsent(targetClass, converter);
+        }
+
+        return (converter != NO_CONVERTER) ? (TypeConverter<?>) converter : null;
+    }
+
+    public List<TypeConverter<?>> getConverters() {
+        return this.converters;
+    }
+
+    private static int getPriority(TypeConverter<?> converter) {
+        return (converter instanceof Prioritized) ? ((Prioritized) converter).getPriority() : 0;
+    }
 }
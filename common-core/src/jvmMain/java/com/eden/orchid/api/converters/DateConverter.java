@@ -1,7 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,7 +12,7 @@ import java.time.LocalDateTime;
  *
  * @since v1.0.0
  */
-public final class DateConverter implements TypeConverter<LocalDate> {
+public final class DateConverter extends AbstractTypeConverter<LocalDate> {
 
     private final DateTimeConverter converter;
 
@@ -29,10 +27,15 @@ public final class DateConverter implements TypeConverter<LocalDate> {
     }
 
     @Override
-    public EdenPair<Boolean, LocalDate> convert(Class clazz, Object objectToConvert) {
-        EdenPair<Boolean, LocalDateTime> dateTime = converter.convert(clazz, objectToConvert);
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        Object dateTime = converter.convertValue(clazz, objectToConvert);
+
+        return (dateTime != FAILED) ? ((LocalDateTime) dateTime).toLocalDate() : FAILED;
+    }
 
-        return new EdenPair<>(dateTime.first, dateTime.second.toLocalDate());
+    @Override
+    protected LocalDate getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return converter.getFailedValue(clazz, objectToConvert).toLocalDate();
     }
 
 }
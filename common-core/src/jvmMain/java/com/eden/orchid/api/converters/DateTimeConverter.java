@@ -1,7 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,7 +14,7 @@ import java.time.format.DateTimeParseException;
  *
  * @since v1.0.0
  */
-public final class DateTimeConverter implements TypeConverter<LocalDateTime> {
+public final class DateTimeConverter extends AbstractTypeConverter<LocalDateTime> {
 
     private final StringConverter stringConverter;
 
@@ -31,49 +29,54 @@ public final class DateTimeConverter implements TypeConverter<LocalDateTime> {
     }
 
     @Override
-    public EdenPair<Boolean, LocalDateTime> convert(Class clazz, Object objectToConvert) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
         if(objectToConvert instanceof LocalDate) {
-            return new EdenPair<>(true, ((LocalDate) objectToConvert).atTime(LocalTime.now()));
+            return ((LocalDate) objectToConvert).atTime(LocalTime.now());
         }
         else if(objectToConvert instanceof LocalTime) {
-            return new EdenPair<>(true, ((LocalTime) objectToConvert).atDate(LocalDate.now()));
+            return ((LocalTime) objectToConvert).atDate(LocalDate.now());
         }
         else if(objectToConvert instanceof LocalDateTime) {
-            return new EdenPair<>(true, ((LocalDateTime) objectToConvert));
+            return ((LocalDateTime) objectToConvert);
         }
         else {
-            String dateTimeString = stringConverter.convert(clazz, objectToConvert).second;
+            String dateTimeString = stringConverter.convertToString(objectToConvert);
 
             if(dateTimeString.equalsIgnoreCase("now")) {
-                return new EdenPair<>(true, LocalDateTime.now());
+                return LocalDateTime.now();
             }
             else if(dateTimeString.equalsIgnoreCase("today")) {
-                return new EdenPair<>(true, LocalDate.now().atStartOfDay());
+                return LocalDate.now().atStartOfDay();
             }
             else if(dateTimeString.equalsIgnoreCase("yesterday")) {
-                return new EdenPair<>(true, LocalDate.now().atStartOfDay().minusDays(1));
+                return LocalDate.now().atStartOfDay().minusDays(1);
             }
             else if(dateTimeString.equalsIgnoreCase("tomorrow")) {
-                return new EdenPair<>(true, LocalDate.now().atStartOfDay().plusDays(1));
+                return LocalDate.now().atStartOfDay().plusDays(1);
             }
 
             try {
-                return new EdenPair<>(true, LocalDateTime.parse(dateTimeString));
+                return LocalDateTime.parse(dateTimeString);
             }
             catch (DateTimeParseException e) { }
 
             try {
-                return new EdenPair<>(true, LocalDate.parse(dateTimeString).atTime(LocalTime.now()));
+                return LocalDate.parse(dateTimeString).atTime(LocalTime.now());
             }
             catch (DateTimeParseException e) { }
 
             try {
-                return new EdenPair<>(true, LocalTime.parse(dateTimeString).atDate(LocalDate.now()));
+                return LocalTime.parse(dateTimeString).atDate(LocalDate.now());
             }
             catch (DateTimeParseException e) { }
         }
 
-        return new EdenPair<>(false, LocalDateTime.now());
+        return FAILED;
+    }
+
+    @Override
+    protected LocalDateTime getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return LocalDateTime.now();
     }
 
 }
@@ -1,7 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
 
 /**
@@ -12,7 +10,7 @@ import javax.inject.Inject;
  *
  * @since v1.0.0
  */
-public final class DoubleConverter implements TypeConverter<Double> {
+public final class DoubleConverter extends AbstractTypeConverter<Double> {
 
     private final StringConverter stringConverter;
 
@@ -27,13 +25,53 @@ public final class DoubleConverter implements TypeConverter<Double> {
     }
 
     @Override
-    public EdenPair<Boolean, Double> convert(Class clazz, Object objectToConvert) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).doubleValue();
+        }
+
         try {
-            return new EdenPair<>(true, Double.parseDouble(stringConverter.convert(clazz, objectToConvert).second));
+            return Double.parseDouble(stringConverter.convertToString(objectToConvert));
         }
         catch (NumberFormatException e) {
-            return new EdenPair<>(false, 0.0);
+            return FAILED;
+        }
+    }
+
+    @Override
+    protected Double getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return 0.0;
+    }
+
+    /**
+     * Convert to a primitive double. Numbers which {@link #convertsWithoutParsing(Object)} accepts are converted without
+     * boxing, and other values are converted with {@link #convertValue(Class, Object)} and unboxed.
+     *
+     * @param objectToConvert the value to convert
+     * @param fallback the value to return if it cannot be converted
+     * @return the converted value, or the fallback
+     */
+    public double convertToDouble(Object objectToConvert, double fallback) {
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).doubleValue();
         }
+
+        Object result = convertValue(double.class, objectToConvert);
+        return (result != FAILED) ? (Double) result : fallback;
+    }
+
+    /**
+     * @param objectToConvert the value to convert
+     * @return true if the value is a double or an integral number. These are converted directly, instead of being
+     * formatted and parsed as a String, which gives exactly the same result.
+     */
+    public boolean convertsWithoutParsing(Object objectToConvert) {
+        // Floats are left out, as their String representation parses to a different double than widening them
+        return objectToConvert instanceof Double
+                || objectToConvert instanceof Integer
+                || objectToConvert instanceof Long
+                || objectToConvert instanceof Short
+                || objectToConvert instanceof Byte;
     }
 
 }
@@ -10,7 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class FlexibleIterableConverter implements TypeConverter<Iterable> {
+public class FlexibleIterableConverter extends AbstractTypeConverter<Iterable> {
 
     private final FlexibleMapConverter mapConverter;
 
@@ -25,34 +25,47 @@ public class FlexibleIterableConverter implements TypeConverter<Iterable> {
     }
 
     @Override
-    public EdenPair<Boolean, Iterable> convert(Class clazz, Object objectToConvert) {
-        return convert(clazz, objectToConvert, null, null);
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        return convertValue(clazz, objectToConvert, null, null);
     }
 
-    public EdenPair<Boolean, Iterable> convert(Class clazz, Object objectToConvert, String typeKey, String impliedValueKey) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert, String typeKey, String impliedValueKey) {
         if(objectToConvert != null) {
             if (objectToConvert instanceof Iterable) {
-                return new EdenPair<>(true, (Iterable) objectToConvert);
+                return objectToConvert;
             }
             else if (objectToConvert.getClass().isArray()) {
                 List<Object> list = new ArrayList<>();
                 Collections.addAll(list, EdenUtils.box(objectToConvert));
-                return new EdenPair<>(true, (Iterable) list);
+                return list;
             }
             else {
-                EdenPair<Boolean, Map> potentialMap = mapConverter.convert(clazz, objectToConvert);
-                if(potentialMap.first) {
-                    Map<String, Object> actualMap = (Map<String, Object>) potentialMap.second;
-                    List<Object> list = mapToList(clazz, actualMap, typeKey, impliedValueKey);
-                    return new EdenPair<>(true, (Iterable) list);
+                Object potentialMap = mapConverter.convertValue(clazz, objectToConvert);
+                if(potentialMap != FAILED) {
+                    Map<String, Object> actualMap = (Map<String, Object>) potentialMap;
+                    return mapToList(clazz, actualMap, typeKey, impliedValueKey);
                 }
                 else {
-                    return new EdenPair<>(true, (Iterable) Collections.singletonList(objectToConvert));
+                    return Collections.singletonList(objectToConvert);
                 }
             }
         }
 
-        return new EdenPair<>(false, (Iterable) new ArrayList());
+        return FAILED;
+    }
+
+    @Override
+    protected Iterable getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return new ArrayList();
+    }
+
+    public EdenPair<Boolean, Iterable> convert(Class clazz, Object objectToConvert, String typeKey, String impliedValueKey) {
+        Object result = convertValue(clazz, objectToConvert, typeKey, impliedValueKey);
+        if(result != FAILED) {
+            return new EdenPair<>(true, (Iterable) result);
+        }
+
+        return new EdenPair<>(false, getFailedValue(clazz, objectToConvert));
     }
 
     private List<Object> mapToList(Class clazz, Map<String, Object> map, String typeKey, String impliedValueKey) {
@@ -61,9 +74,9 @@ public class FlexibleIterableConverter implements TypeConverter<Iterable> {
         for(String key : map.keySet()) {
             Object item = map.get(key);
 
-            EdenPair<Boolean, Map> potentialMapItem = mapConverter.convert(clazz, item, impliedValueKey);
-            if(potentialMapItem.first) {
-                Map<String, Object> mapItem = new HashMap<>((Map<String, Object>) potentialMapItem.second);
+            Object potentialMapItem = mapConverter.convertValue(clazz, item, impliedValueKey);
+            if(potentialMapItem != FAILED) {
+                Map<String, Object> mapItem = new HashMap<>((Map<String, Object>) potentialMapItem);
                 mapItem.put(typeKey, key);
                 list.add(mapItem);
             }
@@ -9,7 +9,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
-public class FlexibleMapConverter implements TypeConverter<Map> {
+public class FlexibleMapConverter extends AbstractTypeConverter<Map> {
 
     @Inject
     public FlexibleMapConverter() {
@@ -21,27 +21,42 @@ public class FlexibleMapConverter implements TypeConverter<Map> {
     }
 
     @Override
-    public EdenPair<Boolean, Map> convert(Class clazz, Object objectToConvert) {
-        return convert(clazz, objectToConvert, null);
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        return convertValue(clazz, objectToConvert, null);
     }
 
-    public EdenPair<Boolean, Map> convert(Class clazz, Object object, String keyName) {
+    public Object convertValue(Class<?> clazz, Object object, String keyName) {
         if(object != null) {
             if (object instanceof Map) {
-                return new EdenPair<>(true, (Map) object);
+                return object;
             }
             else if(object instanceof JSONObject) {
-                return new EdenPair<>(true, (Map) ((JSONObject) object).toMap());
+                return ((JSONObject) object).toMap();
             }
             else if(!EdenUtils.isEmpty(keyName)) {
-                return new EdenPair<>(true, (Map) Collections.singletonMap(keyName, object));
-            }
-            else {
-                return new EdenPair<>(false, (Map) Collections.singletonMap(null, object));
+                return Collections.singletonMap(keyName, object);
             }
         }
 
-        return new EdenPair<>(false, (Map) new HashMap());
+        return FAILED;
+    }
+
+    @Override
+    protected Map getFailedValue(Class<?> clazz, Object objectToConvert) {
+        if(objectToConvert != null) {
+            return Collections.singletonMap(null, objectToConvert);
+        }
+
+        return new HashMap();
+    }
+
+    public EdenPair<Boolean, Map> convert(Class clazz, Object object, String keyName) {
+        Object result = convertValue(clazz, object, keyName);
+        if(result != FAILED) {
+            return new EdenPair<>(true, (Map) result);
+        }
+
+        return new EdenPair<>(false, getFailedValue(clazz, object));
     }
 
 }
@@ -1,7 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
 
 /**
@@ -12,7 +10,7 @@ import javax.inject.Inject;
  *
  * @since v1.0.0
  */
-public final class FloatConverter implements TypeConverter<Float> {
+public final class FloatConverter extends AbstractTypeConverter<Float> {
 
     private final StringConverter stringConverter;
 
@@ -27,13 +25,53 @@ public final class FloatConverter implements TypeConverter<Float> {
     }
 
     @Override
-    public EdenPair<Boolean, Float> convert(Class clazz, Object objectToConvert) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).floatValue();
+        }
+
         try {
-            return new EdenPair<>(true, Float.parseFloat(stringConverter.convert(clazz, objectToConvert).second));
+            return Float.parseFloat(stringConverter.convertToString(objectToConvert));
         }
         catch (NumberFormatException e) {
-            return new EdenPair<>(false, 0.0f);
+            return FAILED;
+        }
+    }
+
+    @Override
+    protected Float getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return 0.0f;
+    }
+
+    /**
+     * Convert to a primitive float. Numbers which {@link #convertsWithoutParsing(Object)} accepts are converted without
+     * boxing, and other values are converted with {@link #convertValue(Class, Object)} and unboxed.
+     *
+     * @param objectToConvert the value to convert
+     * @param fallback the value to return if it cannot be converted
+     * @return the converted value, or the fallback
+     */
+    public float convertToFloat(Object objectToConvert, float fallback) {
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).floatValue();
         }
+
+        Object result = convertValue(float.class, objectToConvert);
+        return (result != FAILED) ? (Float) result : fallback;
+    }
+
+    /**
+     * @param objectToConvert the value to convert
+     * @return true if the value is a float or an integral number. These are converted directly, instead of being
+     * formatted and parsed as a String, which gives exactly the same result.
+     */
+    public boolean convertsWithoutParsing(Object objectToConvert) {
+        // Doubles are left out, as their String representation may parse to a different float than narrowing them
+        return objectToConvert instanceof Float
+                || objectToConvert instanceof Integer
+                || objectToConvert instanceof Long
+                || objectToConvert instanceof Short
+                || objectToConvert instanceof Byte;
     }
 
 }
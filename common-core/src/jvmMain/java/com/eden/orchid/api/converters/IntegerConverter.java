@@ -1,7 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
 
 /**
@@ -12,7 +10,7 @@ import javax.inject.Inject;
  *
  * @since v1.0.0
  */
-public final class IntegerConverter implements TypeConverter<Integer> {
+public final class IntegerConverter extends AbstractTypeConverter<Integer> {
 
     private final StringConverter stringConverter;
 
@@ -27,13 +25,55 @@ public final class IntegerConverter implements TypeConverter<Integer> {
     }
 
     @Override
-    public EdenPair<Boolean, Integer> convert(Class clazz, Object objectToConvert) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).intValue();
+        }
+
         try {
-            return new EdenPair<>(true, Integer.parseInt(stringConverter.convert(clazz, objectToConvert).second));
+            return Integer.parseInt(stringConverter.convertToString(objectToConvert));
         }
         catch (NumberFormatException e) {
-            return new EdenPair<>(false, 0);
+            return FAILED;
+        }
+    }
+
+    @Override
+    protected Integer getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return 0;
+    }
+
+    /**
+     * Convert to a primitive int. Numbers which {@link #convertsWithoutParsing(Object)} accepts are converted without
+     * boxing, and other values are converted with {@link #convertValue(Class, Object)} and unboxed.
+     *
+     * @param objectToConvert the value to convert
+     * @param fallback the value to return if it cannot be converted
+     * @return the converted value, or the fallback
+     */
+    public int convertToInt(Object objectToConvert, int fallback) {
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).intValue();
+        }
+
+        Object result = convertValue(int.class, objectToConvert);
+        return (result != FAILED) ? (Integer) result : fallback;
+    }
+
+    /**
+     * @param objectToConvert the value to convert
+     * @return true if the value is an integral number which fits in an int. These are converted directly, instead of
+     * being formatted and parsed as a String, which gives exactly the same result.
+     */
+    public boolean convertsWithoutParsing(Object objectToConvert) {
+        if (objectToConvert instanceof Integer || objectToConvert instanceof Short || objectToConvert instanceof Byte) {
+            return true;
+        }
+        if (objectToConvert instanceof Long) {
+            long value = (Long) objectToConvert;
+            return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
         }
+        return false;
     }
 
 }
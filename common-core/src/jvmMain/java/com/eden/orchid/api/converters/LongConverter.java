@@ -1,7 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
 
 /**
@@ -12,7 +10,7 @@ import javax.inject.Inject;
  *
  * @since v1.0.0
  */
-public final class LongConverter implements TypeConverter<Long> {
+public final class LongConverter extends AbstractTypeConverter<Long> {
 
     private final StringConverter stringConverter;
 
@@ -27,13 +25,51 @@ public final class LongConverter implements TypeConverter<Long> {
     }
 
     @Override
-    public EdenPair<Boolean, Long> convert(Class clazz, Object objectToConvert) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).longValue();
+        }
+
         try {
-            return new EdenPair<>(true, Long.parseLong(stringConverter.convert(clazz, objectToConvert).second));
+            return Long.parseLong(stringConverter.convertToString(objectToConvert));
         }
         catch (NumberFormatException e) {
-            return new EdenPair<>(false, 0L);
+            return FAILED;
+        }
+    }
+
+    @Override
+    protected Long getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return 0L;
+    }
+
+    /**
+     * Convert to a primitive long. Numbers which {@link #convertsWithoutParsing(Object)} accepts are converted without
+     * boxing, and other values are converted with {@link #convertValue(Class, Object)} and unboxed.
+     *
+     * @param objectToConvert the value to convert
+     * @param fallback the value to return if it cannot be converted
+     * @return the converted value, or the fallback
+     */
+    public long convertToLong(Object objectToConvert, long fallback) {
+        if (convertsWithoutParsing(objectToConvert)) {
+            return ((Number) objectToConvert).longValue();
         }
+
+        Object result = convertValue(long.class, objectToConvert);
+        return (result != FAILED) ? (Long) result : fallback;
+    }
+
+    /**
+     * @param objectToConvert the value to convert
+     * @return true if the value is an integral number. These are converted directly, instead of being formatted and
+     * parsed as a String, which gives exactly the same result.
+     */
+    public boolean convertsWithoutParsing(Object objectToConvert) {
+        return objectToConvert instanceof Long
+                || objectToConvert instanceof Integer
+                || objectToConvert instanceof Short
+                || objectToConvert instanceof Byte;
     }
 
 }
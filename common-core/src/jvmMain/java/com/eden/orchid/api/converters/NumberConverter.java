@@ -1,7 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
 
 /**
@@ -12,7 +10,7 @@ import javax.inject.Inject;
  *
  * @since v1.0.0
  */
-public final class NumberConverter implements TypeConverter<Number> {
+public final class NumberConverter extends AbstractTypeConverter<Number> {
 
     private final LongConverter longConverter;
     private final DoubleConverter doubleConverter;
@@ -29,19 +27,24 @@ public final class NumberConverter implements TypeConverter<Number> {
     }
 
     @Override
-    public EdenPair<Boolean, Number> convert(Class clazz, Object objectToConvert) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
         if(objectToConvert != null) {
-            EdenPair<Boolean, Long> longValue = longConverter.convert(clazz, objectToConvert);
-            if(longValue.first) {
-                return new EdenPair<>(true, (Number) longValue.second);
+            Object longValue = longConverter.convertValue(clazz, objectToConvert);
+            if(longValue != FAILED) {
+                return longValue;
             }
-            EdenPair<Boolean, Double> doubleValue = doubleConverter.convert(clazz, objectToConvert);
-            if(doubleValue.first) {
-                return new EdenPair<>(true, (Number) doubleValue.second);
+            Object doubleValue = doubleConverter.convertValue(clazz, objectToConvert);
+            if(doubleValue != FAILED) {
+                return doubleValue;
             }
         }
 
-        return new EdenPair<>(false, (Number) 0);
+        return FAILED;
+    }
+
+    @Override
+    protected Number getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return 0;
     }
 
 }
@@ -1,8 +1,9 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
-
 import javax.inject.Inject;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -11,15 +12,44 @@ import java.util.Set;
  * | anything | object.toString() |           |
  * | null     | empty string      |           |
  *
+ * The String is then passed through each {@link StringConverterHelper}. A {@link TemplateStringConverterHelper} is
+ * skipped for strings without any of its trigger characters, and when all helpers are template helpers the most
+ * recently formatted strings are cached until {@link #clearCache()} is called.
+ *
  * @since v1.0.0
  */
-public final class StringConverter implements TypeConverter<String> {
+public final class StringConverter extends AbstractTypeConverter<String> {
 
-    private final Set<StringConverterHelper> helpers;
+    private static final int FORMATTED_CACHE_SIZE = 256;
+
+    private final StringConverterHelper[] helpers;
+    private final String[] triggerCharacters;
+    private final Map<String, String> formattedCache;
 
     @Inject
     public StringConverter(Set<StringConverterHelper> helpers) {
-        this.helpers = helpers;
+        this.helpers = helpers.toArray(new StringConverterHelper[0]);
+        this.triggerCharacters = new String[this.helpers.length];
+
+        boolean allTemplateHelpers = true;
+        for (int i = 0; i < this.helpers.length; i++) {
+            if (this.helpers[i] instanceof TemplateStringConverterHelper) {
+                this.triggerCharacters[i] = ((TemplateStringConverterHelper) this.helpers[i]).getTriggerCharacters();
+            }
+            else {
+                allTemplateHelpers = false;
+            }
+        }
+
+        // results can only be cached when every helper promises to always give the same result for the same input
+        this.formattedCache = (allTemplateHelpers && this.helpers.length > 0)
+                ? Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                        return size() > FORMATTED_CACHE_SIZE;
+                    }
+                })
+                : null;
     }
 
     @Override
@@ -28,18 +58,86 @@ public final class StringConverter implements TypeConverter<String> {
     }
 
     @Override
-    public EdenPair<Boolean, String> convert(Class clazz, Object objectToConvert) {
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        return convertToString(objectToConvert);
+    }
+
+    /**
+     * Convert any value to a String. This never fails, and null is converted to an empty String.
+     *
+     * @param objectToConvert the value to convert
+     * @return the value as a String, after being processed by all matching helpers
+     */
+    public String convertToString(Object objectToConvert) {
         if(objectToConvert != null) {
             String input = objectToConvert.toString();
-            for(StringConverterHelper helper : helpers) {
-                if(helper.matches(input)) {
-                    input = helper.convert(input);
+            if(!isTriggered(input)) {
+                return input;
+            }
+
+            if(formattedCache != null) {
+                String formatted = formattedCache.get(input);
+                if(formatted == null) {
+                    formatted = applyHelpers(input);
+                    formattedCache.put(input, formatted);
                 }
+                return formatted;
+            }
+
+            return applyHelpers(input);
+        }
+        return "";
+    }
+
+    /**
+     * Clear the cached formatted strings. Call this whenever the output of the helpers may have changed for the same
+     * input, such as after Clog's formatter has been reconfigured.
+     * {@link com.eden.orchid.api.options.Extractor#clearCache()} calls this for the StringConverters used by its
+     * extractors.
+     *
+     * @since v3.1.0
+     */
+    public void clearCache() {
+        if(formattedCache != null) {
+            formattedCache.clear();
+        }
+    }
+
+    private String applyHelpers(String input) {
+        for(int i = 0; i < helpers.length; i++) {
+            if(isTriggered(i, input) && helpers[i].matches(input)) {
+                input = helpers[i].convert(input);
             }
+        }
+
+        return input;
+    }
 
-            return new EdenPair<>(true, input);
+    /**
+     * @return true if any of the helpers might change the input. Strings without any trigger characters, such as most
+     * numbers, booleans and enum names, skip all helpers.
+     */
+    private boolean isTriggered(String input) {
+        for(int i = 0; i < helpers.length; i++) {
+            if(isTriggered(i, input)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isTriggered(int helperIndex, String input) {
+        String helperTriggerCharacters = triggerCharacters[helperIndex];
+        if(helperTriggerCharacters == null) {
+            return true;
+        }
+
+        for(int i = 0; i < helperTriggerCharacters.length(); i++) {
+            if(input.indexOf(helperTriggerCharacters.charAt(i)) >= 0) {
+                return true;
+            }
         }
-        return new EdenPair<>(true, "");
+        return false;
     }
 
 }
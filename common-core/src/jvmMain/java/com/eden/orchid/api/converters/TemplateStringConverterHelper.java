@@ -0,0 +1,21 @@
+package com.eden.orchid.api.converters;
+
+/**
+ * A {@link StringConverterHelper} which only ever changes strings containing at least one of its trigger characters,
+ * such as the opening brace of a template expression. The {@link StringConverter} does not call this helper at all for
+ * strings without any of those characters, which is most of them.
+ *
+ * Template helpers must also return the same result for the same input, so that the StringConverter can cache the
+ * formatted results of strings which are converted repeatedly. If a helper's output changes, such as when the template
+ * formatter it uses is replaced, {@link StringConverter#clearCache()} must be called for the new output to be used.
+ *
+ * @since v3.1.0
+ */
+public interface TemplateStringConverterHelper extends StringConverterHelper {
+
+    /**
+     * @return the characters which mark a string as one this helper might change
+     */
+    String getTriggerCharacters();
+
+}
@@ -1,6 +1,5 @@
 package com.eden.orchid.api.converters;
 
-import com.eden.common.util.EdenPair;
 
 import javax.inject.Inject;
 import java.time.LocalDateTime;
@@ -14,7 +13,7 @@ import java.time.LocalTime;
  *
  * @since v1.0.0
  */
-public final class TimeConverter implements TypeConverter<LocalTime> {
+public final class TimeConverter extends AbstractTypeConverter<LocalTime> {
 
     private final DateTimeConverter converter;
 
@@ -29,10 +28,15 @@ public final class TimeConverter implements TypeConverter<LocalTime> {
     }
 
     @Override
-    public EdenPair<Boolean, LocalTime> convert(Class clazz, Object objectToConvert) {
-        EdenPair<Boolean, LocalDateTime> dateTime = converter.convert(clazz, objectToConvert);
+    public Object convertValue(Class<?> clazz, Object objectToConvert) {
+        Object dateTime = converter.convertValue(clazz, objectToConvert);
 
-        return new EdenPair<>(dateTime.first, dateTime.second.toLocalTime());
+        return (dateTime != FAILED) ? ((LocalDateTime) dateTime).toLocalTime() : FAILED;
+    }
+
+    @Override
+    protected LocalTime getFailedValue(Class<?> clazz, Object objectToConvert) {
+        return converter.getFailedValue(clazz, objectToConvert).toLocalTime();
     }
 
 }
@@ -39,9 +39,9 @@ public final class AndroidExtractor {
     private AndroidExtractor() {
     }
 
-    private static Extractor instance;
+    private static volatile Extractor instance;
 
-    public static void initialize(Extractor instance) {
+    public static synchronized void initialize(Extractor instance) {
         if (AndroidExtractor.instance != null) {
             throw new IllegalStateException("AndroidExtractor is already setup!");
         }
@@ -49,25 +49,40 @@ public final class AndroidExtractor {
         AndroidExtractor.instance = instance;
     }
 
+    /**
+     * Get the shared Extractor, creating a default one the first time it is needed if one was not set up with
+     * {@link #initialize(Extractor)}. This is safe to call from multiple threads, which all get the same instance.
+     */
     public static Extractor getInstance() {
-        if (instance == null) {
-            instance = Extractor.builder()
-                    .instanceCreator(new DefaultInstanceCreator())
-                    .extractors(
-                            getExtractors(
-                                    new Provider<Extractor>() {
-                                        @Override
-                                        public Extractor get() {
-                                            return instance;
-                                        }
-                                    },
-                                    null,
-                                    null
-                            )
-                    )
-                    .build();
+        Extractor result = instance;
+        if (result == null) {
+            synchronized (AndroidExtractor.class) {
+                result = instance;
+                if (result == null) {
+                    result = createDefaultInstance();
+                    instance = result;
+                }
+            }
         }
-        return instance;
+        return result;
+    }
+
+    private static Extractor createDefaultInstance() {
+        return Extractor.builder()
+                .instanceCreator(new DefaultInstanceCreator())
+                .extractors(
+                        getExtractors(
+                                new Provider<Extractor>() {
+                                    @Override
+                                    public Extractor get() {
+                                        return instance;
+                                    }
+                                },
+                                null,
+                                null
+                        )
+                )
+                .build();
     }
 
     public static List<OptionExtractor> getExtractors(
@@ -0,0 +1,18 @@
+package com.eden.orchid.api.options;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An {@link OptionArchetype} which loads its options asynchronously, such as by reading them from disk. When an
+ * Extractor is built with `concurrentArchetypes`, `getOptionsAsync` is used instead of `getOptions`, and all the
+ * archetypes of a holder are started before any of their options are waited for. Otherwise, `getOptions` is used as
+ * for any other archetype, so it should return the same options, for example by waiting on `getOptionsAsync`.
+ *
+ * @since v3.1.0
+ */
+public interface AsyncOptionArchetype extends OptionArchetype {
+
+    CompletableFuture<Map<String, Object>> getOptionsAsync(Object target, String archetypeKey);
+
+}
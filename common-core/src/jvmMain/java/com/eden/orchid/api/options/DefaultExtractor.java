@@ -47,9 +47,9 @@ public final class DefaultExtractor {
     private DefaultExtractor() {
     }
 
-    private static Extractor instance;
+    private static volatile Extractor instance;
 
-    public static void initialize(Extractor instance) {
+    public static synchronized void initialize(Extractor instance) {
         if (DefaultExtractor.instance != null) {
             throw new IllegalStateException("DefaultExtractor is already setup!");
         }
@@ -57,25 +57,40 @@ public final class DefaultExtractor {
         DefaultExtractor.instance = instance;
     }
 
+    /**
+     * Get the shared Extractor, creating a default one the first time it is needed if one was not set up with
+     * {@link #initialize(Extractor)}. This is safe to call from multiple threads, which all get the same instance.
+     */
     public static Extractor getInstance() {
-        if (instance == null) {
-            instance = Extractor.builder()
-                    .instanceCreator(new DefaultInstanceCreator())
-                    .extractors(
-                            getExtractors(
-                                    new Provider<Extractor>() {
-                                        @Override
-                                        public Extractor get() {
-                                            return instance;
-                                        }
-                                    },
-                                    null,
-                                    null
-                            )
-                    )
-                    .build();
+        Extractor result = instance;
+        if (result == null) {
+            synchronized (DefaultExtractor.class) {
+                result = instance;
+                if (result == null) {
+                    result = createDefaultInstance();
+                    instance = result;
+                }
+            }
         }
-        return instance;
+        return result;
+    }
+
+    private static Extractor createDefaultInstance() {
+        return Extractor.builder()
+                .instanceCreator(new DefaultInstanceCreator())
+                .extractors(
+                        getExtractors(
+                                new Provider<Extractor>() {
+                                    @Override
+                                    public Extractor get() {
+                                        return instance;
+                                    }
+                                },
+                                null,
+                                null
+                        )
+                )
+                .build();
     }
 
     private static List<OptionExtractor> getExtractors(
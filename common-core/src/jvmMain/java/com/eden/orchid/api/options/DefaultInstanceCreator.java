@@ -1,11 +1,34 @@
 package com.eden.orchid.api.options;
 
+import javax.inject.Provider;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates instances with their no-arg constructors. A class's constructor is looked up once, the first time an instance
+ * of it is needed, and is reused for every instance after that. A class without a usable no-arg constructor is reported
+ * once, and `null` is returned for it from then on. Constructors must be accessible without `setAccessible()`, just as
+ * for `Class.newInstance()`, so private constructors, and non-public constructors or classes in other packages, are not
+ * usable.
+ *
+ * Factories may be registered for classes which cannot be created by their constructor, or which should be created some
+ * other way. Use {@link #validate(Class[])} to check up front that every class you expect to create can be created,
+ * rather than finding out while options are being extracted.
+ */
 public class DefaultInstanceCreator implements InstanceCreator {
 
+    private final ConcurrentMap<Class<?>, Provider<?>> registeredFactories = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Provider<?>> constructorFactories = new ConcurrentHashMap<>();
+
     @Override
     public <T> T getInstance(Class<T> clazz) {
         try {
-            return clazz.newInstance();
+            return clazz.cast(getFactory(clazz).get());
         }
         catch (Exception e) {
             e.printStackTrace();
@@ -13,4 +36,180 @@ public class DefaultInstanceCreator implements InstanceCreator {
         return null;
     }
 
+    /**
+     * Register a factory for a class, which is used instead of its constructor. Registering another factory for the
+     * same class replaces it.
+     *
+     * @param clazz the class to create
+     * @param factory the factory which creates each instance of it
+     * @param <T> the type of instance
+     * @return this instance creator
+     */
+    public <T> DefaultInstanceCreator register(Class<T> clazz, Provider<? extends T> factory) {
+        if (clazz == null) throw new NullPointerException("clazz");
+        if (factory == null) throw new NullPointerException("factory");
+        registeredFactories.put(clazz, factory);
+        return this;
+    }
+
+    /**
+     * Forget every constructor which has been looked up, so classes are not kept loaded by this creator. Registered
+     * factories are kept. This is called by {@link Extractor#clearCache()} for the Extractor's own instance creator.
+     */
+    public void clearCache() {
+        constructorFactories.clear();
+    }
+
+    /**
+     * @param clazz the class to check
+     * @return whether this creator has a factory or a usable no-arg constructor for the class
+     */
+    public boolean canCreate(Class<?> clazz) {
+        return !(getFactory(clazz) instanceof MissingConstructor);
+    }
+
+    /**
+     * Check that every class can be created, and resolve their constructors now so they are ready when needed.
+     *
+     * @param classes the classes to check
+     * @throws IllegalArgumentException listing every class which cannot be created, and why
+     */
+    public void validate(Class<?>... classes) {
+        List<String> problems = new ArrayList<>();
+        for (Class<?> clazz : classes) {
+            Provider<?> factory = getFactory(clazz);
+            if (factory instanceof MissingConstructor) {
+                problems.add(((MissingConstructor) factory).message);
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException("Some classes cannot be created: " + problems);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultInstanceCreator{" +
+                "registeredFactories=" + registeredFactories.keySet() +
+                '}';
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    private Provider<?> getFactory(Class<?> clazz) {
+        Provider<?> factory = registeredFactories.get(clazz);
+        if (factory != null) {
+            return factory;
+        }
+
+        factory = constructorFactories.get(clazz);
+        if (factory == null) {
+            factory = createFactory(clazz);
+            Provider<?> existing = constructorFactories.putIfAbsent(clazz, factory);
+            if (existing != null) {
+                factory = existing;
+            }
+            else if (factory instanceof MissingConstructor) {
+                // only report a missing constructor the first time it is looked up
+                ((MissingConstructor) factory).error.printStackTrace();
+            }
+        }
+        return factory;
+    }
+
+    private static Provider<?> createFactory(Class<?> clazz) {
+        String message = clazz.getName() + " must have a no-arg constructor";
+        if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+            return new MissingConstructor(clazz.getName() + " is abstract", null);
+        }
+        if (clazz.isMemberClass() && !Modifier.isStatic(clazz.getModifiers())) {
+            return new MissingConstructor(clazz.getName() + " is an inner class, and must be static", null);
+        }
+
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            if (!isAccessible(clazz, constructor)) {
+                return new MissingConstructor(message + " which is accessible", null);
+            }
+            return new ConstructorFactory(constructor);
+        }
+        catch (NoSuchMethodException e) {
+            return new MissingConstructor(message, e);
+        }
+        catch (SecurityException e) {
+            return new MissingConstructor(message + " which is accessible", e);
+        }
+    }
+
+    /**
+     * Whether the constructor can be called from this class without `setAccessible()`.
+     */
+    private static boolean isAccessible(Class<?> clazz, Constructor<?> constructor) {
+        boolean samePackage = getPackageName(clazz).equals(getPackageName(DefaultInstanceCreator.class));
+        if (!Modifier.isPublic(clazz.getModifiers()) && !samePackage) {
+            return false;
+        }
+
+        int modifiers = constructor.getModifiers();
+        if (Modifier.isPublic(modifiers)) {
+            return true;
+        }
+        else if (Modifier.isPrivate(modifiers)) {
+            return false;
+        }
+        else {
+            return samePackage;
+        }
+    }
+
+    private static String getPackageName(Class<?> clazz) {
+        String name = clazz.getName();
+        int lastDot = name.lastIndexOf('.');
+        return (lastDot != -1) ? name.substring(0, lastDot) : "";
+    }
+
+    private static final class ConstructorFactory implements Provider<Object> {
+        private final Constructor<?> constructor;
+
+        ConstructorFactory(Constructor<?> constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Object get() {
+            try {
+                return constructor.newInstance();
+            }
+            catch (InvocationTargetException e) {
+                throw new IllegalStateException(
+                        "Could not create " + constructor.getDeclaringClass().getName(),
+                        e.getCause()
+                );
+            }
+            catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(
+                        "Could not create " + constructor.getDeclaringClass().getName(),
+                        e
+                );
+            }
+        }
+    }
+
+    private static final class MissingConstructor implements Provider<Object> {
+        private final String message;
+        private final IllegalArgumentException error;
+
+        MissingConstructor(String message, Exception cause) {
+            this.message = message;
+            this.error = new IllegalArgumentException(message, cause);
+        }
+
+        @Override
+        public Object get() {
+            return null;
+        }
+    }
+
 }
@@ -3,37 +3,99 @@ package com.eden.orchid.api.options;
 import clog.Clog;
 import com.eden.common.util.EdenPair;
 import com.eden.common.util.EdenUtils;
+import com.eden.common.util.MergedMap;
 import com.eden.orchid.api.options.annotations.AllOptions;
 import com.eden.orchid.api.options.annotations.Archetype;
 import com.eden.orchid.api.options.annotations.Archetypes;
 import com.eden.orchid.api.options.annotations.Option;
+import org.json.JSONArray;
+import org.json.JSONObject;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static clog.dsl.UtilsKt.format;
 
 public class Extractor {
 
+    private static final Object NO_EXTRACTOR = new Object();
+
+    private static final int ARCHETYPE_CACHE_SIZE = 256;
+
     private final List<OptionExtractor> extractors;
 
     private final OptionsValidator validator;
 
     private final InstanceCreator instanceCreator;
 
+    private final Executor executor;
+
+    private final boolean reuseArchetypeProviders;
+
+    private final boolean concurrentArchetypes;
+
+    private final ConcurrentMap<Class<?>, OptionsHolderMetadata> metadataCache = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, Object> extractorCache = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Class<?>, List<Archetype>> archetypesCache = new ConcurrentHashMap<>();
+
+    private final Map<List<Object>, OptionArchetype> archetypeProviderCache = createArchetypeCache();
+
+    private final Map<List<Object>, Map<String, Object>> pureArchetypeOptionsCache = createArchetypeCache();
+
+    private final ArchetypeSnapshots archetypeSnapshots = new ArchetypeSnapshots();
+
     public Extractor(
             List<OptionExtractor> extractors,
             OptionsValidator validator,
             InstanceCreator instanceCreator
+    ) {
+        this(extractors, validator, instanceCreator, null);
+    }
+
+    public Extractor(
+            List<OptionExtractor> extractors,
+            OptionsValidator validator,
+            InstanceCreator instanceCreator,
+            Executor executor
+    ) {
+        this(extractors, validator, instanceCreator, executor, false, false);
+    }
+
+    public Extractor(
+            List<OptionExtractor> extractors,
+            OptionsValidator validator,
+            InstanceCreator instanceCreator,
+            Executor executor,
+            boolean reuseArchetypeProviders,
+            boolean concurrentArchetypes
     ) {
         List<OptionExtractor> originalExtractors = new ArrayList<>(extractors);
         Collections.sort(originalExtractors, new Comparator<OptionExtractor>() {
@@ -45,6 +107,9 @@ public class Extractor {
         this.extractors = Collections.unmodifiableList(originalExtractors);
         this.validator = validator;
         this.instanceCreator = (instanceCreator != null) ? instanceCreator : new DefaultInstanceCreator();
+        this.executor = executor;
+        this.reuseArchetypeProviders = reuseArchetypeProviders;
+        this.concurrentArchetypes = concurrentArchetypes;
     }
 
     public static Extractor.ExtractorBuilder builder() {
@@ -54,27 +119,252 @@ public class Extractor {
     public final void extractOptions(Object optionsHolder, Map<String, Object> options) {
         if (optionsHolder == null) throw new NullPointerException("optionsHolder cannot be null");
 
+        extractAllOptions(optionsHolder, options);
+    }
+
+    /**
+     * Extract every option into a holder.
+     *
+     * @return the options given by the holder's archetypes
+     */
+    private Map<String, Object> extractAllOptions(Object optionsHolder, Map<String, Object> options) {
         // setup initial options
         Map<String, Object> initialOptions = (options != null) ? new HashMap<>(options) : new HashMap<String, Object>();
         Map<String, Object> archetypalOptions = loadArchetypalData(optionsHolder, initialOptions);
-
-        Map<String, Object> actualOptions = EdenUtils.merge(archetypalOptions, initialOptions);
+        Map<String, Object> actualOptions = mergeArchetypalOptions(archetypalOptions, initialOptions);
 
         // extract options fields
-        EdenPair<Field, Set<Field>> fields = findOptionFields(optionsHolder.getClass());
+        OptionsHolderMetadata metadata = getMetadata(optionsHolder.getClass());
 
-        if (fields.first != null) {
-            setOptionValue(optionsHolder, fields.first, fields.first.getName(), Map.class, actualOptions);
+        if (metadata.getAllOptionsAccessor() != null) {
+            metadata.getAllOptionsAccessor().set(optionsHolder, actualOptions);
         }
 
-        for (Field field : fields.second) {
-            String fieldOptionKey = (!EdenUtils.isEmpty(field.getAnnotation(Option.class).value()))
-                    ? field.getAnnotation(Option.class).value()
-                    : field.getName();
+        for (OptionsHolderMetadata.OptionField optionField : metadata.getOptionFields()) {
+            setOption(optionsHolder, optionField, actualOptions);
+        }
+
+        validate(optionsHolder);
+
+        return archetypalOptions;
+    }
+
+    /**
+     * Update an options holder which was previously extracted from one set of options, so that it matches another,
+     * setting only the options whose values changed. This gives the same result as calling
+     * {@link #extractOptions(Object, Map)} with the new options.
+     *
+     * The archetypes of a holder are loaded again on every update, even when its options did not change, so changes to
+     * the data they load are picked up too. The options they gave are remembered for each holder, and any option whose
+     * archetypal value changed is also set. The first update of a holder with archetypes, and any update which changes
+     * the configuration of one of its archetypes, extracts every option again. Archetypes must return new Maps rather
+     * than changing the Maps they returned before.
+     *
+     * Nested {@link Extractable} options whose configuration is a Map in both sets of options are not replaced, but are
+     * updated in the same way, and those whose configuration did not change at all are left untouched. JSONObjects and
+     * JSONArrays are compared by their contents.
+     *
+     * @param optionsHolder the options holder to update
+     * @param previousOptions the options it was last extracted from
+     * @param newOptions the options to update it to
+     * @return the keys of the options which were set, which is empty if no options changed
+     * @since v3.1.0
+     */
+    public final Set<String> updateOptions(Object optionsHolder, Map<String, Object> previousOptions, Map<String, Object> newOptions) {
+        if (optionsHolder == null) throw new NullPointerException("optionsHolder cannot be null");
+
+        Map<String, Object> previous = (previousOptions != null) ? previousOptions : Collections.<String, Object>emptyMap();
+        Map<String, Object> current = (newOptions != null) ? newOptions : Collections.<String, Object>emptyMap();
+
+        return updateOptions(optionsHolder, previous, current, findChangedKeys(previous, current));
+    }
+
+    /**
+     * Update an options holder, setting only the options whose keys are known to have changed, and those whose
+     * archetypal values changed. Any nested {@link Extractable} option whose key changed is extracted again.
+     *
+     * @param optionsHolder the options holder to update
+     * @param options all of its current options
+     * @param changedKeys the keys of the options which changed since the holder was last extracted
+     * @return the keys of the options which were set
+     * @see #updateOptions(Object, Map, Map)
+     * @since v3.1.0
+     */
+    public final Set<String> updateOptions(Object optionsHolder, Map<String, Object> options, Collection<String> changedKeys) {
+        if (optionsHolder == null) throw new NullPointerException("optionsHolder cannot be null");
+        if (changedKeys == null) throw new NullPointerException("changedKeys cannot be null");
+
+        return updateOptions(optionsHolder, null, options, new HashSet<>(changedKeys));
+    }
+
+    private Set<String> updateOptions(Object optionsHolder, Map<String, Object> previousOptions, Map<String, Object> options, Set<String> changedKeys) {
+        OptionsHolderMetadata metadata = getMetadata(optionsHolder.getClass());
+        List<Archetype> archetypes = getArchetypes(optionsHolder.getClass());
+
+        Map<String, Object> initialOptions = (options != null) ? new HashMap<>(options) : new HashMap<String, Object>();
+        Map<String, Object> archetypalOptions = Collections.emptyMap();
+
+        if (!archetypes.isEmpty()) {
+            Map<String, Object> previousArchetypalOptions = archetypeSnapshots.get(optionsHolder);
+
+            // without the archetypal options it was last extracted with, or once archetypes are configured differently,
+            // any option may have changed
+            boolean extractEverything = previousArchetypalOptions == null;
+            for (Archetype archetype : archetypes) {
+                if (changedKeys.contains(archetype.key())) {
+                    extractEverything = true;
+                }
+            }
+
+            if (extractEverything) {
+                archetypeSnapshots.put(optionsHolder, new HashMap<>(extractAllOptions(optionsHolder, options)));
+
+                Set<String> updatedKeys = new LinkedHashSet<>();
+                for (OptionsHolderMetadata.OptionField optionField : metadata.getOptionFields()) {
+                    updatedKeys.add(optionField.getKey());
+                }
+                return updatedKeys;
+            }
+
+            archetypalOptions = loadArchetypalData(optionsHolder, initialOptions);
+            Map<String, Object> archetypalSnapshot = new HashMap<>(archetypalOptions);
+            changedKeys.addAll(findChangedKeys(previousArchetypalOptions, archetypalSnapshot));
+            archetypeSnapshots.put(optionsHolder, archetypalSnapshot);
+        }
+
+        if (changedKeys.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Map<String, Object> actualOptions = mergeArchetypalOptions(archetypalOptions, initialOptions);
+
+        if (metadata.getAllOptionsAccessor() != null) {
+            metadata.getAllOptionsAccessor().set(optionsHolder, actualOptions);
+        }
+
+        Set<String> updatedKeys = new LinkedHashSet<>();
+        for (OptionsHolderMetadata.OptionField optionField : metadata.getOptionFields()) {
+            if (changedKeys.contains(optionField.getKey())) {
+                // a nested holder cannot be updated in place if its archetypes also configure it
+                boolean updatedInPlace = previousOptions != null
+                        && archetypalOptions.get(optionField.getKey()) == null
+                        && updateNestedOption(optionsHolder, optionField, previousOptions, initialOptions);
+
+                if (!updatedInPlace) {
+                    setOption(optionsHolder, optionField, actualOptions);
+                }
+                updatedKeys.add(optionField.getKey());
+            }
+        }
+
+        validate(optionsHolder);
+
+        return updatedKeys;
+    }
+
+    /**
+     * Update the Extractable currently held by an option in place, when its configuration is a Map both before and
+     * after the change.
+     */
+    private boolean updateNestedOption(Object optionsHolder, OptionsHolderMetadata.OptionField optionField, Map<String, Object> previousOptions, Map<String, Object> options) {
+        if (!Extractable.class.isAssignableFrom(optionField.getField().getType())) {
+            return false;
+        }
+
+        Map<String, Object> previousConfig = asOptionsMap(previousOptions.get(optionField.getKey()));
+        Map<String, Object> newConfig = asOptionsMap(options.get(optionField.getKey()));
+        if (previousConfig == null || newConfig == null) {
+            return false;
+        }
+
+        Object nestedHolder = optionField.getAccessor().get(optionsHolder);
+        if (!(nestedHolder instanceof Extractable)) {
+            return false;
+        }
+
+        updateOptions(nestedHolder, previousConfig, newConfig, findChangedKeys(previousConfig, newConfig));
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asOptionsMap(Object value) {
+        if (value instanceof Map) {
+            return (Map<String, Object>) value;
+        }
+        else if (value instanceof JSONObject) {
+            return ((JSONObject) value).toMap();
+        }
+        return null;
+    }
 
-            setOption(optionsHolder, field, actualOptions, fieldOptionKey);
+    private static Set<String> findChangedKeys(Map<String, Object> previousOptions, Map<String, Object> newOptions) {
+        Set<String> changedKeys = new HashSet<>();
+        for (Map.Entry<String, Object> entry : newOptions.entrySet()) {
+            if (!previousOptions.containsKey(entry.getKey()) || !optionValuesEqual(previousOptions.get(entry.getKey()), entry.getValue())) {
+                changedKeys.add(entry.getKey());
+            }
+        }
+        for (String key : previousOptions.keySet()) {
+            if (!newOptions.containsKey(key)) {
+                changedKeys.add(key);
+            }
         }
+        return changedKeys;
+    }
 
+    /**
+     * Compare option values by their contents. JSONObjects and JSONArrays only compare equal to themselves with
+     * `equals`, so they are compared with `similar` instead, as are any found inside Maps and Lists.
+     */
+    private static boolean optionValuesEqual(Object previousValue, Object newValue) {
+        if (previousValue == newValue) {
+            return true;
+        }
+        else if (previousValue == null || newValue == null) {
+            return false;
+        }
+        else if (previousValue instanceof JSONObject) {
+            return ((JSONObject) previousValue).similar(newValue);
+        }
+        else if (previousValue instanceof JSONArray) {
+            return ((JSONArray) previousValue).similar(newValue);
+        }
+        else if (previousValue instanceof Map && newValue instanceof Map) {
+            Map<?, ?> previousMap = (Map<?, ?>) previousValue;
+            Map<?, ?> newMap = (Map<?, ?>) newValue;
+            if (previousMap.size() != newMap.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : newMap.entrySet()) {
+                if (!previousMap.containsKey(entry.getKey()) || !optionValuesEqual(previousMap.get(entry.getKey()), entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        else if (previousValue instanceof List && newValue instanceof List) {
+            List<?> previousList = (List<?>) previousValue;
+            List<?> newList = (List<?>) newValue;
+            if (previousList.size() != newList.size()) {
+                return false;
+            }
+            for (int i = 0; i < newList.size(); i++) {
+                if (!optionValuesEqual(previousList.get(i), newList.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return previousValue.equals(newValue);
+    }
+
+    private static Map<String, Object> mergeArchetypalOptions(Map<String, Object> archetypalOptions, Map<String, Object> initialOptions) {
+        return (!archetypalOptions.isEmpty())
+                ? new MergedMap(Arrays.asList(archetypalOptions, initialOptions))
+                : initialOptions;
+    }
+
+    private void validate(Object optionsHolder) {
         if (validator != null) {
             try {
                 validator.validate(optionsHolder);
@@ -82,8 +372,105 @@ public class Extractor {
             catch (Exception e) {
                 Clog.e("{} did not pass validation", optionsHolder);
                 Clog.e(e);
-                throw new IllegalStateException(format(Clog.INSTANCE, "{} did not pass validation", optionsHolder));
+                throw new IllegalStateException(format(Clog.INSTANCE, "{} did not pass validation", optionsHolder), e);
+            }
+        }
+    }
+
+    /**
+     * Extract options into many options holders in parallel, on the executor given to this Extractor's builder, or the
+     * common ForkJoinPool if none was given.
+     *
+     * @param optionsHolders pairs of each options holder and the options to extract into it
+     * @throws IllegalStateException if any of the options holders could not be extracted, after all the others have
+     *                               been. The failure of each holder is added to it as a suppressed exception.
+     * @see #extractAll(Collection, Executor)
+     */
+    public final void extractAll(Collection<? extends EdenPair<?, ? extends Map<String, Object>>> optionsHolders) {
+        extractAll(optionsHolders, (executor != null) ? executor : ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Extract options into many options holders in parallel. Each holder is extracted exactly as by
+     * {@link #extractOptions(Object, Map)}, but a holder failing validation does not stop the others from being
+     * extracted. Instead, all failures are reported together once every holder has been processed.
+     *
+     * The holders are split into batches which are run on the executor, and the calling thread also works through
+     * batches until there are none left, so this never deadlocks even when called from a task on the same executor.
+     *
+     * @param optionsHolders pairs of each options holder and the options to extract into it
+     * @param executor the executor to run batches of extractions on
+     * @throws IllegalStateException if any of the options holders could not be extracted, after all the others have
+     *                               been. The failure of each holder is added to it as a suppressed exception.
+     */
+    public final void extractAll(Collection<? extends EdenPair<?, ? extends Map<String, Object>>> optionsHolders, Executor executor) {
+        if (optionsHolders == null) throw new NullPointerException("optionsHolders cannot be null");
+        if (executor == null) throw new NullPointerException("executor cannot be null");
+        if (optionsHolders.isEmpty()) return;
+
+        final List<EdenPair<?, ? extends Map<String, Object>>> items = new ArrayList<>(optionsHolders);
+        final int parallelism = (executor instanceof ForkJoinPool)
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+
+        // several batches per thread keeps threads busy when some holders take longer than others
+        final int batchSize = Math.max(1, items.size() / (parallelism * 4));
+        final int batchCount = (items.size() + batchSize - 1) / batchSize;
+
+        final AtomicInteger nextBatch = new AtomicInteger();
+        final CountDownLatch batchesFinished = new CountDownLatch(batchCount);
+        final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int batch;
+                while ((batch = nextBatch.getAndIncrement()) < batchCount) {
+                    try {
+                        int end = Math.min(items.size(), (batch + 1) * batchSize);
+                        for (int i = batch * batchSize; i < end; i++) {
+                            try {
+                                extractOptions(items.get(i).first, items.get(i).second);
+                            }
+                            catch (Throwable t) {
+                                failures.add(t);
+                            }
+                        }
+                    }
+                    finally {
+                        batchesFinished.countDown();
+                    }
+                }
+            }
+        };
+
+        for (int i = 0; i < Math.min(parallelism, batchCount) - 1; i++) {
+            try {
+                executor.execute(worker);
+            }
+            catch (RejectedExecutionException e) {
+                // the calling thread will pick up the batches instead
+                break;
+            }
+        }
+        worker.run();
+
+        try {
+            batchesFinished.await();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for options to be extracted", e);
+        }
+
+        if (!failures.isEmpty()) {
+            IllegalStateException exception = new IllegalStateException(
+                    format(Clog.INSTANCE, "{} of {} options holders could not be extracted", failures.size(), items.size())
+            );
+            for (Throwable failure : failures) {
+                exception.addSuppressed(failure);
             }
+            throw exception;
         }
     }
 
@@ -91,23 +478,124 @@ public class Extractor {
         if (optionsHolder == null) throw new NullPointerException("optionsHolder cannot be null");
 
         // extract options fields
-        EdenPair<Field, Set<Field>> fields = findOptionFields(optionsHolder.getClass());
+        OptionsHolderMetadata metadata = getMetadata(optionsHolder.getClass());
 
         Map<String, Object> optionsValues = new HashMap<>();
 
+        for (OptionsHolderMetadata.OptionField optionField : metadata.getOptionFields()) {
+            optionsValues.put(optionField.getKey(), optionField.getAccessor().get(optionsHolder));
+        }
+
+        return optionsValues;
+    }
+
+// Find Options
+//----------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Get the options of a class, including those inherited from its superclasses. The fields, their option keys and
+     * the extractor used for each are resolved the first time a class is seen, and cached for the lifetime of this
+     * Extractor. This method is safe to call from multiple threads.
+     *
+     * @param optionsHolderClass the class to find options for
+     * @return the resolved options metadata for that class
+     */
+    public final OptionsHolderMetadata getMetadata(Class<?> optionsHolderClass) {
+        OptionsHolderMetadata metadata = metadataCache.get(optionsHolderClass);
+        if (metadata == null) {
+            metadata = createMetadata(optionsHolderClass);
+            OptionsHolderMetadata existing = metadataCache.putIfAbsent(optionsHolderClass, metadata);
+            if (existing != null) {
+                metadata = existing;
+            }
+        }
+        return metadata;
+    }
+
+    /**
+     * Clear all option metadata cached by this Extractor, anything cached by its {@link OptionExtractor}s, and the
+     * constructors cached by its instance creator if it is a {@link DefaultInstanceCreator}. Call this when classes may
+     * have been reloaded, such as when a new classloader is used for a rebuild, so that stale Class and Field references
+     * are not retained, or when the formatting of option values has changed.
+     */
+    public void clearCache() {
+        metadataCache.clear();
+        extractorCache.clear();
+        archetypesCache.clear();
+        archetypeProviderCache.clear();
+        pureArchetypeOptionsCache.clear();
+        archetypeSnapshots.clear();
+        for (OptionExtractor<?> extractor : extractors) {
+            extractor.clearCache();
+        }
+        if (instanceCreator instanceof DefaultInstanceCreator) {
+            ((DefaultInstanceCreator) instanceCreator).clearCache();
+        }
+    }
+
+    /**
+     * Find the extractor used for options of a given type. This is the first of the priority-sorted extractors which
+     * accepts that type, and is cached for each type after the first lookup.
+     *
+     * @param optionType the type of the option field
+     * @return the extractor for that type, or null if none of the extractors accept it
+     */
+    public final OptionExtractor<?> findExtractor(Class<?> optionType) {
+        Object extractor = extractorCache.get(optionType);
+        if (extractor == null) {
+            extractor = NO_EXTRACTOR;
+            for (OptionExtractor<?> candidate : extractors) {
+                if (candidate.acceptsClass(optionType)) {
+                    extractor = candidate;
+                    break;
+                }
+            }
+            extractorCache.putIfAbsent(optionType, extractor);
+        }
+
+        return (extractor != NO_EXTRACTOR) ? (OptionExtractor<?>) extractor : null;
+    }
+
+    private OptionsHolderMetadata createMetadata(Class<?> optionsHolderClass) {
+        EdenPair<Field, Set<Field>> fields = findOptionFields(optionsHolderClass);
+        OptionsBinder<Object> optionsBinder = loadOptionsBinder(optionsHolderClass);
+
+        List<OptionsHolderMetadata.OptionField> optionFields = new ArrayList<>();
         for (Field field : fields.second) {
             String fieldOptionKey = (!EdenUtils.isEmpty(field.getAnnotation(Option.class).value()))
                     ? field.getAnnotation(Option.class).value()
                     : field.getName();
 
-            optionsValues.put(fieldOptionKey, getOptionValue(optionsHolder, field, fieldOptionKey));
+            optionFields.add(new OptionsHolderMetadata.OptionField(optionsHolderClass, optionsBinder, field, fieldOptionKey, findExtractor(field.getType())));
         }
 
-        return optionsValues;
+        return new OptionsHolderMetadata(optionsHolderClass, optionsBinder, fields.first, optionFields);
     }
 
-// Find Options
-//----------------------------------------------------------------------------------------------------------------------
+    /**
+     * Load the {@link OptionsBinder} generated for exactly this class, if there is one. It is only ever given instances
+     * of that class, so it is safe to treat it as a binder for any Object.
+     */
+    @SuppressWarnings("unchecked")
+    private OptionsBinder<Object> loadOptionsBinder(Class<?> optionsHolderClass) {
+        try {
+            Class<?> binderClass = Class.forName(
+                    optionsHolderClass.getName() + OptionsBinder.CLASS_NAME_SUFFIX,
+                    true,
+                    optionsHolderClass.getClassLoader()
+            );
+            if (OptionsBinder.class.isAssignableFrom(binderClass)) {
+                return (OptionsBinder<Object>) binderClass.getConstructor().newInstance();
+            }
+        }
+        catch (ClassNotFoundException e) {
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
 
     public final EdenPair<Field, Set<Field>> findOptionFields(Class<?> optionsHolderClass) {
         return findOptionFields(optionsHolderClass, true, true);
@@ -115,7 +603,7 @@ public class Extractor {
 
     public final EdenPair<Field, Set<Field>> findOptionFields(Class<?> optionsHolderClass, boolean includeOwnOptions, boolean includeInheritedOptions) {
         Field optionsDataField = null;
-        Set<Field> fields = new HashSet<>();
+        Set<Field> fields = new LinkedHashSet<>();
 
         int i = 0;
         while (optionsHolderClass != null) {
@@ -155,7 +643,27 @@ public class Extractor {
 // Options Archetypes
 //----------------------------------------------------------------------------------------------------------------------
 
+    /**
+     * Get the archetypes of a class, including those inherited from its superclasses, sorted by their order. The
+     * archetypes of each class are found and sorted the first time it is seen, and cached after that.
+     *
+     * @param optionsHolderClass the class to find archetypes for
+     * @return the sorted archetypes of that class
+     */
     public List<Archetype> getArchetypes(Class<?> optionsHolderClass) {
+        List<Archetype> archetypes = archetypesCache.get(optionsHolderClass);
+        if (archetypes == null) {
+            archetypes = Collections.unmodifiableList(findArchetypes(optionsHolderClass));
+            List<Archetype> existing = archetypesCache.putIfAbsent(optionsHolderClass, archetypes);
+            if (existing != null) {
+                archetypes = existing;
+            }
+        }
+
+        return new ArrayList<>(archetypes);
+    }
+
+    private List<Archetype> findArchetypes(Class<?> optionsHolderClass) {
         List<Archetype> archetypeAnnotations = new ArrayList<>();
 
         while (optionsHolderClass != null) {
@@ -185,197 +693,405 @@ public class Extractor {
     }
 
     public final Map<String, Object> loadArchetypalData(Object target, Map<String, Object> actualOptions) {
-        Map<String, Object> allAdditionalData = new HashMap<>();
+        List<Archetype> archetypes = getArchetypes(target.getClass());
+        List<Map<String, Object>> allAdditionalData = (concurrentArchetypes && archetypes.size() > 1)
+                ? loadArchetypalDataConcurrently(target, archetypes, actualOptions)
+                : loadArchetypalDataSequentially(target, archetypes, actualOptions);
 
-        for (Archetype archetype : getArchetypes(target.getClass())) {
-            OptionArchetype archetypeDataProvider = instanceCreator.getInstance(archetype.value());
+        // archetypes are layered lazily, so only the options which are actually read get merged
+        return new MergedMap(allAdditionalData);
+    }
 
-            Map<String, Object> archetypeConfiguration;
-            if (actualOptions.containsKey(archetype.key())) {
-                Object actualOptionsArchetypeValue = actualOptions.get(archetype.key());
-                if(actualOptionsArchetypeValue instanceof Map) {
-                    archetypeConfiguration = (Map<String, Object>) actualOptionsArchetypeValue;
-                }
-                else {
-                    archetypeConfiguration = Collections.singletonMap(archetype.key(), actualOptionsArchetypeValue);
-                }
-            }
-            else {
-                archetypeConfiguration = new HashMap<>();
-            }
+    private List<Map<String, Object>> loadArchetypalDataSequentially(Object target, List<Archetype> archetypes, Map<String, Object> actualOptions) {
+        List<Map<String, Object>> allAdditionalData = new ArrayList<>();
 
-            this.extractOptions(archetypeDataProvider, archetypeConfiguration);
-            Map<String, Object> archetypalData = archetypeDataProvider.getOptions(target, archetype.key());
+        for (Archetype archetype : archetypes) {
+            Map<String, Object> archetypeConfiguration = getArchetypeConfiguration(archetype, actualOptions);
+
+            List<Object> optionsCacheKey = getPureOptionsCacheKey(archetype, archetypeConfiguration);
+            Map<String, Object> archetypalData = getCachedPureOptions(optionsCacheKey);
+            if (archetypalData == null) {
+                archetypalData = getArchetypeProvider(archetype, archetypeConfiguration).getOptions(target, archetype.key());
+                cachePureOptions(optionsCacheKey, archetypalData);
+            }
 
             if (archetypalData != null) {
-                allAdditionalData = EdenUtils.merge(allAdditionalData, archetypalData);
+                allAdditionalData.add(archetypalData);
             }
         }
 
         return allAdditionalData;
     }
 
-// Set option values
-//----------------------------------------------------------------------------------------------------------------------
-
-    public final void setOption(Object optionsHolder, Field field, Map<String, Object> options, String key) {
-        boolean foundExtractor = false;
-        for (OptionExtractor extractor : extractors) {
-            if (extractor.acceptsClass(field.getType())) {
-
-                Object sourceObject = null;
-                Object resultObject = null;
-
-                if (options.containsKey(key)) {
-                    sourceObject = options.get(key);
-                    resultObject = extractor.getOption(field, sourceObject, key);
-                    if (extractor.isEmptyValue(resultObject)) {
-                        resultObject = extractor.getDefaultValue(field);
-                    }
+    /**
+     * Start every archetype at once, then collect their options in order. {@link AsyncOptionArchetype}s run on their
+     * own, and other archetypes are run on this Extractor's executor. The calling thread runs any archetype which has
+     * not been started by the time its options are needed, so this never deadlocks, even when the executor is busy
+     * running the holders themselves in {@link #extractAll(Collection)}.
+     */
+    private List<Map<String, Object>> loadArchetypalDataConcurrently(Object target, List<Archetype> archetypes, Map<String, Object> actualOptions) {
+        Executor archetypeExecutor = (executor != null) ? executor : ForkJoinPool.commonPool();
+        List<List<Object>> optionsCacheKeys = new ArrayList<>(archetypes.size());
+        List<ArchetypeTask> tasks = new ArrayList<>(archetypes.size());
+
+        // providers are created and configured on the calling thread, and only loading their options is concurrent
+        for (Archetype archetype : archetypes) {
+            Map<String, Object> archetypeConfiguration = getArchetypeConfiguration(archetype, actualOptions);
+
+            List<Object> optionsCacheKey = getPureOptionsCacheKey(archetype, archetypeConfiguration);
+            Map<String, Object> cachedOptions = getCachedPureOptions(optionsCacheKey);
+
+            ArchetypeTask task;
+            if (cachedOptions != null) {
+                task = new ArchetypeTask(CompletableFuture.completedFuture(cachedOptions));
+            }
+            else {
+                OptionArchetype archetypeDataProvider = getArchetypeProvider(archetype, archetypeConfiguration);
+                if (archetypeDataProvider instanceof AsyncOptionArchetype) {
+                    task = new ArchetypeTask(((AsyncOptionArchetype) archetypeDataProvider).getOptionsAsync(target, archetype.key()));
                 }
                 else {
-                    resultObject = extractor.getDefaultValue(field);
+                    task = new ArchetypeTask(archetypeDataProvider, target, archetype.key());
+                    try {
+                        archetypeExecutor.execute(task);
+                    }
+                    catch (RejectedExecutionException e) {
+                        // the calling thread will run it instead
+                    }
                 }
+            }
 
-                setOptionValue(optionsHolder, field, key, field.getType(), resultObject);
-                foundExtractor = true;
-                break;
+            optionsCacheKeys.add((cachedOptions == null) ? optionsCacheKey : null);
+            tasks.add(task);
+        }
+
+        List<Map<String, Object>> allAdditionalData = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Map<String, Object> archetypalData = tasks.get(i).getOptions();
+            cachePureOptions(optionsCacheKeys.get(i), archetypalData);
+
+            if (archetypalData != null) {
+                allAdditionalData.add(archetypalData);
             }
         }
 
-        if (!foundExtractor) {
-            setOptionValue(optionsHolder, field, key, field.getType(), null);
+        return allAdditionalData;
+    }
+
+    private Map<String, Object> getArchetypeConfiguration(Archetype archetype, Map<String, Object> actualOptions) {
+        if (actualOptions.containsKey(archetype.key())) {
+            Object actualOptionsArchetypeValue = actualOptions.get(archetype.key());
+            if(actualOptionsArchetypeValue instanceof Map) {
+                return (Map<String, Object>) actualOptionsArchetypeValue;
+            }
+            else {
+                return Collections.singletonMap(archetype.key(), actualOptionsArchetypeValue);
+            }
+        }
+        else {
+            return new HashMap<>();
         }
     }
 
-    public final void setOptionValue(Object optionsHolder, Field field, String key, Class<?> objectClass, Object value) {
-        try {
-            String setterMethodName = "set" + key.substring(0, 1).toUpperCase() + key.substring(1);
-            Method method = optionsHolder.getClass().getMethod(setterMethodName, objectClass);
-            method.invoke(optionsHolder, value);
-            return;
+    /**
+     * The options of a {@link PureOptionArchetype} are cached by its archetype key and configuration, and its provider
+     * is only created and configured once for each configuration. Providers of other archetypes are reused in the same
+     * way if this Extractor was built with `reuseArchetypeProviders`, but are still asked for the options of each
+     * target.
+     */
+    private List<Object> getPureOptionsCacheKey(Archetype archetype, Map<String, Object> archetypeConfiguration) {
+        if (!PureOptionArchetype.class.isAssignableFrom(archetype.value())) {
+            return null;
         }
-        catch (NoSuchMethodException e) {
+        // copy the configuration, so later changes to the options it came from cannot change the cache key
+        return Arrays.<Object>asList(archetype.value(), archetype.key(), new HashMap<>(archetypeConfiguration));
+    }
+
+    /**
+     * Cached options are copied both when they are cached and each time they are handed out, so that changing the
+     * options of one holder, or any Map or Collection nested in them, cannot change the options of every other holder
+     * with the same archetype. The archetype itself still only runs once.
+     */
+    private Map<String, Object> getCachedPureOptions(List<Object> optionsCacheKey) {
+        Map<String, Object> cachedOptions = (optionsCacheKey != null) ? pureArchetypeOptionsCache.get(optionsCacheKey) : null;
+        return (cachedOptions != null) ? copyOptions(cachedOptions) : null;
+    }
+
+    private void cachePureOptions(List<Object> optionsCacheKey, Map<String, Object> archetypalData) {
+        if (optionsCacheKey != null) {
+            pureArchetypeOptionsCache.put(optionsCacheKey, (archetypalData != null) ? copyOptions(archetypalData) : Collections.<String, Object>emptyMap());
         }
-        catch (Exception e) {
-            e.printStackTrace();
+    }
+
+    private static Map<String, Object> copyOptions(Map<String, ?> options) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        for (Map.Entry<String, ?> entry : options.entrySet()) {
+            copy.put(entry.getKey(), copyOptionValue(entry.getValue()));
         }
+        return copy;
+    }
 
-        try {
-            field.set(optionsHolder, value);
-            return;
+    private static Object copyOptionValue(Object value) {
+        if (value instanceof Map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                copy.put(entry.getKey(), copyOptionValue(entry.getValue()));
+            }
+            return copy;
         }
-        catch (IllegalAccessException e) {
+        else if (value instanceof Collection) {
+            Collection<Object> copy = (value instanceof Set) ? new LinkedHashSet<>() : new ArrayList<>();
+            for (Object item : (Collection<?>) value) {
+                copy.add(copyOptionValue(item));
+            }
+            return copy;
         }
-        catch (Exception e) {
-            e.printStackTrace();
+        else if (value instanceof JSONObject) {
+            JSONObject source = (JSONObject) value;
+            JSONObject copy = new JSONObject();
+            for (String key : source.keySet()) {
+                copy.put(key, copyOptionValue(source.opt(key)));
+            }
+            return copy;
         }
-
-        Clog.e("Options field {} in class {} is inaccessible. Make sure the field is public or has a bean-style setter method", key, optionsHolder.getClass().getSimpleName());
+        else if (value instanceof JSONArray) {
+            JSONArray source = (JSONArray) value;
+            JSONArray copy = new JSONArray();
+            for (int i = 0; i < source.length(); i++) {
+                copy.put(copyOptionValue(source.opt(i)));
+            }
+            return copy;
+        }
+        return value;
     }
 
-// Get option values
-//----------------------------------------------------------------------------------------------------------------------
+    private OptionArchetype getArchetypeProvider(Archetype archetype, Map<String, Object> archetypeConfiguration) {
+        if (!reuseArchetypeProviders && !PureOptionArchetype.class.isAssignableFrom(archetype.value())) {
+            return createArchetypeProvider(archetype, archetypeConfiguration);
+        }
 
-    public final Object getOptionValue(Object optionsHolder, Field field, String key) {
-        try {
-            String getterMethodName = "get" + key.substring(0, 1).toUpperCase() + key.substring(1);
-            Method method = optionsHolder.getClass().getMethod(getterMethodName);
-            return method.invoke(optionsHolder);
+        List<Object> providerCacheKey = Arrays.<Object>asList(archetype.value(), new HashMap<>(archetypeConfiguration));
+        OptionArchetype archetypeDataProvider = archetypeProviderCache.get(providerCacheKey);
+        if (archetypeDataProvider == null) {
+            archetypeDataProvider = createArchetypeProvider(archetype, archetypeConfiguration);
+            archetypeProviderCache.put(providerCacheKey, archetypeDataProvider);
         }
-        catch (NoSuchMethodException e) {
+        return archetypeDataProvider;
+    }
+
+    private OptionArchetype createArchetypeProvider(Archetype archetype, Map<String, Object> archetypeConfiguration) {
+        OptionArchetype archetypeDataProvider = instanceCreator.getInstance(archetype.value());
+        this.extractOptions(archetypeDataProvider, archetypeConfiguration);
+        return archetypeDataProvider;
+    }
+
+    /**
+     * Loads the options of one archetype in {@link #loadArchetypalDataConcurrently(Object, List, Map)}, either from a
+     * future, or by running a synchronous archetype exactly once, on whichever thread gets to it first.
+     */
+    private static final class ArchetypeTask implements Runnable {
+        private final CompletableFuture<Map<String, Object>> result;
+        private final OptionArchetype archetypeDataProvider;
+        private final Object target;
+        private final String archetypeKey;
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        ArchetypeTask(CompletableFuture<Map<String, Object>> result) {
+            this.result = result;
+            this.archetypeDataProvider = null;
+            this.target = null;
+            this.archetypeKey = null;
+            this.started.set(true);
         }
-        catch (Exception e) {
-            e.printStackTrace();
+
+        ArchetypeTask(OptionArchetype archetypeDataProvider, Object target, String archetypeKey) {
+            this.result = new CompletableFuture<>();
+            this.archetypeDataProvider = archetypeDataProvider;
+            this.target = target;
+            this.archetypeKey = archetypeKey;
         }
 
-        // boolean getters have special naming conventions
-        if (field.getType().equals(Boolean.class) || field.getType().equals(boolean.class)) {
-            try {
-                String getterMethodName = "is" + key.substring(0, 1).toUpperCase() + key.substring(1);
-                Method method = optionsHolder.getClass().getMethod(getterMethodName);
-                return method.invoke(optionsHolder);
-            }
-            catch (NoSuchMethodException e) {
-            }
-            catch (Exception e) {
-                e.printStackTrace();
+        @Override
+        public void run() {
+            if (started.compareAndSet(false, true)) {
+                try {
+                    result.complete(archetypeDataProvider.getOptions(target, archetypeKey));
+                }
+                catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
             }
+        }
 
+        Map<String, Object> getOptions() {
+            run();
             try {
-                String getterMethodName = "has" + key.substring(0, 1).toUpperCase() + key.substring(1);
-                Method method = optionsHolder.getClass().getMethod(getterMethodName);
-                return method.invoke(optionsHolder);
+                return result.join();
             }
-            catch (NoSuchMethodException e) {
-            }
-            catch (Exception e) {
-                e.printStackTrace();
+            catch (CompletionException e) {
+                // rethrow the archetype's own exception, as if it had been called directly
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                else if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e;
             }
         }
+    }
 
-        // also allow for fluent getters
-        try {
-            String getterMethodName = key;
-            Method method = optionsHolder.getClass().getMethod(getterMethodName);
-            return method.invoke(optionsHolder);
-        }
-        catch (NoSuchMethodException e) {
-        }
-        catch (Exception e) {
-            e.printStackTrace();
+    /**
+     * The archetypal options each holder was last updated with by {@link #updateOptions(Object, Map, Map)}. Holders
+     * are compared by identity, since their `equals` may depend on the options being updated, and are only weakly held.
+     */
+    private static final class ArchetypeSnapshots {
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private final Map<HolderReference, Map<String, Object>> snapshots = new HashMap<>();
+
+        synchronized Map<String, Object> get(Object optionsHolder) {
+            purge();
+            return snapshots.get(new HolderReference(optionsHolder, null));
         }
 
-        // allow for generic map-like get(String) methods
-        try {
-            Method method = optionsHolder.getClass().getMethod("get", String.class);
-            return method.invoke(optionsHolder, key);
-        }
-        catch (NoSuchMethodException e) {
+        synchronized void put(Object optionsHolder, Map<String, Object> archetypalOptions) {
+            purge();
+            snapshots.put(new HolderReference(optionsHolder, queue), archetypalOptions);
         }
-        catch (Exception e) {
-            e.printStackTrace();
+
+        synchronized void clear() {
+            purge();
+            snapshots.clear();
         }
 
-        // fallback to direct field access
-        try {
-            return field.get(optionsHolder);
+        private void purge() {
+            Reference<?> reference;
+            while ((reference = queue.poll()) != null) {
+                snapshots.remove(reference);
+            }
         }
-        catch (IllegalAccessException e) {
+    }
+
+    private static final class HolderReference extends WeakReference<Object> {
+        private final int hash;
+
+        HolderReference(Object optionsHolder, ReferenceQueue<Object> queue) {
+            super(optionsHolder, queue);
+            this.hash = System.identityHashCode(optionsHolder);
         }
-        catch (Exception e) {
-            e.printStackTrace();
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
 
-        Clog.e("Options field {} in class {} is inaccessible. Make sure the field is public or has a bean-style getter method", key, optionsHolder.getClass().getSimpleName());
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof HolderReference)) return false;
+            Object optionsHolder = get();
+            return optionsHolder != null && optionsHolder == ((HolderReference) o).get();
+        }
+    }
 
-        return null;
+    private static <V> Map<List<Object>, V> createArchetypeCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<List<Object>, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, V> eldest) {
+                return size() > ARCHETYPE_CACHE_SIZE;
+            }
+        });
     }
 
-// Description
+// Set option values
 //----------------------------------------------------------------------------------------------------------------------
 
-    public String describeOption(Class<?> optionsHolderClass, String optionKey) {
-        EdenPair<Field, Set<Field>> fields = findOptionFields(optionsHolderClass, true, true);
+    public final void setOption(Object optionsHolder, Field field, Map<String, Object> options, String key) {
+        OptionsHolderMetadata.OptionField optionField = getMetadata(optionsHolder.getClass()).getOptionField(key);
+        if (optionField != null && field.equals(optionField.getField())) {
+            setOption(optionsHolder, optionField, options);
+            return;
+        }
 
-        Field optionField = null;
-        for (Field field : fields.second) {
-            String fieldOptionKey = (!EdenUtils.isEmpty(field.getAnnotation(Option.class).value()))
-                    ? field.getAnnotation(Option.class).value()
-                    : field.getName();
+        setOption(optionsHolder, field, findExtractor(field.getType()), options, key);
+    }
 
-            if (fieldOptionKey.equals(optionKey)) {
-                optionField = field;
-                break;
+    private void setOption(Object optionsHolder, OptionsHolderMetadata.OptionField optionField, Map<String, Object> options) {
+        // numbers and booleans can be written to primitive fields without boxing them or parsing their String value
+        PrimitiveOptionExtractor primitiveExtractor = optionField.getPrimitiveExtractor();
+        if (primitiveExtractor != null) {
+            Object sourceObject = options.get(optionField.getKey());
+            if (sourceObject != null) {
+                try {
+                    if (primitiveExtractor.setPrimitiveOption(optionsHolder, optionField.getField(), sourceObject)) {
+                        return;
+                    }
+                }
+                catch (Exception e) {
+                    e.printStackTrace();
+                }
             }
         }
 
-        if (optionField != null) {
-            for (OptionExtractor extractor : extractors) {
-                if (extractor.acceptsClass(optionField.getType())) {
-                    return extractor.describeDefaultValue(optionField);
+        OptionAccessor accessor = optionField.getAccessor();
+        accessor.set(optionsHolder, getOptionResult(optionField.getField(), optionField.getExtractor(), options, optionField.getKey(), optionField));
+    }
+
+    private void setOption(Object optionsHolder, Field field, OptionExtractor<?> extractor, Map<String, Object> options, String key) {
+        setOptionValue(optionsHolder, field, key, field.getType(), getOptionResult(field, extractor, options, key, null));
+    }
+
+    /**
+     * Extract an option's value, falling back to its default. The default is taken from the option field when it is
+     * known, so defaults which can be reused are only computed once.
+     */
+    private <T> Object getOptionResult(Field field, OptionExtractor<T> extractor, Map<String, Object> options, String key, OptionsHolderMetadata.OptionField optionField) {
+        if (extractor != null) {
+            if (options.containsKey(key)) {
+                Object sourceObject = options.get(key);
+                T resultObject = extractor.getOption(field, sourceObject, key);
+                if (!extractor.isEmptyValue(resultObject)) {
+                    return resultObject;
                 }
             }
+
+            return getDefaultValue(field, extractor, optionField);
+        }
+        else {
+            return null;
+        }
+    }
+
+    private Object getDefaultValue(Field field, OptionExtractor<?> extractor, OptionsHolderMetadata.OptionField optionField) {
+        if (optionField != null) {
+            return optionField.getDefaultValue();
+        }
+        return extractor.getDefaultValue(field);
+    }
+
+    public final void setOptionValue(Object optionsHolder, Field field, String key, Class<?> objectClass, Object value) {
+        getAccessor(optionsHolder.getClass(), field, key, objectClass).set(optionsHolder, value);
+    }
+
+    private OptionAccessor getAccessor(Class<?> optionsHolderClass, Field field, String key, Class<?> objectClass) {
+        return getMetadata(optionsHolderClass).getAccessor(field, key, objectClass);
+    }
+
+// Get option values
+//----------------------------------------------------------------------------------------------------------------------
+
+    public final Object getOptionValue(Object optionsHolder, Field field, String key) {
+        return getAccessor(optionsHolder.getClass(), field, key, field.getType()).get(optionsHolder);
+    }
+
+// Description
+//----------------------------------------------------------------------------------------------------------------------
+
+    public String describeOption(Class<?> optionsHolderClass, String optionKey) {
+        OptionsHolderMetadata.OptionField optionField = getMetadata(optionsHolderClass).getOptionField(optionKey);
+
+        if (optionField != null && optionField.getExtractor() != null) {
+            return optionField.describeDefaultValue();
         }
 
         return "";
@@ -393,10 +1109,34 @@ public class Extractor {
         return this.instanceCreator;
     }
 
+    /**
+     * @return the executor used by {@link #extractAll(Collection)}, or null if it uses the common ForkJoinPool
+     */
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * @return whether archetype providers are reused for archetypes with the same configuration
+     */
+    public boolean isReuseArchetypeProviders() {
+        return this.reuseArchetypeProviders;
+    }
+
+    /**
+     * @return whether the archetypes of each holder are loaded concurrently
+     */
+    public boolean isConcurrentArchetypes() {
+        return this.concurrentArchetypes;
+    }
+
     public static class ExtractorBuilder {
         private ArrayList<OptionExtractor> extractors;
         private OptionsValidator validator;
         private InstanceCreator instanceCreator;
+        private Executor executor;
+        private boolean reuseArchetypeProviders;
+        private boolean concurrentArchetypes;
 
         ExtractorBuilder() {
         }
@@ -429,6 +1169,32 @@ public class Extractor {
             return this;
         }
 
+        public Extractor.ExtractorBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Reuse the provider of each archetype for all holders which give it the same configuration, rather than
+         * creating and configuring a new provider for each holder. Only enable this if every archetype used with this
+         * Extractor keeps no state other than its options, and can be called from several threads at once.
+         * {@link PureOptionArchetype}s are always reused.
+         */
+        public Extractor.ExtractorBuilder reuseArchetypeProviders(boolean reuseArchetypeProviders) {
+            this.reuseArchetypeProviders = reuseArchetypeProviders;
+            return this;
+        }
+
+        /**
+         * Load all the archetypes of each holder at once, rather than one after another. {@link AsyncOptionArchetype}s
+         * load their own options asynchronously, and other archetypes are run on this Extractor's executor, or the
+         * common ForkJoinPool. Options are still layered in the order of the archetypes, however long each one takes.
+         */
+        public Extractor.ExtractorBuilder concurrentArchetypes(boolean concurrentArchetypes) {
+            this.concurrentArchetypes = concurrentArchetypes;
+            return this;
+        }
+
         public Extractor build() {
             List<OptionExtractor> extractors;
             switch (this.extractors == null ? 0 : this.extractors.size()) {
@@ -442,11 +1208,11 @@ public class Extractor {
                     extractors = Collections.unmodifiableList(new ArrayList<OptionExtractor>(this.extractors));
             }
 
-            return new Extractor(extractors, validator, instanceCreator);
+            return new Extractor(extractors, validator, instanceCreator, executor, reuseArchetypeProviders, concurrentArchetypes);
         }
 
         public String toString() {
-            return "Extractor.ExtractorBuilder(extractors=" + this.extractors + ", validator=" + this.validator + ", instanceCreator=" + this.instanceCreator + ")";
+            return "Extractor.ExtractorBuilder(extractors=" + this.extractors + ", validator=" + this.validator + ", instanceCreator=" + this.instanceCreator + ", executor=" + this.executor + ", reuseArchetypeProviders=" + this.reuseArchetypeProviders + ", concurrentArchetypes=" + this.concurrentArchetypes + ")";
         }
     }
 }
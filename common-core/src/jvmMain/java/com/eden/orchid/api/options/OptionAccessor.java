@@ -0,0 +1,219 @@
+package com.eden.orchid.api.options;
+
+import clog.Clog;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The setter and getters used to access a single option on an options holder class. All methods are looked up once,
+ * when the accessor is created, so that setting and getting values never needs to search for methods by name or
+ * handle a {@link NoSuchMethodException}.
+ *
+ * The setter is a public bean-style `set[Key]` method taking the option's type, falling back to direct field access.
+ * The getters are, in order, a public `get[Key]()` method, `is[Key]()` and `has[Key]()` for boolean options, a fluent
+ * `[key]()` method, a map-like `get(String)` method, and finally direct field access.
+ *
+ * When the options holder class has a generated {@link OptionsBinder} which can bind this option, the binder is used
+ * instead, and the reflective setter and getters are only used if it fails.
+ *
+ * Methods are held as {@link Method}s rather than converted to {@code MethodHandle}s. A handle kept in an instance field
+ * is not a constant the JIT can inline through, so calling it is no faster than calling a cached Method; generated
+ * binders are the way to avoid reflective calls entirely.
+ */
+final class OptionAccessor {
+
+    private final Class<?> optionsHolderClass;
+    private final Field field;
+    private final String key;
+    private final boolean isAllOptions;
+    private final OptionsBinder<Object> binder;
+    private final boolean binderSets;
+    private final boolean binderGets;
+    private final Method setter;
+    private final Method[] getters;
+    private final boolean[] gettersTakeKey;
+
+    private OptionAccessor(
+            Class<?> optionsHolderClass,
+            Field field,
+            String key,
+            boolean isAllOptions,
+            OptionsBinder<Object> binder,
+            Method setter,
+            Method[] getters) {
+        this.optionsHolderClass = optionsHolderClass;
+        this.field = field;
+        this.key = key;
+        this.isAllOptions = isAllOptions;
+        this.binder = binder;
+        this.binderSets = (binder != null) && ((isAllOptions) ? binder.canSetAllOptions() : binder.canSetOptionValue(key));
+        this.binderGets = (binder != null) && !isAllOptions && binder.canGetOptionValue(key);
+        this.setter = setter;
+        this.getters = getters;
+        this.gettersTakeKey = new boolean[getters.length];
+        for (int i = 0; i < getters.length; i++) {
+            this.gettersTakeKey[i] = getters[i].getParameterTypes().length == 1;
+        }
+    }
+
+    static OptionAccessor create(Class<?> optionsHolderClass, Field field, String key, Class<?> valueClass) {
+        return create(optionsHolderClass, null, field, key, valueClass);
+    }
+
+    static OptionAccessor createForAllOptions(Class<?> optionsHolderClass, OptionsBinder<Object> binder, Field field) {
+        return create(optionsHolderClass, binder, field, field.getName(), Map.class, true);
+    }
+
+    static OptionAccessor create(Class<?> optionsHolderClass, OptionsBinder<Object> binder, Field field, String key, Class<?> valueClass) {
+        return create(optionsHolderClass, binder, field, key, valueClass, false);
+    }
+
+    private static OptionAccessor create(Class<?> optionsHolderClass, OptionsBinder<Object> binder, Field field, String key, Class<?> valueClass, boolean isAllOptions) {
+        Method[] methods = optionsHolderClass.getMethods();
+        String capitalizedKey = key.substring(0, 1).toUpperCase() + key.substring(1);
+
+        Method setter = findMethod(methods, "set" + capitalizedKey, valueClass);
+
+        List<Method> getters = new ArrayList<>();
+        addMethod(getters, findMethod(methods, "get" + capitalizedKey));
+
+        // boolean getters have special naming conventions
+        if (field.getType().equals(Boolean.class) || field.getType().equals(boolean.class)) {
+            addMethod(getters, findMethod(methods, "is" + capitalizedKey));
+            addMethod(getters, findMethod(methods, "has" + capitalizedKey));
+        }
+
+        // also allow for fluent getters
+        addMethod(getters, findMethod(methods, key));
+
+        // allow for generic map-like get(String) methods
+        addMethod(getters, findMethod(methods, "get", String.class));
+
+        return new OptionAccessor(optionsHolderClass, field, key, isAllOptions, binder, setter, getters.toArray(new Method[0]));
+    }
+
+    /**
+     * @return true if values are set by writing the field directly with reflection, rather than through a setter method
+     * or a generated binder
+     */
+    boolean setsFieldDirectly() {
+        return !binderSets
+                && setter == null
+                && Modifier.isPublic(field.getModifiers())
+                && !Modifier.isFinal(field.getModifiers())
+                && Modifier.isPublic(field.getDeclaringClass().getModifiers());
+    }
+
+    @SuppressWarnings("unchecked")
+    void set(Object optionsHolder, Object value) {
+        if (binderSets) {
+            try {
+                if (isAllOptions) {
+                    binder.setAllOptions(optionsHolder, (Map<String, Object>) value);
+                }
+                else {
+                    binder.setOptionValue(optionsHolder, key, value);
+                }
+                return;
+            }
+            catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        if (setter != null) {
+            try {
+                setter.invoke(optionsHolder, value);
+                return;
+            }
+            catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        try {
+            field.set(optionsHolder, value);
+            return;
+        }
+        catch (IllegalAccessException e) {
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        Clog.e("Options field {} in class {} is inaccessible. Make sure the field is public or has a bean-style setter method", key, optionsHolderClass.getSimpleName());
+    }
+
+    Object get(Object optionsHolder) {
+        if (binderGets) {
+            try {
+                return binder.getOptionValue(optionsHolder, key);
+            }
+            catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        for (int i = 0; i < getters.length; i++) {
+            try {
+                return (gettersTakeKey[i])
+                        ? getters[i].invoke(optionsHolder, key)
+                        : getters[i].invoke(optionsHolder);
+            }
+            catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        // fallback to direct field access
+        try {
+            return field.get(optionsHolder);
+        }
+        catch (IllegalAccessException e) {
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        Clog.e("Options field {} in class {} is inaccessible. Make sure the field is public or has a bean-style getter method", key, optionsHolderClass.getSimpleName());
+
+        return null;
+    }
+
+    private static Method findMethod(Method[] methods, String name, Class<?>... parameterTypes) {
+        Method found = null;
+        for (Method method : methods) {
+            if (method.getName().equals(name) && matchesParameters(method.getParameterTypes(), parameterTypes)) {
+                // prefer the most specific return type, as Class.getMethod() does
+                if (found == null || found.getReturnType().isAssignableFrom(method.getReturnType())) {
+                    found = method;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static boolean matchesParameters(Class<?>[] actual, Class<?>[] expected) {
+        if (actual.length != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < actual.length; i++) {
+            if (!actual[i].equals(expected[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addMethod(List<Method> methods, Method method) {
+        if (method != null) {
+            methods.add(method);
+        }
+    }
+
+}
@@ -28,6 +28,42 @@ public abstract class OptionExtractor<T> extends Prioritized {
         return null;
     }
 
+    /**
+     * Whether the default value of a field can be computed once and reused, instead of calling
+     * {@link #getDefaultValue(Field)} every time the option is missing. Defaults which change over time, or which are
+     * expensive to copy, should not be reused. Extractors must opt in to this.
+     *
+     * @param field the option field
+     * @return true if {@link #copyDefaultValue(Field, Object)} can be used to get this field's default value
+     * @since v3.1.0
+     */
+    public boolean isDefaultValueReusable(Field field) {
+        return false;
+    }
+
+    /**
+     * Get the default value for a field from the value previously computed by {@link #getDefaultValue(Field)}. Immutable
+     * values may be returned as-is, but a mutable value must be copied so that options holders do not share it.
+     *
+     * @param field the option field
+     * @param defaultValue the precomputed default value for that field
+     * @return the value to set on the field
+     * @since v3.1.0
+     */
+    public T copyDefaultValue(Field field, T defaultValue) {
+        return defaultValue;
+    }
+
+    /**
+     * Clear anything this extractor has cached. This is called by {@link Extractor#clearCache()}, and does nothing by
+     * default.
+     *
+     * @since v3.1.0
+     */
+    public void clearCache() {
+
+    }
+
     public String describeDefaultValue(Field field) {
         T value = getDefaultValue(field);
 
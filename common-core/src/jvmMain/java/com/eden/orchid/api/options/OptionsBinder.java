@@ -0,0 +1,58 @@
+package com.eden.orchid.api.options;
+
+import java.util.Map;
+
+/**
+ * Sets and gets the options of a single options holder class directly, without reflection. Binders are generated at
+ * compile time by the `common-processor` annotation processor, as a class named by appending
+ * {@link #CLASS_NAME_SUFFIX} to the binary name of the options holder class, such as `com.example.Page$$OptionsBinder`
+ * or `com.example.Outer$Inner$$OptionsBinder`.
+ *
+ * The {@link Extractor} loads the binder for an options holder class when it first resolves the class's
+ * {@link OptionsHolderMetadata}, and uses it for every option it is able to bind. Options it cannot bind, or classes
+ * without a generated binder, are set and read through reflection as usual. Converting values and applying default
+ * values is still done by the Extractor's {@link OptionExtractor}s, so a binder only ever receives the final value.
+ *
+ * A binder only replaces reflective reads and writes of option values. Discovering a class's option fields, computing
+ * their defaults, and resolving archetypes, implied keys and option descriptions all still use reflection, once per
+ * class when its metadata is first resolved. Defaults and descriptions come from each OptionExtractor, which works from
+ * the option's Field, so they are not part of the binder. The processor registers the classes this reflection needs in
+ * a generated native-image configuration instead.
+ *
+ * @param <T> the options holder class
+ * @since v3.1.0
+ */
+public interface OptionsBinder<T> {
+
+    String CLASS_NAME_SUFFIX = "$$OptionsBinder";
+
+    /**
+     * @return true if this binder can set the field annotated with
+     * {@link com.eden.orchid.api.options.annotations.AllOptions}
+     */
+    boolean canSetAllOptions();
+
+    /**
+     * @throws IllegalStateException if {@link #canSetAllOptions()} is false
+     */
+    void setAllOptions(T optionsHolder, Map<String, Object> allOptions);
+
+    /**
+     * @param key the option key, as given in the {@link com.eden.orchid.api.options.annotations.Option} annotation or
+     *            the field name
+     * @return true if this binder can set the option with that key
+     */
+    boolean canSetOptionValue(String key);
+
+    void setOptionValue(T optionsHolder, String key, Object value);
+
+    /**
+     * @param key the option key, as given in the {@link com.eden.orchid.api.options.annotations.Option} annotation or
+     *            the field name
+     * @return true if this binder can get the value of the option with that key
+     */
+    boolean canGetOptionValue(String key);
+
+    Object getOptionValue(T optionsHolder, String key);
+
+}
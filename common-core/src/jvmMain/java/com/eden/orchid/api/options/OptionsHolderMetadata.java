@@ -0,0 +1,245 @@
+package com.eden.orchid.api.options;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The options of a single options holder class, resolved once from its class hierarchy and cached by the
+ * {@link Extractor} that created it. Instances are immutable and safe to share between threads, apart from the
+ * accessors for fields which are not options of this class, which are created the first time they are used.
+ *
+ * @since v3.1.0
+ */
+public final class OptionsHolderMetadata {
+
+    private final Class<?> optionsHolderClass;
+    private final OptionsBinder<Object> optionsBinder;
+    private final Field allOptionsField;
+    private final OptionAccessor allOptionsAccessor;
+    private final List<OptionField> optionFields;
+    private final Map<String, OptionField> optionFieldsByKey;
+    private final ConcurrentMap<AccessorKey, OptionAccessor> otherAccessors = new ConcurrentHashMap<>();
+
+    OptionsHolderMetadata(Class<?> optionsHolderClass, OptionsBinder<Object> optionsBinder, Field allOptionsField, List<OptionField> optionFields) {
+        this.optionsHolderClass = optionsHolderClass;
+        this.optionsBinder = optionsBinder;
+        this.allOptionsField = allOptionsField;
+        this.allOptionsAccessor = (allOptionsField != null)
+                ? OptionAccessor.createForAllOptions(optionsHolderClass, optionsBinder, allOptionsField)
+                : null;
+        this.optionFields = Collections.unmodifiableList(optionFields);
+
+        Map<String, OptionField> optionFieldsByKey = new HashMap<>();
+        for (OptionField optionField : optionFields) {
+            if (!optionFieldsByKey.containsKey(optionField.getKey())) {
+                optionFieldsByKey.put(optionField.getKey(), optionField);
+            }
+        }
+        this.optionFieldsByKey = Collections.unmodifiableMap(optionFieldsByKey);
+    }
+
+    public Class<?> getOptionsHolderClass() {
+        return this.optionsHolderClass;
+    }
+
+    /**
+     * @return the binder generated for this class by the annotation processor, or null if this class does not have one
+     * and its options are accessed through reflection
+     */
+    public OptionsBinder<Object> getOptionsBinder() {
+        return this.optionsBinder;
+    }
+
+    /**
+     * @return the field annotated with {@link com.eden.orchid.api.options.annotations.AllOptions}, or null if there
+     * is no such field
+     */
+    public Field getAllOptionsField() {
+        return this.allOptionsField;
+    }
+
+    public List<OptionField> getOptionFields() {
+        return this.optionFields;
+    }
+
+    /**
+     * @param key the option key, as given in the {@link com.eden.orchid.api.options.annotations.Option} annotation or
+     *            the field name
+     * @return the option field for that key, or null if this class has no such option
+     */
+    public OptionField getOptionField(String key) {
+        return this.optionFieldsByKey.get(key);
+    }
+
+    OptionAccessor getAllOptionsAccessor() {
+        return this.allOptionsAccessor;
+    }
+
+    /**
+     * Find the cached accessor for a field of this class, if one was resolved for that field, key and value type.
+     */
+    OptionAccessor findAccessor(Field field, String key, Class<?> valueClass) {
+        if (allOptionsAccessor != null && valueClass.equals(Map.class) && field.equals(allOptionsField) && key.equals(allOptionsField.getName())) {
+            return allOptionsAccessor;
+        }
+
+        OptionField optionField = optionFieldsByKey.get(key);
+        if (optionField != null && valueClass.equals(field.getType()) && field.equals(optionField.getField())) {
+            return optionField.getAccessor();
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the accessor for a field of this class, creating and caching it if the field, key and value type are not
+     * one of this class's resolved options.
+     */
+    OptionAccessor getAccessor(Field field, String key, Class<?> valueClass) {
+        OptionAccessor accessor = findAccessor(field, key, valueClass);
+        if (accessor != null) {
+            return accessor;
+        }
+
+        AccessorKey accessorKey = new AccessorKey(field, key, valueClass);
+        accessor = otherAccessors.get(accessorKey);
+        if (accessor == null) {
+            accessor = OptionAccessor.create(optionsHolderClass, field, key, valueClass);
+            OptionAccessor existing = otherAccessors.putIfAbsent(accessorKey, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+        return accessor;
+    }
+
+    private static final class AccessorKey {
+        private final Field field;
+        private final String key;
+        private final Class<?> valueClass;
+
+        AccessorKey(Field field, String key, Class<?> valueClass) {
+            this.field = field;
+            this.key = key;
+            this.valueClass = valueClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof AccessorKey)) return false;
+            AccessorKey that = (AccessorKey) o;
+            return field.equals(that.field) && key.equals(that.key) && valueClass.equals(that.valueClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * field.hashCode() + key.hashCode()) + valueClass.hashCode();
+        }
+    }
+
+    public static final class OptionField {
+        private static final Object UNRESOLVED = new Object();
+
+        private final Field field;
+        private final String key;
+        private final OptionExtractor<?> extractor;
+        private final OptionAccessor accessor;
+        private final PrimitiveOptionExtractor primitiveExtractor;
+        private final boolean defaultValueReusable;
+
+        // resolved the first time they are needed, since computing a default may need the Extractor being set up
+        private volatile Object defaultValue = UNRESOLVED;
+        private volatile String defaultValueDescription;
+
+        OptionField(Class<?> optionsHolderClass, OptionsBinder<Object> optionsBinder, Field field, String key, OptionExtractor<?> extractor) {
+            this.field = field;
+            this.key = key;
+            this.extractor = extractor;
+            this.accessor = OptionAccessor.create(optionsHolderClass, optionsBinder, field, key, field.getType());
+            this.primitiveExtractor = (extractor instanceof PrimitiveOptionExtractor && field.getType().isPrimitive() && accessor.setsFieldDirectly())
+                    ? (PrimitiveOptionExtractor) extractor
+                    : null;
+            this.defaultValueReusable = extractor != null && extractor.isDefaultValueReusable(field);
+        }
+
+        public Field getField() {
+            return this.field;
+        }
+
+        public String getKey() {
+            return this.key;
+        }
+
+        /**
+         * @return the highest-priority extractor accepting this field's type, or null if none of them do
+         */
+        public OptionExtractor<?> getExtractor() {
+            return this.extractor;
+        }
+
+        OptionAccessor getAccessor() {
+            return this.accessor;
+        }
+
+        /**
+         * @return the extractor which can write values directly to this primitive field, or null if this option is
+         * always set with a boxed value
+         */
+        PrimitiveOptionExtractor getPrimitiveExtractor() {
+            return this.primitiveExtractor;
+        }
+
+        /**
+         * @return this option's default value, which is computed once and copied if its extractor allows the default
+         * to be reused, or computed every time otherwise
+         */
+        @SuppressWarnings("unchecked")
+        Object getDefaultValue() {
+            if (extractor == null) {
+                return null;
+            }
+            if (!defaultValueReusable) {
+                return extractor.getDefaultValue(field);
+            }
+
+            Object value = this.defaultValue;
+            if (value == UNRESOLVED) {
+                // computing the same default twice is harmless, so no locking is needed
+                value = extractor.getDefaultValue(field);
+                this.defaultValue = value;
+            }
+            return ((OptionExtractor<Object>) extractor).copyDefaultValue(field, value);
+        }
+
+        /**
+         * @return the description of this option's default value, which is only computed once if the default can be
+         * reused
+         */
+        String describeDefaultValue() {
+            if (extractor == null) {
+                return "";
+            }
+            if (!defaultValueReusable) {
+                return extractor.describeDefaultValue(field);
+            }
+
+            String description = this.defaultValueDescription;
+            if (description == null) {
+                description = extractor.describeDefaultValue(field);
+                this.defaultValueDescription = description;
+            }
+            return description;
+        }
+
+        public String toString() {
+            return "OptionsHolderMetadata.OptionField(field=" + this.field + ", key=" + this.key + ", extractor=" + this.extractor + ")";
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.eden.orchid.api.options;
+
+import java.lang.reflect.Field;
+
+/**
+ * An {@link OptionExtractor} for a primitive type, which can write some source values directly to a primitive field
+ * with {@link Field#setInt(Object, int)} and friends, without boxing the value or allocating intermediate objects.
+ *
+ * The {@link Extractor} only uses this for primitive fields which it would otherwise set directly through reflection,
+ * that is, fields which are public and have no bean-style setter method or generated {@link OptionsBinder}.
+ *
+ * @since v3.1.0
+ */
+public interface PrimitiveOptionExtractor {
+
+    /**
+     * Write the source value to the primitive field, if it can be converted without going through
+     * {@link OptionExtractor#getOption(Field, Object, String)}.
+     *
+     * @param optionsHolder the object to set the option on
+     * @param field the primitive field to set
+     * @param sourceObject the value of the option
+     * @return true if the field was set, false if the option must be extracted as usual
+     * @throws IllegalAccessException if the field is not accessible
+     */
+    boolean setPrimitiveOption(Object optionsHolder, Field field, Object sourceObject) throws IllegalAccessException;
+
+}
@@ -0,0 +1,16 @@
+package com.eden.orchid.api.options;
+
+/**
+ * An {@link OptionArchetype} which declares that the options it returns depend only on its own configuration and the
+ * archetype key, and not on the target they are loaded for. The Extractor then creates and configures a provider only
+ * once for each distinct configuration, and caches its options by archetype key and configuration, so every holder
+ * sharing the same archetype chain reuses the same result.
+ *
+ * Cached options are shared between holders, so they must not be modified by the archetype after they are returned.
+ * A pure archetype may be called from several threads at once.
+ *
+ * @since v3.1.0
+ */
+public interface PureOptionArchetype extends OptionArchetype {
+
+}
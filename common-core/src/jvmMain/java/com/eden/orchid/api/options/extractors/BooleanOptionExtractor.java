@@ -1,8 +1,9 @@
 package com.eden.orchid.api.options.extractors;
 
-import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.converters.AbstractTypeConverter;
 import com.eden.orchid.api.converters.BooleanConverter;
 import com.eden.orchid.api.options.OptionExtractor;
+import com.eden.orchid.api.options.PrimitiveOptionExtractor;
 import com.eden.orchid.api.options.annotations.BooleanDefault;
 
 import javax.inject.Inject;
@@ -18,7 +19,7 @@ import java.lang.reflect.Field;
  *
  * @since v1.0.0
  */
-public final class BooleanOptionExtractor extends OptionExtractor<Boolean> {
+public final class BooleanOptionExtractor extends OptionExtractor<Boolean> implements PrimitiveOptionExtractor {
 
     private final BooleanConverter converter;
 
@@ -35,8 +36,17 @@ public final class BooleanOptionExtractor extends OptionExtractor<Boolean> {
 
     @Override
     public Boolean getOption(Field field, Object sourceObject, String key) {
-        EdenPair<Boolean, Boolean> result = converter.convert(field.getType(), sourceObject);
-        return (result.first) ? result.second : null;
+        Object result = converter.convertValue(field.getType(), sourceObject);
+        return (result != AbstractTypeConverter.FAILED) ? (Boolean) result : null;
+    }
+
+    @Override
+    public boolean setPrimitiveOption(Object optionsHolder, Field field, Object sourceObject) throws IllegalAccessException {
+        if (converter.convertsWithoutParsing(sourceObject)) {
+            field.setBoolean(optionsHolder, converter.convertToBoolean(sourceObject, false));
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -50,6 +60,11 @@ public final class BooleanOptionExtractor extends OptionExtractor<Boolean> {
         return false;
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        return true;
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         return Boolean.toString(getDefaultValue(field));
@@ -1,8 +1,9 @@
 package com.eden.orchid.api.options.extractors;
 
-import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.converters.AbstractTypeConverter;
 import com.eden.orchid.api.converters.DoubleConverter;
 import com.eden.orchid.api.options.OptionExtractor;
+import com.eden.orchid.api.options.PrimitiveOptionExtractor;
 import com.eden.orchid.api.options.annotations.DoubleDefault;
 
 import javax.inject.Inject;
@@ -26,7 +27,7 @@ import java.lang.reflect.Field;
  *
  * @since v1.0.0
  */
-public final class DoubleOptionExtractor extends OptionExtractor<Double> {
+public final class DoubleOptionExtractor extends OptionExtractor<Double> implements PrimitiveOptionExtractor {
 
     private final DoubleConverter converter;
 
@@ -43,8 +44,17 @@ public final class DoubleOptionExtractor extends OptionExtractor<Double> {
 
     @Override
     public Double getOption(Field field, Object sourceObject, String key) {
-        EdenPair<Boolean, Double> result = converter.convert(field.getType(), sourceObject);
-        return (result.first) ? result.second : null;
+        Object result = converter.convertValue(field.getType(), sourceObject);
+        return (result != AbstractTypeConverter.FAILED) ? (Double) result : null;
+    }
+
+    @Override
+    public boolean setPrimitiveOption(Object optionsHolder, Field field, Object sourceObject) throws IllegalAccessException {
+        if (converter.convertsWithoutParsing(sourceObject)) {
+            field.setDouble(optionsHolder, converter.convertToDouble(sourceObject, 0.0));
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -58,6 +68,11 @@ public final class DoubleOptionExtractor extends OptionExtractor<Double> {
         return 0.0;
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        return true;
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         return Double.toString(getDefaultValue(field));
@@ -24,10 +24,15 @@ public class EnumOptionExtractor extends OptionExtractor<Object> {
 
     @Override
     public Object getOption(Field field, Object sourceObject, String key) {
-        String converted = converter.convert(field.getType(), sourceObject).second;
+        String converted = converter.convertToString(sourceObject);
         return getEnumValue(field.getType(), converted);
     }
 
+    @Override
+    public void clearCache() {
+        converter.clearCache();
+    }
+
     @Override
     public boolean isEmptyValue(Object value) {
         return value == null;
@@ -52,6 +57,11 @@ public class EnumOptionExtractor extends OptionExtractor<Object> {
         return null;
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        return true;
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         Object value = getDefaultValue(field);
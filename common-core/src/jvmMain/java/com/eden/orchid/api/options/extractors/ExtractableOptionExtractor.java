@@ -66,4 +66,11 @@ public final class ExtractableOptionExtractor extends OptionExtractor<Extractabl
         return holder;
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        // each options holder needs its own default holder, which cannot be copied. Extracting it is still cheap, since
+        // the default holder's own options reuse their defaults.
+        return false;
+    }
+
 }
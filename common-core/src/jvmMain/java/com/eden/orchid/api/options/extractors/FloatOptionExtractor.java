@@ -1,8 +1,9 @@
 package com.eden.orchid.api.options.extractors;
 
-import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.converters.AbstractTypeConverter;
 import com.eden.orchid.api.converters.FloatConverter;
 import com.eden.orchid.api.options.OptionExtractor;
+import com.eden.orchid.api.options.PrimitiveOptionExtractor;
 import com.eden.orchid.api.options.annotations.FloatDefault;
 
 import javax.inject.Inject;
@@ -26,7 +27,7 @@ import java.lang.reflect.Field;
  *
  * @since v1.0.0
  */
-public final class FloatOptionExtractor extends OptionExtractor<Float> {
+public final class FloatOptionExtractor extends OptionExtractor<Float> implements PrimitiveOptionExtractor {
 
     private final FloatConverter converter;
 
@@ -43,8 +44,17 @@ public final class FloatOptionExtractor extends OptionExtractor<Float> {
 
     @Override
     public Float getOption(Field field, Object sourceObject, String key) {
-        EdenPair<Boolean, Float> result = converter.convert(field.getType(), sourceObject);
-        return (result.first) ? result.second : null;
+        Object result = converter.convertValue(field.getType(), sourceObject);
+        return (result != AbstractTypeConverter.FAILED) ? (Float) result : null;
+    }
+
+    @Override
+    public boolean setPrimitiveOption(Object optionsHolder, Field field, Object sourceObject) throws IllegalAccessException {
+        if (converter.convertsWithoutParsing(sourceObject)) {
+            field.setFloat(optionsHolder, converter.convertToFloat(sourceObject, 0.0f));
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -58,6 +68,11 @@ public final class FloatOptionExtractor extends OptionExtractor<Float> {
         return 0.0f;
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        return true;
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         return Float.toString(getDefaultValue(field));
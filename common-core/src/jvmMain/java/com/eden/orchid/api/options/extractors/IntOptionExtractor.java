@@ -1,8 +1,9 @@
 package com.eden.orchid.api.options.extractors;
 
-import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.converters.AbstractTypeConverter;
 import com.eden.orchid.api.converters.IntegerConverter;
 import com.eden.orchid.api.options.OptionExtractor;
+import com.eden.orchid.api.options.PrimitiveOptionExtractor;
 import com.eden.orchid.api.options.annotations.IntDefault;
 
 import javax.inject.Inject;
@@ -26,7 +27,7 @@ import java.lang.reflect.Field;
  *
  * @since v1.0.0
  */
-public final class IntOptionExtractor extends OptionExtractor<Integer> {
+public final class IntOptionExtractor extends OptionExtractor<Integer> implements PrimitiveOptionExtractor {
 
     private final IntegerConverter converter;
 
@@ -43,8 +44,17 @@ public final class IntOptionExtractor extends OptionExtractor<Integer> {
 
     @Override
     public Integer getOption(Field field, Object sourceObject, String key) {
-        EdenPair<Boolean, Integer> result = converter.convert(field.getType(), sourceObject);
-        return (result.first) ? result.second : null;
+        Object result = converter.convertValue(field.getType(), sourceObject);
+        return (result != AbstractTypeConverter.FAILED) ? (Integer) result : null;
+    }
+
+    @Override
+    public boolean setPrimitiveOption(Object optionsHolder, Field field, Object sourceObject) throws IllegalAccessException {
+        if (converter.convertsWithoutParsing(sourceObject)) {
+            field.setInt(optionsHolder, converter.convertToInt(sourceObject, 0));
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -58,6 +68,11 @@ public final class IntOptionExtractor extends OptionExtractor<Integer> {
         return 0;
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        return true;
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         return Integer.toString(getDefaultValue(field));
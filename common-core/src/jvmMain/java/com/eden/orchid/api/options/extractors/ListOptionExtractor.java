@@ -1,6 +1,7 @@
 package com.eden.orchid.api.options.extractors;
 
 import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.converters.AbstractTypeConverter;
 import com.eden.orchid.api.converters.Converters;
 import com.eden.orchid.api.converters.FlexibleIterableConverter;
 import com.eden.orchid.api.converters.FlexibleMapConverter;
@@ -20,6 +21,7 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -101,10 +103,10 @@ public final class ListOptionExtractor extends OptionExtractor<List> {
             EdenPair<Boolean, Iterable> valueAsIterable = iterableConverter.convert(field.getType(), sourceObject);
 
             for(Object item : valueAsIterable.second) {
-                EdenPair<Boolean, ?> converted = converters.convert(item, listClass);
+                Object converted = converters.convertValue(item, listClass);
 
-                if(converted.first) {
-                    list.add(converted.second);
+                if(converted != AbstractTypeConverter.FAILED) {
+                    list.add(converted);
                 }
             }
         }
@@ -202,6 +204,23 @@ public final class ListOptionExtractor extends OptionExtractor<List> {
         return new ArrayList();
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        if(!(field.getGenericType() instanceof ParameterizedType)) {
+            return false;
+        }
+        Type listType = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+
+        // a default list of Extractables is made of new holders, which cannot be copied
+        return listType instanceof Class && !Extractable.class.isAssignableFrom((Class<?>) listType);
+    }
+
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public List copyDefaultValue(Field field, List defaultValue) {
+        return new ArrayList<>(defaultValue);
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         List<?> value = getDefaultValue(field);
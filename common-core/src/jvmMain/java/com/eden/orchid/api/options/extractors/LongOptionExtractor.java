@@ -1,8 +1,9 @@
 package com.eden.orchid.api.options.extractors;
 
-import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.converters.AbstractTypeConverter;
 import com.eden.orchid.api.converters.LongConverter;
 import com.eden.orchid.api.options.OptionExtractor;
+import com.eden.orchid.api.options.PrimitiveOptionExtractor;
 import com.eden.orchid.api.options.annotations.LongDefault;
 
 import javax.inject.Inject;
@@ -26,7 +27,7 @@ import java.lang.reflect.Field;
  *
  * @since v1.0.0
  */
-public final class LongOptionExtractor extends OptionExtractor<Long> {
+public final class LongOptionExtractor extends OptionExtractor<Long> implements PrimitiveOptionExtractor {
 
     private final LongConverter converter;
 
@@ -43,8 +44,17 @@ public final class LongOptionExtractor extends OptionExtractor<Long> {
 
     @Override
     public Long getOption(Field field, Object sourceObject, String key) {
-        EdenPair<Boolean, Long> result = converter.convert(field.getType(), sourceObject);
-        return (result.first) ? result.second : null;
+        Object result = converter.convertValue(field.getType(), sourceObject);
+        return (result != AbstractTypeConverter.FAILED) ? (Long) result : null;
+    }
+
+    @Override
+    public boolean setPrimitiveOption(Object optionsHolder, Field field, Object sourceObject) throws IllegalAccessException {
+        if (converter.convertsWithoutParsing(sourceObject)) {
+            field.setLong(optionsHolder, converter.convertToLong(sourceObject, 0L));
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -58,6 +68,11 @@ public final class LongOptionExtractor extends OptionExtractor<Long> {
         return 0L;
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        return true;
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         return Long.toString(getDefaultValue(field));
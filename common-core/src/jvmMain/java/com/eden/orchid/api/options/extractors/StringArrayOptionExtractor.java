@@ -1,6 +1,7 @@
 package com.eden.orchid.api.options.extractors;
 
 import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.converters.AbstractTypeConverter;
 import com.eden.orchid.api.converters.Converters;
 import com.eden.orchid.api.converters.FlexibleIterableConverter;
 import com.eden.orchid.api.options.OptionExtractor;
@@ -55,10 +56,10 @@ public final class StringArrayOptionExtractor extends OptionExtractor<String[]>
         Class<?> arrayClass = field.getType().getComponentType();
 
         for(Object item : value.second) {
-            EdenPair<Boolean, ?> converted = converters.convert(item, arrayClass);
+            Object converted = converters.convertValue(item, arrayClass);
 
-            if(converted.first) {
-                list.add(converted.second);
+            if(converted != AbstractTypeConverter.FAILED) {
+                list.add(converted);
             }
         }
 
@@ -78,6 +79,16 @@ public final class StringArrayOptionExtractor extends OptionExtractor<String[]>
         return new String[0];
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        return true;
+    }
+
+    @Override
+    public String[] copyDefaultValue(Field field, String[] defaultValue) {
+        return defaultValue.clone();
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         String[] value = getDefaultValue(field);
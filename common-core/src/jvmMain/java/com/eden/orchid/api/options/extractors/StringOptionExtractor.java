@@ -35,7 +35,12 @@ public final class StringOptionExtractor extends OptionExtractor<String> {
 
     @Override
     public String getOption(Field field, Object sourceObject, String key) {
-        return converter.convert(field.getType(), sourceObject).second;
+        return converter.convertToString(sourceObject);
+    }
+
+    @Override
+    public void clearCache() {
+        converter.clearCache();
     }
 
     @Override
@@ -54,6 +59,11 @@ public final class StringOptionExtractor extends OptionExtractor<String> {
         return "";
     }
 
+    @Override
+    public boolean isDefaultValueReusable(Field field) {
+        return true;
+    }
+
     @Override
     public String describeDefaultValue(Field field) {
         String value = getDefaultValue(field);
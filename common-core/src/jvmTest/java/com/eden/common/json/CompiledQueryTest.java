@@ -0,0 +1,105 @@
+package com.eden.common.json;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class CompiledQueryTest {
+
+    private JSONObject document;
+    private JSONElement underTest;
+
+    @BeforeEach
+    void setupTest() {
+        document = new JSONObject(
+                "{" +
+                "  a: {b: 'c', list: ['x', {y: 'z'}], nothing: null}," +
+                "  'a/b': 1," +
+                "  'a~b': 2," +
+                "  '': 3," +
+                "  number: 4," +
+                "  flag: true" +
+                "}"
+        );
+        underTest = new JSONElement(document);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "a", "/a", "a.b", "/a/b", ".a.b", "a/b", "a.b.c", "a.missing", "missing.b",
+            "a.list", "a.list.0", "a.list.1.y", "a/list/+1/y", "a.list.01", "a.list.-0", "a.list.-1", "a.list.2",
+            "a.list. 1", "a.list.99999999999", "a.list.x", "a.nothing", "a.nothing.b",
+            "/a~1b", "a~0b", "/", "", "a.", "a//b", "number", "number.x", "flag", "#"
+    })
+    public void testMatchesJsonPointer(String pointer) {
+        JSONElement result = underTest.query(pointer);
+        JSONElement expected = jsonPointerQuery(pointer);
+
+        if (expected == null) {
+            assertThat(result, is(nullValue()));
+        }
+        else {
+            assertThat(result, is(notNullValue()));
+            assertThat(result.getElement(), is(sameInstance(expected.getElement())));
+        }
+    }
+
+    @Test
+    public void testCompiledQueriesAreCached() {
+        CompiledQuery query = CompiledQuery.compile("a.b");
+
+        assertThat(CompiledQuery.compile("a.b"), is(sameInstance(query)));
+        assertThat(query.getQuery(), is(equalTo("a.b")));
+        assertThat(underTest.query(query).getElement(), is(equalTo((Object) "c")));
+        assertThat(query.evaluate(new JSONArray()), is(nullValue()));
+        assertThat(query.evaluate("not a container"), is(nullValue()));
+    }
+
+    @Test
+    public void testQueryAll() {
+        JSONElement[] results = underTest.queryAll("a.b", "a.list.1.y", "a.missing", "a.list.0", "number", "", "a");
+
+        assertThat(results.length, is(equalTo(7)));
+        assertThat(results[0].getElement(), is(equalTo((Object) "c")));
+        assertThat(results[1].getElement(), is(equalTo((Object) "z")));
+        assertThat(results[2], is(nullValue()));
+        assertThat(results[3].getElement(), is(equalTo((Object) "x")));
+        assertThat(results[4].getElement(), is(equalTo((Object) 4)));
+        assertThat(results[5], is(nullValue()));
+        assertThat(results[6].getElement(), is(sameInstance((Object) document.getJSONObject("a"))));
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    /**
+     * How queries were evaluated before they were compiled, by converting them to a JSONPointer.
+     */
+    private JSONElement jsonPointerQuery(String pointer) {
+        try {
+            if (pointer != null && !pointer.isEmpty()) {
+                pointer = pointer.replaceAll("\\.", "/");
+                if (!pointer.startsWith("/")) {
+                    pointer = "/" + pointer;
+                }
+
+                Object result = document.query(pointer);
+                if (result != null) {
+                    return new JSONElement(result);
+                }
+            }
+        }
+        catch (Exception e) {
+
+        }
+
+        return null;
+    }
+
+}
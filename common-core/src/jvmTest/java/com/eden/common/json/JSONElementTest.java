@@ -0,0 +1,171 @@
+package com.eden.common.json;
+
+import com.eden.common.util.EdenUtils;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class JSONElementTest {
+
+    private static class CountingJsonable implements Jsonable {
+        private final Object value;
+        private int calls;
+
+        CountingJsonable(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public JSONElement toJson() {
+            calls++;
+            return new JSONElement(value);
+        }
+    }
+
+    private static class CountingStreamingJsonable extends CountingJsonable implements StreamingJsonable {
+        private int writes;
+
+        CountingStreamingJsonable(Object value) {
+            super(value);
+        }
+
+        @Override
+        public void writeJson(JsonWriter writer) throws IOException {
+            writes++;
+            writer.beginObject().name("streamed").value(true).endObject();
+        }
+    }
+
+    @Test
+    public void testJsonableIsResolvedOnce() {
+        JSONObject json = new JSONObject("{a: 1}");
+        CountingJsonable jsonable = new CountingJsonable(json);
+        JSONElement underTest = new JSONElement(jsonable);
+
+        assertThat(((CountingJsonable) jsonable).calls, is(equalTo(0)));
+        assertThat(underTest.getElement(), is(sameInstance((Object) json)));
+        assertThat(underTest.query("a").getElement(), is(equalTo((Object) 1)));
+        assertThat(underTest.toString(), is(equalTo("{\"a\":1}")));
+        assertThat(jsonable.calls, is(equalTo(1)));
+    }
+
+    @Test
+    public void testProxyChainsAreFlattened() {
+        JSONObject json = new JSONObject("{a: 1}");
+        CountingJsonable jsonable = new CountingJsonable(json);
+
+        JSONElement first = new JSONElement(jsonable);
+        JSONElement second = new JSONElement(first);
+        JSONElement third = new JSONElement(second);
+
+        assertThat(third.getElement(), is(sameInstance((Object) json)));
+        assertThat(first.getElement(), is(sameInstance((Object) json)));
+        assertThat(second.getElement(), is(sameInstance((Object) json)));
+        assertThat(jsonable.calls, is(equalTo(1)));
+        assertThat(third, is(equalTo(first)));
+    }
+
+    @Test
+    public void testElementPassedAsObjectIsProxied() {
+        JSONObject json = new JSONObject("{a: 1}");
+        Object wrapped = new JSONElement(json);
+
+        JSONElement underTest = new JSONElement(wrapped);
+
+        assertThat(underTest.getElement(), is(sameInstance((Object) json)));
+        assertThat(EdenUtils.elementIsObject(underTest), is(true));
+        assertThat(underTest.query("a").getElement(), is(equalTo((Object) 1)));
+        assertThat(underTest, is(equalTo(wrapped)));
+    }
+
+    @Test
+    public void testFrozenElementsCompareByContents() {
+        JSONElement first = new JSONElement(new JSONObject("{a: 1, b: [1, 2.5, {c: 'd'}], e: null}"));
+        JSONElement second = new JSONElement(new JSONObject("{e: null, b: [1.0, 2.5, {c: 'd'}], a: 1}"));
+        JSONElement different = new JSONElement(new JSONObject("{a: 1, b: [1, 2.5, {c: 'e'}], e: null}"));
+
+        // unfrozen JSONObjects compare by identity
+        assertThat(first, is(not(equalTo(second))));
+
+        JSONElement frozenFirst = first.freeze();
+        JSONElement frozenSecond = second.freeze();
+        JSONElement frozenDifferent = different.freeze();
+
+        assertThat(frozenFirst.isFrozen(), is(true));
+        assertThat(frozenFirst.freeze(), is(sameInstance(frozenFirst)));
+        assertThat(frozenFirst, is(equalTo(frozenSecond)));
+        assertThat(frozenFirst.hashCode(), is(equalTo(frozenSecond.hashCode())));
+        assertThat(frozenFirst, is(not(equalTo(frozenDifferent))));
+        assertThat(frozenFirst, is(not(equalTo(first))));
+        assertThat(first, is(not(equalTo(frozenFirst))));
+
+        Map<JSONElement, String> cache = new HashMap<>();
+        cache.put(frozenFirst, "cached");
+        assertThat(cache.get(frozenSecond), is(equalTo("cached")));
+    }
+
+    @Test
+    public void testFrozenElementsAreCopied() {
+        JSONObject json = new JSONObject("{a: {b: [1]}}");
+        JSONElement frozen = new JSONElement(json).freeze();
+        int hash = frozen.hashCode();
+
+        json.getJSONObject("a").getJSONArray("b").put(2);
+        json.put("c", 3);
+
+        assertThat(frozen.hashCode(), is(equalTo(hash)));
+        assertThat(((JSONObject) frozen.getElement()).similar(new JSONObject("{a: {b: [1]}}")), is(true));
+    }
+
+    @Test
+    public void testFrozenPrimitives() {
+        assertThat(new JSONElement(1).freeze(), is(equalTo(new JSONElement(1L).freeze())));
+        assertThat(new JSONElement(1).freeze().hashCode(), is(equalTo(new JSONElement(1.0).freeze().hashCode())));
+        assertThat(new JSONElement("a").freeze(), is(equalTo(new JSONElement("a").freeze())));
+        assertThat(new JSONElement("a").freeze(), is(not(equalTo(new JSONElement("b").freeze()))));
+        assertThat(new JSONElement(new JSONArray("[0.0]")).freeze(), is(equalTo(new JSONElement(new JSONArray("[-0.0]")).freeze())));
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        JSONObject json = new JSONObject("{a: 1, b: ['c', {d: null}], e: '\u00e9'}");
+
+        StringWriter writer = new StringWriter();
+        new JSONElement(json).writeTo(writer);
+        assertThat(writer.toString(), is(equalTo(json.toString())));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new JSONElement(json).writeTo(outputStream);
+        assertThat(outputStream.toString("UTF-8"), is(equalTo(json.toString())));
+    }
+
+    @Test
+    public void testStreamingJsonablesAreNotResolvedToWrite() throws IOException {
+        CountingStreamingJsonable jsonable = new CountingStreamingJsonable(new JSONObject("{resolved: true}"));
+        JSONElement underTest = new JSONElement(new JSONElement(jsonable));
+
+        StringWriter writer = new StringWriter();
+        underTest.writeTo(writer);
+        assertThat(writer.toString(), is(equalTo("{\"streamed\":true}")));
+        assertThat(jsonable.writes, is(equalTo(1)));
+        assertThat(((CountingJsonable) jsonable).calls, is(equalTo(0)));
+
+        // once resolved, the resolved value is written
+        underTest.getElement();
+        writer = new StringWriter();
+        underTest.writeTo(writer);
+        assertThat(writer.toString(), is(equalTo("{\"resolved\":true}")));
+        assertThat(jsonable.writes, is(equalTo(1)));
+        assertThat(((CountingJsonable) jsonable).calls, is(equalTo(1)));
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.eden.common.json;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class JsonTreeTest {
+
+    private static final String DOCUMENT = "{" +
+            "  a: {b: 'c', list: ['x', {y: 'z'}, [], {}], nothing: null}," +
+            "  int: 4," +
+            "  long: 12345678901," +
+            "  decimal: 2.5," +
+            "  flag: true," +
+            "  off: false," +
+            "  repeated: ['c', 'c', 'b']" +
+            "}";
+
+    @Test
+    public void testRoundTrip() {
+        JSONObject json = new JSONObject(DOCUMENT);
+        JsonTree underTest = JsonTree.of(json);
+
+        Object converted = underTest.getRoot().toJsonValue();
+        assertThat(converted, is(instanceOf(JSONObject.class)));
+        assertThat(((JSONObject) converted).similar(json), is(true));
+        assertThat(((JSONObject) converted).get("long"), is(equalTo((Object) 12345678901L)));
+        assertThat(((JSONObject) converted).get("int"), is(equalTo((Object) 4)));
+        assertThat(((JSONObject) converted).get("decimal"), is(equalTo((Object) new BigDecimal("2.5"))));
+
+        JsonTree array = JsonTree.parse("[1, [2, 3], {a: [4]}]");
+        assertThat(((JSONArray) array.getRoot().toJsonValue()).similar(new JSONArray("[1, [2, 3], {a: [4]}]")), is(true));
+    }
+
+    @Test
+    public void testNodes() {
+        JsonNode root = JsonTree.parse(DOCUMENT).getRoot();
+
+        assertThat(root.isObject(), is(true));
+        assertThat(root.size(), is(equalTo(7)));
+        assertThat(root.keys(), contains("a", "decimal", "flag", "int", "long", "off", "repeated"));
+        assertThat(root.get("int"), is(equalTo((Object) 4)));
+        assertThat(root.get("flag"), is(equalTo((Object) true)));
+        assertThat(root.get("off"), is(equalTo((Object) false)));
+        assertThat(root.get("missing"), is(nullValue()));
+        assertThat(root.get(0), is(nullValue()));
+
+        JsonNode a = (JsonNode) root.get("a");
+        assertThat(a.get("nothing"), is(equalTo(JSONObject.NULL)));
+        assertThat(a, is(equalTo(root.get("a"))));
+
+        JsonNode list = (JsonNode) a.get("list");
+        assertThat(list.isArray(), is(true));
+        assertThat(list.size(), is(equalTo(4)));
+        assertThat(list.get(0), is(equalTo((Object) "x")));
+        assertThat(((JsonNode) list.get(1)).get("y"), is(equalTo((Object) "z")));
+        assertThat(((JsonNode) list.get(2)).size(), is(equalTo(0)));
+        assertThat(((JsonNode) list.get(3)).keys(), is(empty()));
+        assertThat(list.get(4), is(nullValue()));
+        assertThat(list.get(-1), is(nullValue()));
+        assertThat(list.get("0"), is(nullValue()));
+        assertThat(list.keys(), is(empty()));
+    }
+
+    @Test
+    public void testStringsAreStoredOnce() {
+        JsonNode root = JsonTree.parse(DOCUMENT).getRoot();
+        JsonNode repeated = (JsonNode) root.get("repeated");
+
+        assertThat(repeated.get(0), is(sameInstance(repeated.get(1))));
+        assertThat(repeated.get(0), is(sameInstance(((JsonNode) root.get("a")).get("b"))));
+        assertThat(repeated.get(2), is(sameInstance(((JsonNode) root.get("a")).keys().iterator().next())));
+    }
+
+    @Test
+    public void testDecimalsAreStoredUnboxed() {
+        JsonTree underTest = JsonTree.parse("[2.5, 0.1, -1.75, 2.50, 3.14159265358979323846264338327950288]");
+        JsonNode root = underTest.getRoot();
+
+        // only the decimals which a double cannot give back exactly are kept as constants
+        assertThat(underTest.toString(), containsString("constantCount=2"));
+
+        assertThat(root.get(0), is(equalTo((Object) new BigDecimal("2.5"))));
+        assertThat(root.get(1), is(equalTo((Object) new BigDecimal("0.1"))));
+        assertThat(root.get(2), is(equalTo((Object) new BigDecimal("-1.75"))));
+        assertThat(root.get(3), is(equalTo((Object) new BigDecimal("2.50"))));
+        assertThat(root.get(4), is(equalTo((Object) new BigDecimal("3.14159265358979323846264338327950288"))));
+    }
+
+    @Test
+    public void testQueryingThroughJSONElement() {
+        JSONElement underTest = new JSONElement(JsonTree.parse(DOCUMENT).getRoot());
+
+        assertThat(underTest.query("a.b").getElement(), is(equalTo((Object) "c")));
+        assertThat(underTest.query("/a/list/1/y").getElement(), is(equalTo((Object) "z")));
+        assertThat(underTest.query("a.list.9"), is(nullValue()));
+        assertThat(underTest.query("long").getElement(), is(equalTo((Object) 12345678901L)));
+
+        // nested nodes can be queried again before being converted, and convert to org.json when their value is needed
+        JSONElement a = underTest.query("a");
+        assertThat(a.query("list.0").getElement(), is(equalTo((Object) "x")));
+        assertThat(((JSONObject) a.getElement()).similar(new JSONObject(DOCUMENT).getJSONObject("a")), is(true));
+
+        JSONElement[] results = underTest.queryAll("a.b", "int", "a.missing");
+        assertThat(results[0].getElement(), is(equalTo((Object) "c")));
+        assertThat(results[1].getElement(), is(equalTo((Object) 4)));
+        assertThat(results[2], is(nullValue()));
+
+        assertThat(((JSONObject) underTest.getElement()).similar(new JSONObject(DOCUMENT)), is(true));
+    }
+
+    @Test
+    public void testOnlyContainersCanBeRoots() {
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            JsonTree.of("a string");
+        });
+        assertThat(e.getMessage(), containsString("JSONObject or JSONArray"));
+    }
+
+}
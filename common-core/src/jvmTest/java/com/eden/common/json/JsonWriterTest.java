@@ -0,0 +1,121 @@
+package com.eden.common.json;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class JsonWriterTest {
+
+    private StringWriter output;
+    private JsonWriter underTest;
+
+    @BeforeEach
+    void setupTest() {
+        output = new StringWriter();
+        underTest = new JsonWriter(output);
+    }
+
+    @Test
+    public void testWritingTokens() throws IOException {
+        underTest.beginObject()
+                .name("title").value("Quote \" and \n newline")
+                .name("count").value(3)
+                .name("ratio").value(2.5)
+                .name("big").value(new BigDecimal("1.50"))
+                .name("flag").value(true)
+                .name("nothing").nullValue()
+                .name("empty").beginArray().endArray()
+                .name("items").beginArray()
+                    .value(1)
+                    .beginObject().name("a").value("b").endObject()
+                    .value((String) null)
+                .endArray()
+                .endObject()
+                .close();
+
+        assertThat(output.toString(), is(equalTo(
+                "{\"title\":\"Quote \\\" and \\n newline\",\"count\":3,\"ratio\":2.5,\"big\":1.5,\"flag\":true," +
+                "\"nothing\":null,\"empty\":[],\"items\":[1,{\"a\":\"b\"},null]}"
+        )));
+    }
+
+    @Test
+    public void testMatchesOrgJson() throws IOException {
+        JSONObject json = new JSONObject("{a: {b: 'c', list: ['x', {y: 'z'}, [], {}], nothing: null}, n: 1.0, d: 2.5, s: '</script>'}");
+
+        underTest.value(json);
+
+        assertThat(output.toString(), is(equalTo(json.toString())));
+    }
+
+    @Test
+    public void testWritingJsonables() throws IOException {
+        JSONObject json = new JSONObject("{a: [1, 2]}");
+
+        underTest.beginArray()
+                .value(new JSONElement(json))
+                .value(JsonTree.of(json).getRoot())
+                .value(LazyJsonDocument.parse(json.toString()).getRoot())
+                .value(new Jsonable() {
+                    @Override
+                    public JSONElement toJson() {
+                        return new JSONElement(new JSONArray("[3]"));
+                    }
+                })
+                .endArray();
+
+        assertThat(output.toString(), is(equalTo("[{\"a\":[1,2]},{\"a\":[1,2]},{\"a\":[1,2]},[3]]")));
+    }
+
+    @Test
+    public void testInvalidDocumentsThrow() throws IOException {
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            new JsonWriter(new StringWriter()).beginObject().value("missing name");
+        });
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            new JsonWriter(new StringWriter()).beginArray().name("name");
+        });
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            new JsonWriter(new StringWriter()).beginArray().endObject();
+        });
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            new JsonWriter(new StringWriter()).value(1).value(2);
+        });
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            new JsonWriter(new StringWriter()).beginArray().close();
+        });
+        Assertions.assertThrows(JSONException.class, () -> {
+            new JsonWriter(new StringWriter()).value(Double.NaN);
+        });
+    }
+
+    @Test
+    public void testIncompleteDocumentsStillCloseTheWriter() throws IOException {
+        final boolean[] closed = new boolean[1];
+        Writer output = new StringWriter() {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> {
+            new JsonWriter(output).beginObject().name("a").beginArray().close();
+        });
+        assertThat(e.getMessage(), containsString("2 objects or arrays"));
+        assertThat(closed[0], is(true));
+    }
+
+}
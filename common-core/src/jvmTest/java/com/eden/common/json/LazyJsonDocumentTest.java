@@ -0,0 +1,108 @@
+package com.eden.common.json;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class LazyJsonDocumentTest {
+
+    private static final String DOCUMENT = "\uFEFF {\n" +
+            "  \"a\": {\"b\": \"c\", \"list\": [\"x\", {\"y\": \"z\"}, [], {}], \"nothing\": null},\n" +
+            "  \"numbers\": [0, -1, 4, 12345678901, 2.5, -1.5e3, 1E+2, -0],\n" +
+            "  \"flags\": [true, false],\n" +
+            "  \"escaped \\\"key\\\"\": \"tab\\there \\u00e9\\/ \\\\ \\n\",\n" +
+            "  \"unicode\": \"\u00e9\u4e2d\uD83D\uDE00\",\n" +
+            "  \"\": \"empty\"\n" +
+            "}\n";
+
+    @Test
+    public void testMatchesOrgJson() {
+        JSONObject expected = new JSONObject(DOCUMENT.substring(1));
+        Object converted = LazyJsonDocument.parse(DOCUMENT).getRoot().toJsonValue();
+
+        assertThat(converted, is(instanceOf(JSONObject.class)));
+        assertThat(((JSONObject) converted).similar(expected), is(true));
+        assertThat(((JSONObject) converted).getJSONArray("numbers").toList(), is(equalTo(expected.getJSONArray("numbers").toList())));
+
+        String array = "[1, [2, 3], {\"a\": [4]}, \"s\"]";
+        assertThat(((JSONArray) LazyJsonDocument.parse(array).getRoot().toJsonValue()).similar(new JSONArray(array)), is(true));
+    }
+
+    @Test
+    public void testNodes() {
+        JsonNode root = LazyJsonDocument.parse(DOCUMENT).getRoot();
+
+        assertThat(root.isObject(), is(true));
+        assertThat(root.size(), is(equalTo(6)));
+        assertThat(root.keys(), contains("a", "numbers", "flags", "escaped \"key\"", "unicode", ""));
+        assertThat(root.get("escaped \"key\""), is(equalTo((Object) "tab\there \u00e9/ \\ \n")));
+        assertThat(root.get("unicode"), is(equalTo((Object) "\u00e9\u4e2d\uD83D\uDE00")));
+        assertThat(root.get(""), is(equalTo((Object) "empty")));
+        assertThat(root.get("missing"), is(nullValue()));
+        assertThat(root.get(0), is(nullValue()));
+
+        JsonNode list = (JsonNode) ((JsonNode) root.get("a")).get("list");
+        assertThat(list.isArray(), is(true));
+        assertThat(list.size(), is(equalTo(4)));
+        assertThat(list.get(0), is(equalTo((Object) "x")));
+        assertThat(((JsonNode) list.get(1)).get("y"), is(equalTo((Object) "z")));
+        assertThat(((JsonNode) list.get(2)).size(), is(equalTo(0)));
+        assertThat(((JsonNode) list.get(3)).keys(), is(empty()));
+        assertThat(list.get(4), is(nullValue()));
+        assertThat(list.get("0"), is(nullValue()));
+
+        JsonNode numbers = (JsonNode) root.get("numbers");
+        assertThat(numbers.get(3), is(equalTo((Object) 12345678901L)));
+        assertThat(((JsonNode) root.get("flags")).get(1), is(equalTo((Object) false)));
+    }
+
+    @Test
+    public void testQueryingThroughJSONElement() {
+        JSONElement underTest = new JSONElement(LazyJsonDocument.parse(DOCUMENT).getRoot());
+
+        assertThat(underTest.query("a.b").getElement(), is(equalTo((Object) "c")));
+        assertThat(underTest.query("/a/list/1/y").getElement(), is(equalTo((Object) "z")));
+        assertThat(underTest.query("numbers.2").getElement(), is(equalTo((Object) 4)));
+        assertThat(underTest.query("a.nothing"), is(nullValue()));
+        assertThat(underTest.query("a.list.9"), is(nullValue()));
+
+        JSONElement a = underTest.query("a");
+        assertThat(a.query("list.0").getElement(), is(equalTo((Object) "x")));
+        assertThat(((JSONObject) a.getElement()).similar(new JSONObject(DOCUMENT.substring(1)).getJSONObject("a")), is(true));
+    }
+
+    @Test
+    public void testParsingFromBuffer() {
+        byte[] bytes = ("xx{\"a\": 1}yy").getBytes(Charset.forName("UTF-8"));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, 8);
+
+        JsonNode root = LazyJsonDocument.parse(buffer).getRoot();
+
+        assertThat(root.get("a"), is(equalTo((Object) 1)));
+        assertThat(buffer.position(), is(equalTo(2)));
+        assertThat(buffer.limit(), is(equalTo(10)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "", "   ", "1", "\"string\"", "{", "[1,", "[1 2]", "{\"a\" 1}", "{a: 1}", "{'a': 1}", "[tru]", "[nul]",
+            "[01]", "[1.]", "[-]", "[1e]", "[\"\\x\"]", "[\"\\u12g4\"]", "[\"unterminated]", "[\"new\nline\"]",
+            "{\"a\": 1,}", "[1] [2]", "[1]x"
+    })
+    public void testInvalidDocumentsThrow(String json) {
+        Assertions.assertThrows(JSONException.class, () -> {
+            LazyJsonDocument.parse(json);
+        });
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.eden.common.json;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class MappedJsonFilesTest {
+
+    @TempDir
+    File tempDir;
+
+    @AfterEach
+    void tearDown() {
+        MappedJsonFiles.clearCache();
+    }
+
+    @Test
+    public void testOpenFile() throws IOException {
+        File file = write("data.json", "{\"site\": {\"title\": \"Caf\u00e9\", \"pages\": [1, 2, 3]}}");
+
+        JSONElement underTest = MappedJsonFiles.open(file);
+
+        assertThat(underTest.query("site.title").getElement(), is(equalTo((Object) "Caf\u00e9")));
+        assertThat(underTest.query("site.pages.2").getElement(), is(equalTo((Object) 3)));
+        assertThat(((JSONObject) underTest.getElement()).similar(new JSONObject("{site: {title: 'Caf\u00e9', pages: [1, 2, 3]}}")), is(true));
+    }
+
+    @Test
+    public void testRepeatedOpensShareDocument() throws IOException {
+        File file = write("data.json", "{\"a\": 1}");
+
+        LazyJsonDocument first = MappedJsonFiles.openDocument(file);
+        LazyJsonDocument second = MappedJsonFiles.openDocument(new File(tempDir, "./data.json"));
+        assertThat(second, is(sameInstance(first)));
+
+        // a changed file is mapped again
+        write("data.json", "{\"a\": 2, \"b\": 3}");
+        file.setLastModified(file.lastModified() + 2000);
+        LazyJsonDocument changed = MappedJsonFiles.openDocument(file);
+        assertThat(changed, is(not(sameInstance(first))));
+        assertThat(changed.getRoot().get("a"), is(equalTo((Object) 2)));
+
+        MappedJsonFiles.clearCache();
+        assertThat(MappedJsonFiles.openDocument(file), is(not(sameInstance(changed))));
+    }
+
+    @Test
+    public void testRewrittenFilesWithTheSameSizeAndTimeMustBeEvicted() throws IOException {
+        File file = write("data.json", "{\"a\": 1}");
+        long lastModified = file.lastModified();
+        LazyJsonDocument first = MappedJsonFiles.openDocument(file);
+
+        write("data.json", "{\"a\": 2}");
+        file.setLastModified(lastModified);
+
+        // only the file's attributes are checked, not its contents
+        assertThat(MappedJsonFiles.openDocument(file), is(sameInstance(first)));
+
+        MappedJsonFiles.evict(file);
+        LazyJsonDocument changed = MappedJsonFiles.openDocument(file);
+        assertThat(changed, is(not(sameInstance(first))));
+        assertThat(changed.getRoot().get("a"), is(equalTo((Object) 2)));
+    }
+
+    @Test
+    public void testReplacedFilesAreMappedAgain() throws IOException {
+        File file = write("data.json", "{\"a\": 1}");
+        long lastModified = file.lastModified();
+        LazyJsonDocument first = MappedJsonFiles.openDocument(file);
+
+        // a file moved into place has a different file key, even with the same size and time
+        File replacement = write("replacement.json", "{\"a\": 2}");
+        replacement.setLastModified(lastModified);
+        Files.move(replacement.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        Assumptions.assumeTrue(Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey() != null);
+
+        LazyJsonDocument changed = MappedJsonFiles.openDocument(file);
+        assertThat(changed, is(not(sameInstance(first))));
+        assertThat(changed.getRoot().get("a"), is(equalTo((Object) 2)));
+    }
+
+    @Test
+    public void testUncachedOpens() throws IOException {
+        File file = write("data.json", "{\"a\": 1}");
+        LazyJsonDocument cached = MappedJsonFiles.openDocument(file);
+
+        LazyJsonDocument uncached = MappedJsonFiles.openDocument(file, false);
+        assertThat(uncached, is(not(sameInstance(cached))));
+        assertThat(MappedJsonFiles.open(file, false).query("a").getElement(), is(equalTo((Object) 1)));
+
+        // opening without the cache also drops the cached document
+        assertThat(MappedJsonFiles.openDocument(file), is(not(sameInstance(cached))));
+
+        LazyJsonDocument recached = MappedJsonFiles.openDocument(file);
+        MappedJsonFiles.evict(file);
+        assertThat(MappedJsonFiles.openDocument(file), is(not(sameInstance(recached))));
+    }
+
+    @Test
+    public void testTruncatedFilesThrowIOExceptions() throws IOException {
+        StringBuilder json = new StringBuilder("{\"padding\": \"");
+        for (int i = 0; i < 20000; i++) {
+            json.append("x");
+        }
+        json.append("\", \"last\": \"value\"}");
+        File file = write("data.json", json.toString());
+
+        LazyJsonDocument document = MappedJsonFiles.openDocument(file, false);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(0);
+        }
+
+        UncheckedIOException e = Assertions.assertThrows(UncheckedIOException.class, () -> {
+            document.getRoot().get("last");
+        });
+        assertThat(e.getCause(), is(instanceOf(IOException.class)));
+    }
+
+    @Test
+    public void testMissingFileThrows() {
+        Assertions.assertThrows(FileNotFoundException.class, () -> {
+            MappedJsonFiles.open(new File(tempDir, "missing.json"));
+        });
+    }
+
+    private File write(String name, String content) throws IOException {
+        File file = new File(tempDir, name);
+        Files.write(file.toPath(), content.getBytes(Charset.forName("UTF-8")));
+        return file;
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.eden.common.util;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class EdenUtilsTest {
+
+    @ParameterizedTest
+    @MethodSource("mergeJsonValues")
+    public void testMergeJson(String first, String second, String expected) {
+        JSONObject firstJson = new JSONObject(first);
+        JSONObject secondJson = new JSONObject(second);
+
+        JSONObject result = EdenUtils.merge(firstJson, null, secondJson);
+
+        assertThat(result.toString(), result.similar(new JSONObject(expected)), is(true));
+
+        // the sources are left untouched
+        assertThat(firstJson.similar(new JSONObject(first)), is(true));
+        assertThat(secondJson.similar(new JSONObject(second)), is(true));
+    }
+
+    public static Stream<Arguments> mergeJsonValues() {
+        return Stream.of(
+                Arguments.of(
+                        "{a: 1, b: 2}",
+                        "{b: 3, c: 4}",
+                        "{a: 1, b: 3, c: 4}"
+                ),
+                Arguments.of(
+                        "{nested: {a: 1, b: {c: 2}}}",
+                        "{nested: {b: {d: 3}, e: 4}}",
+                        "{nested: {a: 1, b: {c: 2, d: 3}, e: 4}}"
+                ),
+                Arguments.of(
+                        "{list: [1, 2, {a: 1}]}",
+                        "{list: [3]}",
+                        "{list: [1, 2, {a: 1}, 3]}"
+                ),
+                Arguments.of(
+                        "{value: {a: 1}}",
+                        "{value: [1]}",
+                        "{value: [1]}"
+                ),
+                Arguments.of(
+                        "{a: 1, nested: {b: null}}",
+                        "{a: null, c: null}",
+                        "{a: 1, nested: {}}"
+                )
+        );
+    }
+
+    @Test
+    public void testMergedJsonSharesNothingWithSources() {
+        JSONObject source = new JSONObject("{nested: {a: 1}, list: [{b: 2}]}");
+
+        JSONObject result = EdenUtils.merge(source);
+        result.getJSONObject("nested").put("a", 10);
+        result.getJSONArray("list").getJSONObject(0).put("b", 20);
+        result.getJSONArray("list").put(3);
+
+        assertThat(source.similar(new JSONObject("{nested: {a: 1}, list: [{b: 2}]}")), is(true));
+    }
+
+    @Test
+    public void testMergeJsonInto() {
+        JSONObject target = new JSONObject("{nested: {a: 1}, list: [1]}");
+        JSONObject nested = target.getJSONObject("nested");
+
+        JSONObject result = EdenUtils.mergeInto(target, new JSONObject("{nested: {b: 2}, list: [2]}"), new JSONObject("{c: 3}"));
+
+        assertThat(result, is(sameInstance(target)));
+        assertThat(target.getJSONObject("nested"), is(sameInstance(nested)));
+        assertThat(target.similar(new JSONObject("{nested: {a: 1, b: 2}, list: [1, 2], c: 3}")), is(true));
+    }
+
+}
@@ -1,12 +1,17 @@
 package com.eden.common.util;
 
 import clog.Clog;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
@@ -69,4 +74,35 @@ public class IOStreamUtilsTests {
         assertThat(handler.toString(), is(equalTo("Hello, world!\n")));
     }
 
+    @Test
+    public void testStartOnStreamPump() throws Throwable {
+        InputStream inputStream = new ByteArrayInputStream("Hello,\nworld!".getBytes(Charset.forName("UTF-8")));
+        IOStreamUtils.InputStreamCollector handler = new IOStreamUtils.InputStreamCollector(inputStream);
+
+        handler.start().get(5, TimeUnit.SECONDS);
+
+        assertThat(handler.toString(), is(equalTo("Hello,\nworld!\n")));
+    }
+
+    @Test
+    public void testStartCompletesExceptionallyWhenReadingFails() throws Throwable {
+        InputStream inputStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("stream failed");
+            }
+        };
+        IOStreamUtils.InputStreamCollector handler = new IOStreamUtils.InputStreamCollector(inputStream);
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> {
+            handler.start().get(5, TimeUnit.SECONDS);
+        });
+        assertThat(e.getCause(), is(instanceOf(UncheckedIOException.class)));
+        assertThat(e.getCause().getCause().getMessage(), is(equalTo("stream failed")));
+        assertThat(handler.toString(), is(equalTo("")));
+
+        // run() still ignores the failure
+        new IOStreamUtils.InputStreamCollector(inputStream).run();
+    }
+
 }
@@ -0,0 +1,177 @@
+package com.eden.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class MergedMapTest {
+
+    @ParameterizedTest
+    @MethodSource("mergeValues")
+    public void testMatchesEdenUtilsMerge(Map<String, Object> first, Map<String, Object> second, Map<String, Object> third) {
+        Map<String, Object> expected = EdenUtils.merge(copy(first), copy(second), copy(third));
+        MergedMap underTest = new MergedMap(Arrays.asList(first, second, third));
+
+        // check each key lazily before checking the map as a whole
+        for (String key : expected.keySet()) {
+            assertThat(underTest.containsKey(key), is(true));
+            assertThat(underTest.get(key), is(equalTo(expected.get(key))));
+        }
+        assertThat(underTest.containsKey("missing"), is(false));
+        assertThat(underTest.get("missing"), is(nullValue()));
+
+        assertThat(underTest, is(equalTo((Object) expected)));
+        assertThat(underTest.size(), is(equalTo(expected.size())));
+    }
+
+    public static Stream<Arguments> mergeValues() {
+        return Stream.of(
+                Arguments.of(
+                        map("a", 1, "b", 2),
+                        map("b", 3, "c", 4),
+                        null
+                ),
+                Arguments.of(
+                        map("nested", map("a", 1, "b", 2)),
+                        map("nested", map("b", 3)),
+                        map("nested", map("c", map("d", 5)))
+                ),
+                Arguments.of(
+                        map("list", list("one", "two")),
+                        map("list", list("three")),
+                        map("list", list("four"))
+                ),
+                Arguments.of(
+                        map("value", map("a", 1)),
+                        map("value", "replaced"),
+                        map("value", map("b", 2))
+                ),
+                Arguments.of(
+                        map("value", list("one")),
+                        map("value", map("a", 1)),
+                        map("value", list("two"))
+                ),
+                Arguments.of(
+                        map("value", "one", "other", 1),
+                        map("value", null),
+                        new HashMap<String, Object>()
+                ),
+                Arguments.of(
+                        new HashMap<String, Object>(),
+                        null,
+                        new HashMap<String, Object>()
+                )
+        );
+    }
+
+    @Test
+    public void testOnlyReadKeysAreResolved() {
+        final List<Object> keysRead = new ArrayList<>();
+        Map<String, Object> source = new HashMap<String, Object>() {
+            @Override
+            public Object get(Object key) {
+                keysRead.add(key);
+                return super.get(key);
+            }
+        };
+        source.put("a", map("b", 1));
+        source.put("c", 2);
+        source.put("d", 3);
+
+        MergedMap underTest = new MergedMap(Arrays.asList(map("a", map("b", 0)), source));
+        Object nested = underTest.get("a");
+
+        assertThat(keysRead, contains((Object) "a"));
+        assertThat(nested, is(instanceOf(MergedMap.class)));
+        assertThat(underTest.get("a"), is(sameInstance(nested)));
+        assertThat(keysRead, contains((Object) "a"));
+    }
+
+    @Test
+    public void testSourcesAreNotModified() {
+        List<Object> firstList = list("one");
+        Map<String, Object> first = map("list", firstList, "value", 1);
+        Map<String, Object> second = map("list", list("two"));
+
+        MergedMap underTest = new MergedMap(Arrays.asList(first, second));
+        assertThat(underTest.get("list"), is(equalTo((Object) list("one", "two"))));
+
+        underTest.put("value", 2);
+        underTest.put("added", 3);
+        underTest.remove("list");
+
+        assertThat(underTest, is(equalTo((Object) map("value", 2, "added", 3))));
+        assertThat(first, is(equalTo(map("list", list("one"), "value", 1))));
+        assertThat(second, is(equalTo(map("list", list("two")))));
+    }
+
+    @Test
+    public void testMergedSetsStaySets() {
+        MergedMap underTest = new MergedMap(Arrays.asList(
+                map("set", new HashSet<>(Arrays.asList("one", "two"))),
+                map("set", list("two", "three"))
+        ));
+
+        assertThat(underTest.get("set"), is(equalTo((Object) new HashSet<>(Arrays.asList("one", "two", "three")))));
+    }
+
+    @Test
+    public void testEdenUtilsMergeDoesNotModifySources() {
+        List<Object> firstList = list("one");
+
+        Map<String, Object> merged = EdenUtils.merge(map("list", firstList), map("list", list("two")));
+
+        assertThat(merged.get("list"), is(equalTo((Object) list("one", "two"))));
+        assertThat(firstList, is(equalTo(list("one"))));
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    private static Map<String, Object> map(Object... keysAndValues) {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    private static List<Object> list(Object... values) {
+        return new ArrayList<>(Arrays.asList(values));
+    }
+
+    /**
+     * Copy collections deeply, so the expected result can be computed without the two merges sharing anything.
+     */
+    private static Map<String, Object> copy(Map<String, Object> source) {
+        if (source == null) {
+            return null;
+        }
+
+        Map<String, Object> copy = new HashMap<>();
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                value = copy((Map<String, Object>) value);
+            }
+            else if (value instanceof List) {
+                value = new ArrayList<>((List<?>) value);
+            }
+            copy.put(entry.getKey(), value);
+        }
+        return copy;
+    }
+
+}
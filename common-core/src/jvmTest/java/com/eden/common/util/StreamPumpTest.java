@@ -0,0 +1,141 @@
+package com.eden.common.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class StreamPumpTest {
+
+    @Test
+    public void testCollect() throws Exception {
+        String collected = StreamPump.getDefault().collect(stream("one\ntwo\r\nthree")).get(5, TimeUnit.SECONDS);
+
+        assertThat(collected, is(equalTo("one\ntwo\nthree\n")));
+    }
+
+    @Test
+    public void testPumpLines() throws Exception {
+        final List<String> lines = Collections.synchronizedList(new ArrayList<String>());
+        StreamPump.getDefault().pumpLines(stream("a\nb\n\nc"), new StreamPump.LineHandler() {
+            @Override
+            public void onLine(String line) {
+                lines.add(line);
+            }
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(lines, contains("a", "b", "", "c"));
+    }
+
+    @Test
+    public void testDrain() throws Exception {
+        final boolean[] closed = new boolean[1];
+        InputStream inputStream = new ByteArrayInputStream(new byte[100000]) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+
+        StreamPump.getDefault().drain(inputStream).get(5, TimeUnit.SECONDS);
+
+        assertThat(inputStream.available(), is(equalTo(0)));
+        assertThat(closed[0], is(true));
+    }
+
+    @Test
+    public void testFailuresCompleteExceptionally() throws Exception {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("stream failed");
+            }
+        };
+
+        CompletableFuture<String> future = StreamPump.getDefault().collect(failing);
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> {
+            future.get(5, TimeUnit.SECONDS);
+        });
+        assertThat(e.getCause(), is(instanceOf(UncheckedIOException.class)));
+        assertThat(e.getCause().getCause().getMessage(), is(equalTo("stream failed")));
+    }
+
+    @Test
+    public void testPipeIsBounded() throws Exception {
+        // much more output than the pipe buffers, so the writer must wait for it to be read
+        final int lineCount = 10000;
+        InputStream inputStream = StreamPump.getDefault().pipe(os -> {
+            PrintWriter writer = new PrintWriter(os);
+            for (int i = 0; i < lineCount; i++) {
+                writer.println("line " + i);
+            }
+            writer.flush();
+        });
+
+        String collected = StreamPump.getDefault().collect(inputStream).get(10, TimeUnit.SECONDS);
+
+        assertThat(collected.split("\n").length, is(equalTo(lineCount)));
+        assertThat(collected, endsWith("line " + (lineCount - 1) + "\n"));
+    }
+
+    @Test
+    public void testPipeWriterFinishesWhenReaderCloses() throws Exception {
+        final CompletableFuture<String> writerThread = new CompletableFuture<>();
+        final CompletableFuture<IOException> writeFailure = new CompletableFuture<>();
+        InputStream inputStream = StreamPump.getDefault().pipe(os -> {
+            writerThread.complete(Thread.currentThread().getName());
+            try {
+                while (true) {
+                    os.write(new byte[1024]);
+                }
+            }
+            catch (IOException e) {
+                writeFailure.complete(e);
+            }
+        });
+
+        assertThat(inputStream.read(new byte[16]), is(equalTo(16)));
+        inputStream.close();
+
+        assertThat(writeFailure.get(5, TimeUnit.SECONDS), is(notNullValue()));
+        assertThat(writerThread.get(5, TimeUnit.SECONDS), startsWith("StreamPump-pipe-"));
+    }
+
+    @Test
+    public void testCustomExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            StreamPump underTest = new StreamPump(executor);
+
+            assertThat(underTest.getExecutor(), is(sameInstance((Object) executor)));
+            assertThat(underTest.collect(stream("first")).get(5, TimeUnit.SECONDS), is(equalTo("first\n")));
+            assertThat(underTest.collect(stream("second")).get(5, TimeUnit.SECONDS), is(equalTo("second\n")));
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(Charset.forName("UTF-8")));
+    }
+
+}
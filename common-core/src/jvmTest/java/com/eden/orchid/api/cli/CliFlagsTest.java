@@ -28,6 +28,24 @@ public class CliFlagsTest {
         assertThat(parser.getValidAliases(), hasEntry("t", "task"));
     }
 
+    @Test
+    void testFlagsParsersAreCached() {
+        FlagsParser parser = underTest.getFlagsParser(Arrays.asList(TestCliOptions1.class), Arrays.asList("task"));
+
+        assertThat(underTest.getFlagsParser(Arrays.asList(TestCliOptions1.class), Arrays.asList("task")), is(sameInstance(parser)));
+        assertThat(underTest.getFlagsParser(Arrays.asList(TestCliOptions1.class), null), is(not(sameInstance(parser))));
+        assertThat(underTest.getFlagsParser(Arrays.asList(TestCliOptions1.class, TestCliOptions2.class), Arrays.asList("task")), is(not(sameInstance(parser))));
+
+        // parsers are rebuilt once the extractor's metadata is cleared, or when they are cleared themselves
+        DefaultExtractor.getInstance().clearCache();
+        FlagsParser rebuiltParser = underTest.getFlagsParser(Arrays.asList(TestCliOptions1.class), Arrays.asList("task"));
+        assertThat(rebuiltParser, is(not(sameInstance(parser))));
+        assertThat(underTest.getFlagsParser(Arrays.asList(TestCliOptions1.class), Arrays.asList("task")), is(sameInstance(rebuiltParser)));
+
+        underTest.clearCache();
+        assertThat(underTest.getFlagsParser(Arrays.asList(TestCliOptions1.class), Arrays.asList("task")), is(not(sameInstance(rebuiltParser))));
+    }
+
     @Test
     void testParsingOptionsFlagsArrayValues() {
         TestCliOptions1 cliOptions1 = new TestCliOptions1();
@@ -7,6 +7,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.StringReader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -300,6 +301,54 @@ public class FlagsParserTest {
         }
         assertThat(output.getOriginalString(), is(equalTo(input)));
     }
+    @ParameterizedTest
+    @MethodSource("parseCommandArgsValues")
+    public void parseCommandArgsFromReaderTest(
+            String input,
+            boolean success,
+            Map<String, String[]> expectedValidFlags,
+            Map<String, String[]> expectedInvalidFlags) throws Throwable {
+        FlagsParser.ParseResult expected = underTest.parseArgs(input);
+        FlagsParser.ParseResult output = underTest.parseArgs(new StringReader(input));
+
+        assertThat(output.success(), is(equalTo(success)));
+        assertThat(output.getValidFlags(), is(equalTo(expected.getValidFlags())));
+        assertThat(output.getInvalidFlags(), is(equalTo(expected.getInvalidFlags())));
+        assertThat(output.getOriginalArgs(), is(equalTo(expected.getOriginalArgs())));
+        assertThat(output.getOriginalString(), is(nullValue()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tokenizeArgsValues")
+    public void tokenizeArgsTest(String input, String[] expectedArgs) {
+        assertThat(underTest.parseArgs(input).getOriginalArgs(), is(equalTo(expectedArgs)));
+    }
+    public static Stream<Arguments> tokenizeArgsValues() {
+        return Stream.of(
+                Arguments.of("build  --port 9000",    new String[] {"build", "", "--port", "9000"}),
+                Arguments.of("build \"a b\"c",        new String[] {"build", "a b", "c"}),
+                Arguments.of("x\"y z\"",              new String[] {"xy z"}),
+                Arguments.of("\"abc",                 new String[] {"abc"}),
+                Arguments.of("\"a\\\"b\"",            new String[] {"a\"b"}),
+                Arguments.of("'say \"hi\"'",          new String[] {"say \"hi\""}),
+                Arguments.of("'it\\'s'",              new String[] {"it's"}),
+                Arguments.of("\"\" x",                new String[] {"", "", "x"}),
+                Arguments.of("a\\b",                  new String[] {"a\\b"})
+        );
+    }
+
+    @Test
+    public void testLongArgsAreTokenized() {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            value.append((char) ('a' + (i % 26)));
+        }
+
+        FlagsParser.ParseResult output = underTest.parseArgs("build --baseUrl \"" + value + "\"");
+
+        assertThat(output.getValidFlags().get("baseUrl"), is(equalTo((Object) value.toString())));
+    }
+
     public static Stream<Arguments> parseCommandArgsValues() {
         return Stream.of(
                 Arguments.of(
@@ -552,6 +601,47 @@ public class FlagsParserTest {
         );
     }
 
+    @Test
+    public void testParserIsReusable() {
+        FlagsParser.ParseResult first = underTest.parseArgs(new String[]{"build", "--port", "9000"});
+        FlagsParser.ParseResult second = underTest.parseArgs(new String[]{"serve", "-d", "docs"});
+
+        assertThat(first.getValidFlags(), is(equalTo((Object) new HashMap<String, Object>() {{
+            put("task", "build");
+            put("port", "9000");
+        }})));
+        assertThat(second.getValidFlags(), is(equalTo((Object) new HashMap<String, Object>() {{
+            put("task", "serve");
+            put("dest", "docs");
+        }})));
+    }
+
+    @Test
+    public void testFlagKeysAreSharedWithParser() {
+        String dest = null;
+        for (String validName : underTest.getValidNames()) {
+            if (validName.equals("dest")) {
+                dest = validName;
+            }
+        }
+
+        FlagsParser.ParseResult fromName = underTest.parseArgs(new String[]{"--" + new String("dest"), "docs"});
+        FlagsParser.ParseResult fromAlias = underTest.parseArgs(new String[]{"-d=docs"});
+
+        assertThat(fromName.getValidFlags().keySet().iterator().next(), is(sameInstance(dest)));
+        assertThat(fromAlias.getValidFlags().keySet().iterator().next(), is(sameInstance(dest)));
+    }
+
+    @Test
+    public void testEmptyEqualsValueIsIgnored() {
+        FlagsParser.ParseResult result = underTest.parseArgs(new String[]{"build", "--port=", "--dest=docs=site"});
+
+        assertThat(result.getValidFlags(), is(equalTo((Object) new HashMap<String, Object>() {{
+            put("task", "build");
+            put("dest", "docs");
+        }})));
+    }
+
     @Test
     public void testIncorrectAliasSetupThrows() {
         Set<String> flagNames = new HashSet<>();
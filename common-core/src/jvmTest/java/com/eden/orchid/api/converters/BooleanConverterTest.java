@@ -47,6 +47,16 @@ public class BooleanConverterTest {
         assertThat(result.second, is(equalTo(expectedExtractedValue)));
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestInputsArguments")
+    public void testPrimitiveInputs(
+            final Object sourceValue,
+            final Object expectedSuccessful,
+            final Object expectedExtractedValue) throws Throwable {
+        boolean result = underTest.convertToBoolean(sourceValue, true);
+        assertThat(result, is(equalTo(((Boolean) expectedSuccessful) ? expectedExtractedValue : true)));
+    }
+
     static Stream<Arguments> getTestInputsArguments() {
         return Stream.of(
                 Arguments.of(45,              true,  true),
@@ -64,7 +74,10 @@ public class BooleanConverterTest {
                 Arguments.of(10.0,            true,  true),
                 Arguments.of(0,               true,  false),
                 Arguments.of("0",             true,  false),
-                Arguments.of("",              false, false)
+                Arguments.of("",              false, false),
+                Arguments.of(0.0f,            true,  false),
+                Arguments.of(-0.0,            true,  false),
+                Arguments.of((byte) 1,        true,  true)
         );
     }
 
@@ -6,13 +6,16 @@ import com.eden.orchid.api.converters.DoubleConverter;
 import com.eden.orchid.api.converters.IntegerConverter;
 import com.eden.orchid.api.converters.StringConverter;
 import com.eden.orchid.api.converters.TypeConverter;
+import com.eden.orchid.api.registration.Prioritized;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -50,6 +53,23 @@ public class ConvertersTest {
         assertThat(result.second, is(equalTo(expectedValue)));
     }
 
+    @ParameterizedTest
+    @MethodSource("testConvertToStringValues")
+    void testConvertValue(
+            final Object input,
+            final boolean expectedStatus,
+            final Object expectedValue,
+            Class<?> targetClass
+    ) {
+        Object result = underTest.convertValue(input, targetClass);
+        if (expectedStatus) {
+            assertThat(result, is(equalTo(expectedValue)));
+        }
+        else {
+            assertThat(result, is(sameInstance(AbstractTypeConverter.FAILED)));
+        }
+    }
+
     static Stream<Arguments> testConvertToStringValues() {
         return Stream.of(
 
@@ -79,4 +99,51 @@ public class ConvertersTest {
         );
     }
 
+    public static class LowPriorityStringConverter extends Prioritized implements TypeConverter<String> {
+        public LowPriorityStringConverter() { super(-10); }
+        @Override public boolean acceptsClass(Class clazz) { return clazz.equals(String.class); }
+        @Override public EdenPair<Boolean, String> convert(Class clazz, Object o) { return new EdenPair<>(true, "low"); }
+    }
+
+    public static class HighPriorityStringConverter extends Prioritized implements TypeConverter<String> {
+        public HighPriorityStringConverter() { super(10); }
+        @Override public boolean acceptsClass(Class clazz) { return clazz.equals(String.class); }
+        @Override public EdenPair<Boolean, String> convert(Class clazz, Object o) { return new EdenPair<>(true, "high"); }
+    }
+
+    @Test
+    void testConvertValueAdaptsPlainTypeConverters() {
+        Set<TypeConverter> converters = new HashSet<>();
+        converters.add(new HighPriorityStringConverter());
+        underTest = new Converters(converters);
+
+        assertThat(underTest.convertValue(45, String.class), is(equalTo((Object) "high")));
+    }
+
+    @Test
+    void testConverterOrderIsDeterministic() {
+        StringConverter stringConverter = new StringConverter(new HashSet<>());
+        LowPriorityStringConverter lowPriorityConverter = new LowPriorityStringConverter();
+        HighPriorityStringConverter highPriorityConverter = new HighPriorityStringConverter();
+
+        Set<TypeConverter> converters = new LinkedHashSet<>();
+        converters.add(lowPriorityConverter);
+        converters.add(stringConverter);
+        converters.add(highPriorityConverter);
+        Converters forwards = new Converters(converters);
+
+        converters = new LinkedHashSet<>();
+        converters.add(highPriorityConverter);
+        converters.add(stringConverter);
+        converters.add(lowPriorityConverter);
+        Converters backwards = new Converters(converters);
+
+        assertThat(forwards.getConverters(), contains(highPriorityConverter, stringConverter, lowPriorityConverter));
+        assertThat(backwards.getConverters(), contains(highPriorityConverter, stringConverter, lowPriorityConverter));
+        assertThat(forwards.findConverter(String.class), is(sameInstance((TypeConverter) highPriorityConverter)));
+        assertThat(forwards.findConverter(String.class), is(sameInstance(forwards.findConverter(String.class))));
+        assertThat(forwards.findConverter(Object.class), is(nullValue()));
+        assertThat(forwards.convert(1, String.class).second, is(equalTo("high")));
+    }
+
 }
@@ -45,6 +45,16 @@ public class DoubleConverterTest {
         assertThat(result.second, is(equalTo(expectedExtractedValue)));
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestInputsArguments")
+    public void testPrimitiveInputs(
+            final Object sourceValue,
+            final Object expectedSuccessful,
+            final Object expectedExtractedValue) throws Throwable {
+        double result = underTest.convertToDouble(sourceValue, -1.0);
+        assertThat(result, is(equalTo(((Boolean) expectedSuccessful) ? expectedExtractedValue : (Object) (-1.0))));
+    }
+
     static Stream<Arguments> getTestInputsArguments() {
         return Stream.of(
                 Arguments.of(45,              true,  45.0),
@@ -55,7 +65,9 @@ public class DoubleConverterTest {
                 Arguments.of(null,            false, 0.0),
                 Arguments.of(45.1,            true,  45.1),
                 Arguments.of(10L,             true,  10.0),
-                Arguments.of(10.0,            true,  10.0)
+                Arguments.of(10.0,            true,  10.0),
+                Arguments.of(0.1f,            true,  0.1),
+                Arguments.of(3000000000L,     true,  3.0E9)
         );
     }
 
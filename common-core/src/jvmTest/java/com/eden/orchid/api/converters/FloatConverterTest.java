@@ -45,6 +45,16 @@ public class FloatConverterTest {
         assertThat(result.second, is(equalTo(expectedExtractedValue)));
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestInputsArguments")
+    public void testPrimitiveInputs(
+            final Object sourceValue,
+            final Object expectedSuccessful,
+            final Object expectedExtractedValue) throws Throwable {
+        float result = underTest.convertToFloat(sourceValue, -1.0f);
+        assertThat(result, is(equalTo(((Boolean) expectedSuccessful) ? expectedExtractedValue : (Object) (-1.0f))));
+    }
+
     static Stream<Arguments> getTestInputsArguments() {
         return Stream.of(
                 Arguments.of(45,              true,  45.0f),
@@ -55,7 +65,9 @@ public class FloatConverterTest {
                 Arguments.of(null,            false, 0.0f),
                 Arguments.of(45.1,            true,  45.1f),
                 Arguments.of(10L,             true,  10.0f),
-                Arguments.of(10.0,            true,  10.0f)
+                Arguments.of(10.0,            true,  10.0f),
+                Arguments.of(0.1,             true,  0.1f),
+                Arguments.of(0.1f,            true,  0.1f)
         );
     }
 
@@ -45,6 +45,16 @@ public class IntegerConverterTest {
         assertThat(result.second, is(equalTo(expectedExtractedValue)));
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestInputsArguments")
+    public void testPrimitiveInputs(
+            final Object sourceValue,
+            final Object expectedSuccessful,
+            final Object expectedExtractedValue) throws Throwable {
+        int result = underTest.convertToInt(sourceValue, -1);
+        assertThat(result, is(equalTo(((Boolean) expectedSuccessful) ? expectedExtractedValue : (Object) (-1))));
+    }
+
     static Stream<Arguments> getTestInputsArguments() {
         return Stream.of(
                 Arguments.of(45,              true,  45),
@@ -55,7 +65,10 @@ public class IntegerConverterTest {
                 Arguments.of(null,            false, 0),
                 Arguments.of(45.1,            false, 0),
                 Arguments.of(10L,             true,  10),
-                Arguments.of(10.0,            false, 0)
+                Arguments.of(10.0,            false, 0),
+                Arguments.of(3000000000L,     false, 0),
+                Arguments.of((short) 12,      true,  12),
+                Arguments.of((byte) 12,       true,  12)
         );
     }
 
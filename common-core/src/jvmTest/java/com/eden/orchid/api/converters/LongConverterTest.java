@@ -45,6 +45,16 @@ public class LongConverterTest {
         assertThat(result.second, is(equalTo(expectedExtractedValue)));
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestInputsArguments")
+    public void testPrimitiveInputs(
+            final Object sourceValue,
+            final Object expectedSuccessful,
+            final Object expectedExtractedValue) throws Throwable {
+        long result = underTest.convertToLong(sourceValue, -1L);
+        assertThat(result, is(equalTo(((Boolean) expectedSuccessful) ? expectedExtractedValue : (Object) (-1L))));
+    }
+
     static Stream<Arguments> getTestInputsArguments() {
         return Stream.of(
                 Arguments.of(45,              true,  45L),
@@ -55,7 +65,9 @@ public class LongConverterTest {
                 Arguments.of(null,            false, 0L),
                 Arguments.of(45.1,            false, 0L),
                 Arguments.of(10L,             true,  10L),
-                Arguments.of(10.0,            false, 0L)
+                Arguments.of(10.0,            false, 0L),
+                Arguments.of(3000000000L,     true,  3000000000L),
+                Arguments.of((short) 12,      true,  12L)
         );
     }
 
@@ -1,6 +1,9 @@
 package com.eden.orchid.api.converters;
 
 import com.eden.common.util.EdenPair;
+import com.eden.orchid.api.options.Extractor;
+import com.eden.orchid.api.options.OptionExtractor;
+import com.eden.orchid.api.options.extractors.StringOptionExtractor;
 import org.json.JSONArray;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -68,9 +72,8 @@ public class StringConverterTest {
 
     @Test
     public void testHelpersCalled() throws Throwable {
-        EdenPair<Boolean, String> result = underTest.convert(String.class, "input");
+        EdenPair<Boolean, String> result = underTest.convert(String.class, "{input}");
         assertThat(result.first, is(equalTo(true)));
-        assertThat(result.second, is(equalTo("input")));
 
         verify(helper1, times(1)).convert(any());
         verify(helper1, times(1)).matches(any());
@@ -79,6 +82,89 @@ public class StringConverterTest {
         verify(helper2, times(1)).matches(any());
     }
 
+    @Test
+    public void testHelpersSkippedWithoutTriggerCharacters() throws Throwable {
+        EdenPair<Boolean, String> result = underTest.convert(String.class, "input");
+        assertThat(result.first, is(equalTo(true)));
+        assertThat(result.second, is(equalTo("input")));
+
+        verify(helper1, never()).convert(any());
+        verify(helper1, never()).matches(any());
+
+        verify(helper2, never()).convert(any());
+        verify(helper2, never()).matches(any());
+    }
+
+    @Test
+    public void testFormattedResultsAreCached() throws Throwable {
+        String first = underTest.convertToString("{input}");
+        String second = underTest.convertToString("{input}");
+        assertThat(second, is(equalTo(first)));
+
+        verify(helper1, times(1)).convert(any());
+        verify(helper2, times(1)).convert(any());
+    }
+
+    private static class SuffixHelper implements TemplateStringConverterHelper {
+        String suffix = "-1";
+
+        @Override
+        public String getTriggerCharacters() {
+            return "{";
+        }
+
+        @Override
+        public boolean matches(String input) {
+            return true;
+        }
+
+        @Override
+        public String convert(String input) {
+            return input + suffix;
+        }
+    }
+
+    @Test
+    public void testFormattedResultsAreClearedWithExtractor() throws Throwable {
+        SuffixHelper suffixHelper = new SuffixHelper();
+        underTest = new StringConverter(Collections.<StringConverterHelper>singleton(suffixHelper));
+        Extractor extractor = Extractor.builder()
+                .extractors(Collections.<OptionExtractor>singletonList(new StringOptionExtractor(underTest)))
+                .build();
+
+        assertThat(underTest.convertToString("{input}"), is(equalTo("{input}-1")));
+
+        suffixHelper.suffix = "-2";
+        assertThat(underTest.convertToString("{input}"), is(equalTo("{input}-1")));
+
+        underTest.clearCache();
+        assertThat(underTest.convertToString("{input}"), is(equalTo("{input}-2")));
+
+        suffixHelper.suffix = "-3";
+        extractor.clearCache();
+        assertThat(underTest.convertToString("{input}"), is(equalTo("{input}-3")));
+    }
+
+    @Test
+    public void testOtherHelpersAreAlwaysCalled() throws Throwable {
+        StringConverterHelper plainHelper = spy(new StringConverterHelper() {
+            @Override
+            public boolean matches(String input) {
+                return true;
+            }
+
+            @Override
+            public String convert(String input) {
+                return input.toUpperCase();
+            }
+        });
+        underTest = new StringConverter(Collections.singleton(plainHelper));
+
+        assertThat(underTest.convertToString("input"), is(equalTo("INPUT")));
+        assertThat(underTest.convertToString("input"), is(equalTo("INPUT")));
+        verify(plainHelper, times(2)).convert(any());
+    }
+
     @Test
     public void testResultClass() throws Throwable {
         assertThat(underTest.acceptsClass(String.class), is(equalTo(true)));
@@ -2,14 +2,25 @@ package com.eden.orchid.api.options;
 
 import com.eden.orchid.api.converters.ClogStringConverterHelper;
 import com.eden.orchid.api.converters.StringConverter;
+import com.eden.orchid.api.options.annotations.AllOptions;
 import com.eden.orchid.api.options.annotations.Archetype;
+import com.eden.orchid.api.options.annotations.Option;
 import com.eden.orchid.api.options.extractors.StringOptionExtractor;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
@@ -158,4 +169,310 @@ public class ArchetypeTest {
         assertThat(archetypes.get(5).value(), is(equalTo(TestArchetype.class)));
     }
 
+    @Test
+    void testArchetypesAreCached() {
+        List<Archetype> archetypes = extractor.getArchetypes(TestArchetypesFromParentClass.class);
+        archetypes.clear();
+
+        List<Archetype> cachedArchetypes = extractor.getArchetypes(TestArchetypesFromParentClass.class);
+        assertThat(cachedArchetypes.size(), is(equalTo(6)));
+        assertThat(cachedArchetypes.get(0), is(sameInstance(extractor.getArchetypes(TestArchetypesFromParentClass.class).get(0))));
+    }
+
+// Archetype provider reuse
+//----------------------------------------------------------------------------------------------------------------------
+
+    private static class CountingInstanceCreator extends DefaultInstanceCreator {
+        private int instances;
+
+        @Override
+        public <T> T getInstance(Class<T> clazz) {
+            instances++;
+            return super.getInstance(clazz);
+        }
+    }
+
+    public static class ConfiguredArchetype implements OptionArchetype {
+        static int calls;
+
+        @Option
+        public String value;
+
+        @Override
+        public Map<String, Object> getOptions(Object target, String archetypeKey) {
+            calls++;
+            return Collections.<String, Object>singletonMap("title", value + " for " + ((ArchetypeHolder) target).name);
+        }
+    }
+
+    public static class ConfiguredPureArchetype extends ConfiguredArchetype implements PureOptionArchetype {
+        @Override
+        public Map<String, Object> getOptions(Object target, String archetypeKey) {
+            calls++;
+            return Collections.<String, Object>singletonMap("title", value + " from " + archetypeKey);
+        }
+    }
+
+    public static class ArchetypeHolder {
+        String name;
+
+        @Option
+        public String title;
+
+        ArchetypeHolder(String name) {
+            this.name = name;
+        }
+    }
+
+    @Archetype(key = "config", value = ConfiguredArchetype.class)
+    public static class ImpureArchetypeHolder extends ArchetypeHolder {
+        ImpureArchetypeHolder(String name) {
+            super(name);
+        }
+    }
+
+    @Archetype(key = "config", value = ConfiguredPureArchetype.class)
+    public static class PureArchetypeHolder extends ArchetypeHolder {
+        PureArchetypeHolder(String name) {
+            super(name);
+        }
+    }
+
+    private Extractor archetypeExtractor(CountingInstanceCreator instanceCreator, boolean reuseArchetypeProviders) {
+        return Extractor.builder()
+                .extractor(new StringOptionExtractor(new StringConverter(Collections.singleton(new ClogStringConverterHelper()))))
+                .instanceCreator(instanceCreator)
+                .reuseArchetypeProviders(reuseArchetypeProviders)
+                .build();
+    }
+
+    private static Map<String, Object> archetypeOptions(String value) {
+        Map<String, Object> options = new HashMap<>();
+        options.put("config", Collections.<String, Object>singletonMap("value", value));
+        return options;
+    }
+
+    @Test
+    void testArchetypeProvidersAreNotReusedByDefault() {
+        CountingInstanceCreator instanceCreator = new CountingInstanceCreator();
+        Extractor underTest = archetypeExtractor(instanceCreator, false);
+        ConfiguredArchetype.calls = 0;
+
+        ArchetypeHolder first = new ImpureArchetypeHolder("first");
+        ArchetypeHolder second = new ImpureArchetypeHolder("second");
+        underTest.extractOptions(first, archetypeOptions("a"));
+        underTest.extractOptions(second, archetypeOptions("a"));
+
+        assertThat(first.title, is(equalTo("a for first")));
+        assertThat(second.title, is(equalTo("a for second")));
+        assertThat(instanceCreator.instances, is(equalTo(2)));
+        assertThat(ConfiguredArchetype.calls, is(equalTo(2)));
+    }
+
+    @Test
+    void testArchetypeProvidersAreReusedWhenEnabled() {
+        CountingInstanceCreator instanceCreator = new CountingInstanceCreator();
+        Extractor underTest = archetypeExtractor(instanceCreator, true);
+        ConfiguredArchetype.calls = 0;
+
+        ArchetypeHolder first = new ImpureArchetypeHolder("first");
+        ArchetypeHolder second = new ImpureArchetypeHolder("second");
+        ArchetypeHolder third = new ImpureArchetypeHolder("third");
+        underTest.extractOptions(first, archetypeOptions("a"));
+        underTest.extractOptions(second, archetypeOptions("a"));
+        underTest.extractOptions(third, archetypeOptions("b"));
+
+        assertThat(first.title, is(equalTo("a for first")));
+        assertThat(second.title, is(equalTo("a for second")));
+        assertThat(third.title, is(equalTo("b for third")));
+        assertThat(instanceCreator.instances, is(equalTo(2)));
+        assertThat(ConfiguredArchetype.calls, is(equalTo(3)));
+    }
+
+    @Test
+    void testPureArchetypeOptionsAreCached() {
+        CountingInstanceCreator instanceCreator = new CountingInstanceCreator();
+        Extractor underTest = archetypeExtractor(instanceCreator, false);
+        ConfiguredArchetype.calls = 0;
+
+        ArchetypeHolder first = new PureArchetypeHolder("first");
+        ArchetypeHolder second = new PureArchetypeHolder("second");
+        ArchetypeHolder third = new PureArchetypeHolder("third");
+        underTest.extractOptions(first, archetypeOptions("a"));
+        underTest.extractOptions(second, archetypeOptions("a"));
+        underTest.extractOptions(third, archetypeOptions("b"));
+
+        assertThat(first.title, is(equalTo("a from config")));
+        assertThat(second.title, is(equalTo("a from config")));
+        assertThat(third.title, is(equalTo("b from config")));
+        assertThat(instanceCreator.instances, is(equalTo(2)));
+        assertThat(ConfiguredArchetype.calls, is(equalTo(2)));
+
+        underTest.clearCache();
+        underTest.extractOptions(new PureArchetypeHolder("fourth"), archetypeOptions("a"));
+        assertThat(instanceCreator.instances, is(equalTo(3)));
+        assertThat(ConfiguredArchetype.calls, is(equalTo(3)));
+    }
+
+    public static class NestedPureArchetype implements PureOptionArchetype {
+        @Override
+        public Map<String, Object> getOptions(Object target, String archetypeKey) {
+            Map<String, Object> nested = new HashMap<>();
+            nested.put("key", "value");
+
+            Map<String, Object> options = new HashMap<>();
+            options.put("title", "shared");
+            options.put("tags", new ArrayList<>(Arrays.asList("a", "b")));
+            options.put("nested", nested);
+            return options;
+        }
+    }
+
+    @Archetype(key = "nested", value = NestedPureArchetype.class)
+    public static class AllOptionsArchetypeHolder {
+        @AllOptions
+        public Map<String, Object> allOptions;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCachedPureArchetypeOptionsAreNotShared() {
+        Extractor underTest = archetypeExtractor(new CountingInstanceCreator(), false);
+
+        AllOptionsArchetypeHolder first = new AllOptionsArchetypeHolder();
+        underTest.extractOptions(first, new HashMap<String, Object>());
+        AllOptionsArchetypeHolder second = new AllOptionsArchetypeHolder();
+        underTest.extractOptions(second, new HashMap<String, Object>());
+
+        first.allOptions.put("title", "changed");
+        ((List<Object>) first.allOptions.get("tags")).add("c");
+        ((Map<String, Object>) first.allOptions.get("nested")).put("key", "changed");
+
+        AllOptionsArchetypeHolder third = new AllOptionsArchetypeHolder();
+        underTest.extractOptions(third, new HashMap<String, Object>());
+
+        for (AllOptionsArchetypeHolder holder : Arrays.asList(second, third)) {
+            assertThat(holder.allOptions.get("title"), is(equalTo((Object) "shared")));
+            assertThat((List<Object>) holder.allOptions.get("tags"), contains((Object) "a", "b"));
+            assertThat((Map<String, Object>) holder.allOptions.get("nested"), hasEntry("key", (Object) "value"));
+        }
+    }
+
+// Concurrent archetypes
+//----------------------------------------------------------------------------------------------------------------------
+
+    // each archetype waits until both have started, so they can only finish if they are run concurrently
+    static CountDownLatch archetypesStarted;
+    static ExecutorService archetypeThreads;
+
+    private static Map<String, Object> awaitOtherArchetypes(String title) {
+        archetypesStarted.countDown();
+        try {
+            if (!archetypesStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("archetypes were not run concurrently");
+            }
+        }
+        catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return Collections.<String, Object>singletonMap("title", title);
+    }
+
+    public static class BlockingArchetype implements OptionArchetype {
+        @Override
+        public Map<String, Object> getOptions(Object target, String archetypeKey) {
+            return awaitOtherArchetypes("sync " + archetypeKey);
+        }
+    }
+
+    public static class BlockingAsyncArchetype implements AsyncOptionArchetype {
+        @Override
+        public Map<String, Object> getOptions(Object target, String archetypeKey) {
+            return getOptionsAsync(target, archetypeKey).join();
+        }
+
+        @Override
+        public CompletableFuture<Map<String, Object>> getOptionsAsync(Object target, final String archetypeKey) {
+            return CompletableFuture.supplyAsync(() -> awaitOtherArchetypes("async " + archetypeKey), archetypeThreads);
+        }
+    }
+
+    public static class FailingArchetype implements OptionArchetype {
+        @Override
+        public Map<String, Object> getOptions(Object target, String archetypeKey) {
+            throw new UnsupportedOperationException("archetype failed");
+        }
+    }
+
+    @Archetype(key = "first", value = BlockingArchetype.class, order = 1)
+    @Archetype(key = "second", value = BlockingAsyncArchetype.class, order = 2)
+    public static class ConcurrentArchetypesHolder extends ArchetypeHolder {
+        ConcurrentArchetypesHolder() {
+            super("concurrent");
+        }
+    }
+
+    @Archetype(key = "second", value = BlockingAsyncArchetype.class, order = 2)
+    @Archetype(key = "first", value = BlockingArchetype.class, order = 1)
+    @Archetype(key = "third", value = BlockingArchetype.class, order = 3)
+    public static class ConcurrentArchetypesHolder2 extends ArchetypeHolder {
+        ConcurrentArchetypesHolder2() {
+            super("concurrent");
+        }
+    }
+
+    @Archetype(key = "first", value = TestArchetype.class, order = 1)
+    @Archetype(key = "second", value = FailingArchetype.class, order = 2)
+    public static class FailingArchetypesHolder extends ArchetypeHolder {
+        FailingArchetypesHolder() {
+            super("failing");
+        }
+    }
+
+    private Extractor concurrentExtractor() {
+        return Extractor.builder()
+                .extractor(new StringOptionExtractor(new StringConverter(Collections.singleton(new ClogStringConverterHelper()))))
+                .executor(archetypeThreads)
+                .concurrentArchetypes(true)
+                .build();
+    }
+
+    @Test
+    void testArchetypesAreLoadedConcurrently() {
+        archetypeThreads = Executors.newCachedThreadPool();
+        try {
+            Extractor underTest = concurrentExtractor();
+            assertThat(underTest.isConcurrentArchetypes(), is(true));
+
+            archetypesStarted = new CountDownLatch(2);
+            ArchetypeHolder holder = new ConcurrentArchetypesHolder();
+            underTest.extractOptions(holder, new HashMap<String, Object>());
+
+            // the last archetype in order wins, even though the archetypes finish in any order
+            assertThat(holder.title, is(equalTo("async second")));
+
+            archetypesStarted = new CountDownLatch(3);
+            holder = new ConcurrentArchetypesHolder2();
+            underTest.extractOptions(holder, new HashMap<String, Object>());
+            assertThat(holder.title, is(equalTo("sync third")));
+        }
+        finally {
+            archetypeThreads.shutdown();
+        }
+    }
+
+    @Test
+    void testConcurrentArchetypeFailuresAreRethrown() {
+        archetypeThreads = Executors.newCachedThreadPool();
+        try {
+            UnsupportedOperationException e = Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+                concurrentExtractor().extractOptions(new FailingArchetypesHolder(), new HashMap<String, Object>());
+            });
+            assertThat(e.getMessage(), is(equalTo("archetype failed")));
+        }
+        finally {
+            archetypeThreads.shutdown();
+        }
+    }
+
 }
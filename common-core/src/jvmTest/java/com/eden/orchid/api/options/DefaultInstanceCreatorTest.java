@@ -0,0 +1,121 @@
+package com.eden.orchid.api.options;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class DefaultInstanceCreatorTest {
+
+    private DefaultInstanceCreator underTest;
+
+    @BeforeEach
+    void setupTest() {
+        underTest = new DefaultInstanceCreator();
+        CountedConstruction.instances = 0;
+    }
+
+    public static class CountedConstruction {
+        static int instances;
+
+        public CountedConstruction() {
+            instances++;
+        }
+    }
+
+    private static class PrivateConstruction {
+        private PrivateConstruction() {
+        }
+    }
+
+    public static class NoDefaultConstructor {
+        public final String value;
+
+        public NoDefaultConstructor(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class FailingConstruction {
+        public FailingConstruction() {
+            throw new IllegalStateException("constructor failed");
+        }
+    }
+
+    public abstract static class AbstractConstruction {
+    }
+
+    public class InnerConstruction {
+    }
+
+    @Test
+    public void testCreatesNewInstances() {
+        CountedConstruction first = underTest.getInstance(CountedConstruction.class);
+        CountedConstruction second = underTest.getInstance(CountedConstruction.class);
+
+        assertThat(first, is(notNullValue()));
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(CountedConstruction.instances, is(equalTo(2)));
+    }
+
+    @Test
+    public void testMissingConstructorsReturnNull() {
+        assertThat(underTest.getInstance(NoDefaultConstructor.class), is(nullValue()));
+        assertThat(underTest.getInstance(NoDefaultConstructor.class), is(nullValue()));
+        assertThat(underTest.getInstance(AbstractConstruction.class), is(nullValue()));
+        assertThat(underTest.getInstance(FailingConstruction.class), is(nullValue()));
+
+        // private constructors are not made accessible, just as Class.newInstance() would not
+        assertThat(underTest.getInstance(PrivateConstruction.class), is(nullValue()));
+        assertThat(underTest.canCreate(PrivateConstruction.class), is(false));
+    }
+
+    @Test
+    public void testRegisteredFactories() {
+        underTest.register(NoDefaultConstructor.class, () -> new NoDefaultConstructor("registered"));
+
+        assertThat(underTest.canCreate(NoDefaultConstructor.class), is(true));
+        assertThat(underTest.getInstance(NoDefaultConstructor.class).value, is(equalTo("registered")));
+
+        // factories replace constructors, even ones which were already looked up
+        assertThat(underTest.getInstance(CountedConstruction.class), is(notNullValue()));
+        final CountedConstruction registered = new CountedConstruction();
+        underTest.register(CountedConstruction.class, () -> registered);
+        assertThat(underTest.getInstance(CountedConstruction.class), is(sameInstance(registered)));
+    }
+
+    @Test
+    public void testClearCacheKeepsRegisteredFactories() {
+        underTest.register(NoDefaultConstructor.class, () -> new NoDefaultConstructor("registered"));
+        assertThat(underTest.getInstance(CountedConstruction.class), is(notNullValue()));
+
+        underTest.clearCache();
+
+        assertThat(underTest.toString(), containsString(NoDefaultConstructor.class.getName()));
+        assertThat(underTest.getInstance(NoDefaultConstructor.class).value, is(equalTo("registered")));
+        assertThat(underTest.getInstance(CountedConstruction.class), is(notNullValue()));
+        assertThat(CountedConstruction.instances, is(equalTo(2)));
+    }
+
+    @Test
+    public void testValidate() {
+        assertThat(underTest.canCreate(CountedConstruction.class), is(true));
+        assertThat(underTest.canCreate(NoDefaultConstructor.class), is(false));
+        assertThat(underTest.canCreate(AbstractConstruction.class), is(false));
+        assertThat(underTest.canCreate(InnerConstruction.class), is(false));
+
+        underTest.validate(CountedConstruction.class);
+        assertThat(CountedConstruction.instances, is(equalTo(0)));
+
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            underTest.validate(CountedConstruction.class, NoDefaultConstructor.class, InnerConstruction.class, PrivateConstruction.class);
+        });
+        assertThat(e.getMessage(), containsString(NoDefaultConstructor.class.getName()));
+        assertThat(e.getMessage(), containsString(InnerConstruction.class.getName()));
+        assertThat(e.getMessage(), containsString(PrivateConstruction.class.getName()));
+        assertThat(e.getMessage(), not(containsString(CountedConstruction.class.getName() + " ")));
+    }
+
+}
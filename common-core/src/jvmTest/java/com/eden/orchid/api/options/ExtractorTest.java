@@ -1,10 +1,13 @@
 package com.eden.orchid.api.options;
 
 import clog.Clog;
+import com.eden.common.util.EdenPair;
 import com.eden.common.util.EdenUtils;
 import com.eden.orchid.api.converters.BooleanConverter;
 import com.eden.orchid.api.converters.ClogStringConverterHelper;
 import com.eden.orchid.api.converters.DoubleConverter;
+import com.eden.orchid.api.converters.ExtractableConverter;
+import com.eden.orchid.api.converters.FlexibleMapConverter;
 import com.eden.orchid.api.converters.IntegerConverter;
 import com.eden.orchid.api.converters.LongConverter;
 import com.eden.orchid.api.converters.NumberConverter;
@@ -18,8 +21,10 @@ import com.eden.orchid.api.options.annotations.IntDefault;
 import com.eden.orchid.api.options.annotations.Option;
 import com.eden.orchid.api.options.annotations.StringDefault;
 import com.eden.orchid.api.options.extractors.BooleanOptionExtractor;
+import com.eden.orchid.api.options.extractors.ExtractableOptionExtractor;
 import com.eden.orchid.api.options.extractors.IntOptionExtractor;
 import com.eden.orchid.api.options.extractors.StringOptionExtractor;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,11 +33,15 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import static clog.dsl.ConfigurationKt.setMinPriority;
@@ -435,4 +444,266 @@ public class ExtractorTest {
         assertThat(expectedExtractedValue.similar(actualExtractedValue), is(equalTo(true)));
     }
 
+    @Test
+    void testExtractAll() throws Throwable {
+        List<EdenPair<Object, Map<String, Object>>> holders = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Map<String, Object> options = new HashMap<>();
+            options.put("stringOption", "value " + i);
+            options.put("intOption", i);
+            holders.add(new EdenPair<Object, Map<String, Object>>(new TestOptionsClass(), options));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            extractor.extractAll(holders, executor);
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        for (int i = 0; i < holders.size(); i++) {
+            TestOptionsClass holder = (TestOptionsClass) holders.get(i).first;
+            assertThat(holder.stringOption, is(equalTo("value " + i)));
+            assertThat(holder.intOption, is(equalTo(i)));
+            assertThat(holder.parentStringOption, is(equalTo("default string")));
+        }
+    }
+
+    @Test
+    void testExtractAllAggregatesValidationFailures() throws Throwable {
+        extractor = Extractor.builder()
+                .extractors(extractor.getExtractors())
+                .validator(new OptionsValidator() {
+                    @Override
+                    public void validate(Object optionsHolder) throws Exception {
+                        if (((TestOptionsClass) optionsHolder).intOption % 10 == 0) {
+                            throw new Exception("intOption cannot be a multiple of 10");
+                        }
+                    }
+                })
+                .build();
+
+        List<EdenPair<Object, Map<String, Object>>> holders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            holders.add(new EdenPair<Object, Map<String, Object>>(new TestOptionsClass(), Collections.<String, Object>singletonMap("intOption", i)));
+        }
+
+        IllegalStateException exception = null;
+        try {
+            extractor.extractAll(holders);
+        }
+        catch (IllegalStateException e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getMessage(), is(equalTo("10 of 100 options holders could not be extracted")));
+        assertThat(exception.getSuppressed().length, is(equalTo(10)));
+        assertThat(exception.getSuppressed()[0].getCause().getMessage(), is(equalTo("intOption cannot be a multiple of 10")));
+
+        // holders that failed validation do not stop the others from being extracted
+        assertThat(((TestOptionsClass) holders.get(99).first).intOption, is(equalTo(99)));
+    }
+
+// Incremental update tests
+//----------------------------------------------------------------------------------------------------------------------
+
+    @Test
+    void testUpdateOptionsOnlySetsChangedOptions() throws Throwable {
+        Map<String, Object> previousOptions = new HashMap<>();
+        previousOptions.put("stringOption", "first");
+        previousOptions.put("intOption", 1);
+        extractor.extractOptions(testOptionsClass, previousOptions);
+
+        // options which did not change are not set again
+        testOptionsClass.parentStringOption = "untouched";
+
+        Map<String, Object> newOptions = new HashMap<>(previousOptions);
+        newOptions.put("stringOption", "second");
+
+        assertThat(extractor.updateOptions(testOptionsClass, previousOptions, newOptions), contains("stringOption"));
+        assertThat(testOptionsClass.stringOption, is(equalTo("second")));
+        assertThat(testOptionsClass.intOption, is(equalTo(1)));
+        assertThat(testOptionsClass.parentStringOption, is(equalTo("untouched")));
+
+        // removed options go back to their default
+        Map<String, Object> removedOptions = Collections.<String, Object>singletonMap("stringOption", "second");
+        assertThat(extractor.updateOptions(testOptionsClass, newOptions, removedOptions), contains("intOption"));
+        assertThat(testOptionsClass.intOption, is(equalTo(5)));
+
+        assertThat(extractor.updateOptions(testOptionsClass, removedOptions, removedOptions), is(empty()));
+    }
+
+    @Test
+    void testUpdateOptionsWithChangedKeys() throws Throwable {
+        Map<String, Object> options = new HashMap<>();
+        options.put("stringOption", "first");
+        options.put("intOption", 1);
+        extractor.extractOptions(testOptionsClass, options);
+
+        options.put("stringOption", "second");
+        options.put("intOption", 2);
+
+        assertThat(extractor.updateOptions(testOptionsClass, options, Arrays.asList("intOption", "unknown")), contains("intOption"));
+        assertThat(testOptionsClass.intOption, is(equalTo(2)));
+        assertThat(testOptionsClass.stringOption, is(equalTo("first")));
+    }
+
+    @Test
+    void testUpdateOptionsWithChangedArchetypeConfiguration() throws Throwable {
+        SingleAnnotationClass underTest = new SingleAnnotationClass();
+        Map<String, Object> previousOptions = Collections.<String, Object>singletonMap("val1", 3);
+        extractor.extractOptions(underTest, previousOptions);
+        assertThat(underTest.val1, is(equalTo(3)));
+
+        // archetypes still fill in the options which were removed
+        assertThat(extractor.updateOptions(underTest, previousOptions, new HashMap<String, Object>()), contains("val1"));
+        assertThat(underTest.val1, is(equalTo(1)));
+
+        // every option is set again when an archetype's configuration changes
+        underTest.val1 = 10;
+        assertThat(extractor.updateOptions(underTest, new HashMap<String, Object>(), Collections.singletonList("val1:1")), contains("val1"));
+        assertThat(underTest.val1, is(equalTo(1)));
+    }
+
+    public static class NestedOptionsClass implements Extractable {
+
+        @Option
+        public String title;
+
+        @Option
+        @IntDefault(5)
+        public int count;
+
+        @Override
+        public void extractOptions(Extractor extractor, Map<String, Object> options) {
+            extractor.extractOptions(this, options);
+        }
+
+    }
+
+    public static class ParentOfNestedOptionsClass {
+
+        @Option
+        public String name;
+
+        @Option
+        public NestedOptionsClass nested;
+
+    }
+
+    @Test
+    void testUpdateOptionsReusesNestedOptions() throws Throwable {
+        List<OptionExtractor> extractors = new ArrayList<>(extractor.getExtractors());
+        extractors.add(new ExtractableOptionExtractor(new ExtractableConverter(() -> extractor, new FlexibleMapConverter())));
+        extractor = Extractor.builder().extractors(extractors).build();
+
+        Map<String, Object> nestedOptions = new HashMap<>();
+        nestedOptions.put("title", "first");
+        nestedOptions.put("count", 1);
+        Map<String, Object> previousOptions = new HashMap<>();
+        previousOptions.put("name", "parent");
+        previousOptions.put("nested", nestedOptions);
+
+        ParentOfNestedOptionsClass underTest = new ParentOfNestedOptionsClass();
+        extractor.extractOptions(underTest, previousOptions);
+        NestedOptionsClass nested = underTest.nested;
+        assertThat(nested.title, is(equalTo("first")));
+
+        // a nested holder is updated in place when its own options change
+        nested.count = 100;
+        Map<String, Object> newNestedOptions = new HashMap<>(nestedOptions);
+        newNestedOptions.put("title", "second");
+        Map<String, Object> newOptions = new HashMap<>(previousOptions);
+        newOptions.put("nested", newNestedOptions);
+
+        assertThat(extractor.updateOptions(underTest, previousOptions, newOptions), contains("nested"));
+        assertThat(underTest.nested, is(sameInstance(nested)));
+        assertThat(nested.title, is(equalTo("second")));
+        assertThat(nested.count, is(equalTo(100)));
+
+        // and is replaced when it is no longer configured
+        Map<String, Object> removedOptions = Collections.<String, Object>singletonMap("name", "parent");
+        assertThat(extractor.updateOptions(underTest, newOptions, removedOptions), contains("nested"));
+        assertThat(underTest.nested, is(not(sameInstance(nested))));
+        assertThat(underTest.nested.title, is(equalTo("")));
+        assertThat(underTest.nested.count, is(equalTo(5)));
+    }
+
+    public static class DataFileArchetype implements OptionArchetype {
+        static Map<String, Object> data = new HashMap<>();
+
+        @Override
+        public Map<String, Object> getOptions(Object target, String archetypeKey) {
+            return new HashMap<>(data);
+        }
+    }
+
+    @Archetype(value = DataFileArchetype.class, key = "dataFile")
+    public static class DataFileOptionsClass {
+        @Option public String title;
+        @Option public int count;
+    }
+
+    @Test
+    void testUpdateOptionsPicksUpArchetypeChanges() throws Throwable {
+        DataFileArchetype.data = new HashMap<>();
+        DataFileArchetype.data.put("title", "first");
+        DataFileArchetype.data.put("count", 1);
+
+        DataFileOptionsClass underTest = new DataFileOptionsClass();
+        Map<String, Object> options = new HashMap<>();
+
+        // the first update has nothing to compare the archetypes with, so extracts everything
+        assertThat(extractor.updateOptions(underTest, options, options), containsInAnyOrder("title", "count"));
+        assertThat(underTest.title, is(equalTo("first")));
+
+        // only the archetype's data changes, while the options stay the same
+        underTest.count = 100;
+        DataFileArchetype.data.put("title", "second");
+
+        assertThat(extractor.updateOptions(underTest, options, options), contains("title"));
+        assertThat(underTest.title, is(equalTo("second")));
+        assertThat(underTest.count, is(equalTo(100)));
+
+        assertThat(extractor.updateOptions(underTest, options, options), is(empty()));
+
+        // options still take precedence over the archetype
+        Map<String, Object> newOptions = Collections.<String, Object>singletonMap("title", "option");
+        DataFileArchetype.data.remove("title");
+        assertThat(extractor.updateOptions(underTest, options, newOptions), contains("title"));
+        assertThat(underTest.title, is(equalTo("option")));
+
+        // and once they are removed, the archetype's data no longer has it
+        assertThat(extractor.updateOptions(underTest, newOptions, options), contains("title"));
+        assertThat(underTest.title, is(equalTo("")));
+    }
+
+    @Test
+    void testUpdateOptionsComparesJsonByContents() throws Throwable {
+        Map<String, Object> previousOptions = new HashMap<>();
+        previousOptions.put("stringOption", "value");
+        previousOptions.put("data", new JSONObject("{a: [1, {b: 'c'}]}"));
+        previousOptions.put("list", Arrays.asList(new JSONObject("{a: 1}")));
+        extractor.extractOptions(testOptionsClass, previousOptions);
+
+        Map<String, Object> newOptions = new HashMap<>();
+        newOptions.put("stringOption", "value");
+        newOptions.put("data", new JSONObject("{a: [1, {b: 'c'}]}"));
+        newOptions.put("list", Arrays.asList(new JSONObject("{a: 1}")));
+
+        assertThat(extractor.updateOptions(testOptionsClass, previousOptions, newOptions), is(empty()));
+
+        newOptions.put("data", new JSONObject("{a: [1, {b: 'd'}]}"));
+        newOptions.put("list", Arrays.asList(new JSONObject("{a: 2}")));
+        newOptions.put("stringOption", new JSONArray("[1]"));
+        previousOptions.put("stringOption", new JSONArray("[1]"));
+
+        // keys without an option field are still compared, but only option fields are set
+        assertThat(extractor.updateOptions(testOptionsClass, previousOptions, newOptions), is(empty()));
+        previousOptions.put("stringOption", new JSONArray("[2]"));
+        assertThat(extractor.updateOptions(testOptionsClass, previousOptions, newOptions), contains("stringOption"));
+    }
+
 }
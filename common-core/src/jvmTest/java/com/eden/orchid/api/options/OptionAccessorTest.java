@@ -0,0 +1,106 @@
+package com.eden.orchid.api.options;
+
+import com.eden.orchid.api.options.annotations.Option;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class OptionAccessorTest {
+
+    public static class TestSetterClass {
+
+        @Option
+        public String setterOption;
+
+        public int setterCalls;
+
+        public void setSetterOption(String value) {
+            this.setterOption = "from setter: " + value;
+            this.setterCalls++;
+        }
+
+        public void setSetterOption(Object value) {
+            throw new UnsupportedOperationException("the setter matching the field type should be used");
+        }
+
+    }
+
+    public static class TestMapLikeGetterClass {
+
+        @Option
+        private String mapLikeOption;
+
+        private final Map<String, Object> values = new HashMap<>();
+
+        public void setMapLikeOption(String value) {
+            values.put("mapLikeOption", value);
+        }
+
+        public Object get(String key) {
+            return values.get(key);
+        }
+
+    }
+
+    public static class TestThrowingGetterClass {
+
+        @Option
+        public boolean throwingOption = true;
+
+        public boolean getThrowingOption() {
+            throw new IllegalStateException("getter failed");
+        }
+
+    }
+
+    @Test
+    void testSetterIsPreferredOverField() throws Throwable {
+        TestSetterClass underTest = new TestSetterClass();
+        OptionAccessor accessor = OptionAccessor.create(
+                TestSetterClass.class,
+                TestSetterClass.class.getField("setterOption"),
+                "setterOption",
+                String.class
+        );
+
+        accessor.set(underTest, "value");
+
+        assertThat(underTest.setterOption, is(equalTo("from setter: value")));
+        assertThat(underTest.setterCalls, is(equalTo(1)));
+        assertThat(accessor.get(underTest), is(equalTo((Object) "from setter: value")));
+    }
+
+    @Test
+    void testMapLikeGetter() throws Throwable {
+        TestMapLikeGetterClass underTest = new TestMapLikeGetterClass();
+        OptionAccessor accessor = OptionAccessor.create(
+                TestMapLikeGetterClass.class,
+                TestMapLikeGetterClass.class.getDeclaredField("mapLikeOption"),
+                "mapLikeOption",
+                String.class
+        );
+
+        accessor.set(underTest, "value");
+
+        assertThat(underTest.mapLikeOption, is(nullValue()));
+        assertThat(accessor.get(underTest), is(equalTo((Object) "value")));
+    }
+
+    @Test
+    void testFailingGetterFallsBackToField() throws Throwable {
+        TestThrowingGetterClass underTest = new TestThrowingGetterClass();
+        OptionAccessor accessor = OptionAccessor.create(
+                TestThrowingGetterClass.class,
+                TestThrowingGetterClass.class.getField("throwingOption"),
+                "throwingOption",
+                boolean.class
+        );
+
+        assertThat(accessor.get(underTest), is(equalTo((Object) true)));
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.eden.orchid.api.options;
+
+import com.eden.orchid.api.converters.ClogStringConverterHelper;
+import com.eden.orchid.api.converters.StringConverter;
+import com.eden.orchid.api.options.annotations.AllOptions;
+import com.eden.orchid.api.options.annotations.Option;
+import com.eden.orchid.api.options.annotations.StringDefault;
+import com.eden.orchid.api.options.extractors.StringOptionExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class OptionsBinderTest {
+
+    public static class BoundOptionsClass {
+
+        @AllOptions
+        public Map<String, Object> allOptions;
+
+        @Option
+        @StringDefault("default bound")
+        public String boundOption;
+
+        @Option
+        public String reflectiveOption;
+
+        @Option
+        public String failingOption;
+
+        public int binderCalls;
+
+    }
+
+    public static class UnboundOptionsClass {
+
+        @Option
+        public String unboundOption;
+
+    }
+
+    private Extractor extractor;
+
+    @BeforeEach
+    void setupTest() {
+        StringConverter stringConverter = new StringConverter(Collections.singleton(new ClogStringConverterHelper()));
+
+        List<OptionExtractor> extractors = new ArrayList<>();
+        extractors.add(new StringOptionExtractor(stringConverter));
+
+        extractor = Extractor.builder().extractors(extractors).build();
+    }
+
+    @Test
+    void testGeneratedBinderIsLoaded() throws Throwable {
+        assertThat(
+                extractor.getMetadata(BoundOptionsClass.class).getOptionsBinder(),
+                is(instanceOf(OptionsBinderTest$BoundOptionsClass$$OptionsBinder.class))
+        );
+        assertThat(extractor.getMetadata(UnboundOptionsClass.class).getOptionsBinder(), is(nullValue()));
+    }
+
+    @Test
+    void testOptionsAreSetThroughBinder() throws Throwable {
+        Map<String, Object> options = new HashMap<>();
+        options.put("reflectiveOption", "reflective value");
+        options.put("failingOption", "failing value");
+
+        BoundOptionsClass underTest = new BoundOptionsClass();
+        extractor.extractOptions(underTest, options);
+
+        assertThat(underTest.boundOption, is(equalTo("bound: default bound")));
+        assertThat(underTest.reflectiveOption, is(equalTo("reflective value")));
+        assertThat(underTest.failingOption, is(equalTo("failing value")));
+        assertThat(underTest.allOptions, is(equalTo(options)));
+
+        // allOptions and boundOption are set by the binder, failingOption is attempted but falls back to reflection
+        assertThat(underTest.binderCalls, is(equalTo(3)));
+
+        Map<String, Object> values = extractor.getOptionsValues(underTest);
+        assertThat(values, hasEntry("boundOption", (Object) "got bound: default bound"));
+        assertThat(values, hasEntry("reflectiveOption", (Object) "reflective value"));
+    }
+
+}
+
+/**
+ * Stands in for the binder the annotation processor would generate for {@link OptionsBinderTest.BoundOptionsClass}.
+ */
+class OptionsBinderTest$BoundOptionsClass$$OptionsBinder implements OptionsBinder<OptionsBinderTest.BoundOptionsClass> {
+
+    public OptionsBinderTest$BoundOptionsClass$$OptionsBinder() {
+    }
+
+    @Override
+    public boolean canSetAllOptions() {
+        return true;
+    }
+
+    @Override
+    public void setAllOptions(OptionsBinderTest.BoundOptionsClass optionsHolder, Map<String, Object> allOptions) {
+        optionsHolder.binderCalls++;
+        optionsHolder.allOptions = allOptions;
+    }
+
+    @Override
+    public boolean canSetOptionValue(String key) {
+        return key.equals("boundOption") || key.equals("failingOption");
+    }
+
+    @Override
+    public void setOptionValue(OptionsBinderTest.BoundOptionsClass optionsHolder, String key, Object value) {
+        optionsHolder.binderCalls++;
+        if (key.equals("boundOption")) {
+            optionsHolder.boundOption = "bound: " + value;
+        }
+        else {
+            throw new IllegalStateException("binder failed");
+        }
+    }
+
+    @Override
+    public boolean canGetOptionValue(String key) {
+        return key.equals("boundOption");
+    }
+
+    @Override
+    public Object getOptionValue(OptionsBinderTest.BoundOptionsClass optionsHolder, String key) {
+        return "got " + optionsHolder.boundOption;
+    }
+
+}
@@ -0,0 +1,269 @@
+package com.eden.orchid.api.options;
+
+import com.eden.orchid.api.converters.ClogStringConverterHelper;
+import com.eden.orchid.api.converters.IntegerConverter;
+import com.eden.orchid.api.converters.StringConverter;
+import com.eden.orchid.api.options.annotations.AllOptions;
+import com.eden.orchid.api.options.annotations.IntDefault;
+import com.eden.orchid.api.options.annotations.Option;
+import com.eden.orchid.api.options.annotations.StringDefault;
+import com.eden.orchid.api.options.extractors.IntOptionExtractor;
+import com.eden.orchid.api.options.extractors.StringOptionExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class OptionsHolderMetadataTest {
+
+    public static class ParentTestOptionsClass {
+
+        @AllOptions
+        public Map<String, Object> allOptions;
+
+        @Option
+        @IntDefault(5)
+        public int parentIntOption;
+
+    }
+
+    public static class TestOptionsClass extends ParentTestOptionsClass {
+
+        @Option
+        @StringDefault("default string")
+        public String stringOption;
+
+        @Option("renamed")
+        public String renamedOption;
+
+        @Option
+        public Object unsupportedOption;
+
+        public String notAnOption;
+
+    }
+
+    private Extractor extractor;
+    private StringOptionExtractor stringOptionExtractor;
+    private IntOptionExtractor intOptionExtractor;
+
+    @BeforeEach
+    void setupTest() {
+        StringConverter stringConverter = new StringConverter(Collections.singleton(new ClogStringConverterHelper()));
+        stringOptionExtractor = new StringOptionExtractor(stringConverter);
+        intOptionExtractor = new IntOptionExtractor(new IntegerConverter(stringConverter));
+
+        List<OptionExtractor> extractors = new ArrayList<>();
+        extractors.add(stringOptionExtractor);
+        extractors.add(intOptionExtractor);
+
+        extractor = Extractor.builder().extractors(extractors).build();
+    }
+
+    @Test
+    void testMetadataIsResolvedFromClassHierarchy() throws Throwable {
+        OptionsHolderMetadata metadata = extractor.getMetadata(TestOptionsClass.class);
+
+        assertThat(metadata.getOptionsHolderClass(), is(equalTo((Object) TestOptionsClass.class)));
+        assertThat(metadata.getAllOptionsField(), is(equalTo(ParentTestOptionsClass.class.getField("allOptions"))));
+        assertThat(metadata.getOptionFields(), hasSize(4));
+
+        assertThat(metadata.getOptionField("stringOption").getField(), is(equalTo(TestOptionsClass.class.getField("stringOption"))));
+        assertThat(metadata.getOptionField("stringOption").getExtractor(), is(sameInstance((Object) stringOptionExtractor)));
+
+        assertThat(metadata.getOptionField("renamed").getField(), is(equalTo(TestOptionsClass.class.getField("renamedOption"))));
+        assertThat(metadata.getOptionField("renamedOption"), is(nullValue()));
+
+        assertThat(metadata.getOptionField("parentIntOption").getExtractor(), is(sameInstance((Object) intOptionExtractor)));
+        assertThat(metadata.getOptionField("unsupportedOption").getExtractor(), is(nullValue()));
+        assertThat(metadata.getOptionField("notAnOption"), is(nullValue()));
+    }
+
+    public static class PrimitiveOptionsClass {
+
+        @Option
+        public int publicInt;
+
+        @Option
+        public Integer boxedInt;
+
+        @Option
+        public int setterInt;
+
+        public void setSetterInt(int setterInt) {
+            this.setterInt = setterInt * 2;
+        }
+
+    }
+
+    @Test
+    void testPrimitiveFieldsAreWrittenDirectly() throws Throwable {
+        OptionsHolderMetadata metadata = extractor.getMetadata(PrimitiveOptionsClass.class);
+
+        assertThat(metadata.getOptionField("publicInt").getPrimitiveExtractor(), is(sameInstance((Object) intOptionExtractor)));
+        assertThat(metadata.getOptionField("boxedInt").getPrimitiveExtractor(), is(nullValue()));
+        assertThat(metadata.getOptionField("setterInt").getPrimitiveExtractor(), is(nullValue()));
+
+        Map<String, Object> options = new HashMap<>();
+        options.put("publicInt", 3L);
+        options.put("boxedInt", 4);
+        options.put("setterInt", 5);
+
+        PrimitiveOptionsClass underTest = new PrimitiveOptionsClass();
+        extractor.extractOptions(underTest, options);
+
+        assertThat(underTest.publicInt, is(equalTo(3)));
+        assertThat(underTest.boxedInt, is(equalTo(4)));
+        assertThat(underTest.setterInt, is(equalTo(10)));
+    }
+
+    @Test
+    void testFindExtractor() throws Throwable {
+        assertThat(extractor.findExtractor(String.class), is(sameInstance((Object) stringOptionExtractor)));
+        assertThat(extractor.findExtractor(int.class), is(sameInstance((Object) intOptionExtractor)));
+        assertThat(extractor.findExtractor(Integer.class), is(sameInstance((Object) intOptionExtractor)));
+        assertThat(extractor.findExtractor(Object.class), is(nullValue()));
+        assertThat(extractor.findExtractor(Object.class), is(nullValue()));
+    }
+
+    @Test
+    void testMetadataIsCachedUntilCleared() throws Throwable {
+        OptionsHolderMetadata metadata = extractor.getMetadata(TestOptionsClass.class);
+        assertThat(extractor.getMetadata(TestOptionsClass.class), is(sameInstance(metadata)));
+
+        extractor.clearCache();
+
+        OptionsHolderMetadata newMetadata = extractor.getMetadata(TestOptionsClass.class);
+        assertThat(newMetadata, is(not(sameInstance(metadata))));
+        assertThat(newMetadata.getOptionFields(), hasSize(metadata.getOptionFields().size()));
+    }
+
+    @Test
+    void testAccessorsForOtherFieldsAreCached() throws Throwable {
+        OptionsHolderMetadata metadata = extractor.getMetadata(TestOptionsClass.class);
+        Field stringOption = TestOptionsClass.class.getField("stringOption");
+        Field notAnOption = TestOptionsClass.class.getField("notAnOption");
+
+        assertThat(metadata.getAccessor(stringOption, "stringOption", String.class), is(sameInstance(metadata.getOptionField("stringOption").getAccessor())));
+
+        OptionAccessor accessor = metadata.getAccessor(notAnOption, "notAnOption", String.class);
+        assertThat(metadata.getAccessor(notAnOption, "notAnOption", String.class), is(sameInstance(accessor)));
+        assertThat(metadata.getAccessor(notAnOption, "otherKey", String.class), is(not(sameInstance(accessor))));
+
+        TestOptionsClass optionsHolder = new TestOptionsClass();
+        extractor.setOptionValue(optionsHolder, notAnOption, "notAnOption", String.class, "value");
+        assertThat(optionsHolder.notAnOption, is(equalTo("value")));
+        assertThat(extractor.getOptionValue(optionsHolder, notAnOption, "notAnOption"), is(equalTo((Object) "value")));
+    }
+
+    @Test
+    void testExtractingWithCachedMetadata() throws Throwable {
+        TestOptionsClass first = new TestOptionsClass();
+        extractor.extractOptions(first, Collections.<String, Object>singletonMap("renamed", "first"));
+
+        TestOptionsClass second = new TestOptionsClass();
+        extractor.extractOptions(second, Collections.<String, Object>singletonMap("renamed", "second"));
+
+        assertThat(first.renamedOption, is(equalTo("first")));
+        assertThat(first.stringOption, is(equalTo("default string")));
+        assertThat(first.parentIntOption, is(equalTo(5)));
+        assertThat(first.allOptions, hasEntry("renamed", (Object) "first"));
+        assertThat(second.renamedOption, is(equalTo("second")));
+
+        assertThat(extractor.describeOption(TestOptionsClass.class, "parentIntOption"), is(equalTo("5")));
+        assertThat(extractor.describeOption(TestOptionsClass.class, "missingOption"), is(equalTo("")));
+    }
+
+    private static class CountingDefaultsExtractor extends OptionExtractor<List> {
+        private final boolean reusable;
+        private int defaults;
+
+        CountingDefaultsExtractor(boolean reusable) {
+            super(100);
+            this.reusable = reusable;
+        }
+
+        @Override
+        public boolean acceptsClass(Class clazz) {
+            return List.class.isAssignableFrom(clazz);
+        }
+
+        @Override
+        public List getOption(Field field, Object sourceObject, String key) {
+            return (sourceObject instanceof List) ? new ArrayList<>((List) sourceObject) : null;
+        }
+
+        @Override
+        public List getDefaultValue(Field field) {
+            defaults++;
+            return new ArrayList<>(Arrays.asList("a", "b"));
+        }
+
+        @Override
+        public boolean isDefaultValueReusable(Field field) {
+            return reusable;
+        }
+
+        @Override
+        public List copyDefaultValue(Field field, List defaultValue) {
+            return new ArrayList<>(defaultValue);
+        }
+    }
+
+    public static class ListOptionsClass {
+
+        @Option
+        public List<String> items;
+
+    }
+
+    @Test
+    void testReusableDefaultsAreComputedOnce() throws Throwable {
+        CountingDefaultsExtractor defaultsExtractor = new CountingDefaultsExtractor(true);
+        extractor = Extractor.builder().extractors(Collections.singletonList(defaultsExtractor)).build();
+
+        ListOptionsClass first = new ListOptionsClass();
+        extractor.extractOptions(first, new HashMap<String, Object>());
+        ListOptionsClass second = new ListOptionsClass();
+        extractor.extractOptions(second, Collections.<String, Object>singletonMap("items", "not a list"));
+        ListOptionsClass third = new ListOptionsClass();
+        extractor.extractOptions(third, Collections.<String, Object>singletonMap("items", Arrays.asList("c")));
+
+        assertThat(first.items, contains("a", "b"));
+        assertThat(second.items, contains("a", "b"));
+        assertThat(third.items, contains("c"));
+        assertThat(defaultsExtractor.defaults, is(equalTo(1)));
+
+        // each holder gets its own copy of a mutable default
+        first.items.add("changed");
+        assertThat(second.items, contains("a", "b"));
+
+        assertThat(extractor.describeOption(ListOptionsClass.class, "items"), is(equalTo("[a, b]")));
+        assertThat(extractor.describeOption(ListOptionsClass.class, "items"), is(equalTo("[a, b]")));
+        assertThat(defaultsExtractor.defaults, is(equalTo(2)));
+    }
+
+    @Test
+    void testDefaultsAreNotReusedUnlessAllowed() throws Throwable {
+        CountingDefaultsExtractor defaultsExtractor = new CountingDefaultsExtractor(false);
+        extractor = Extractor.builder().extractors(Collections.singletonList(defaultsExtractor)).build();
+
+        for (int i = 0; i < 3; i++) {
+            ListOptionsClass underTest = new ListOptionsClass();
+            extractor.extractOptions(underTest, new HashMap<String, Object>());
+            assertThat(underTest.items, contains("a", "b"));
+        }
+
+        assertThat(defaultsExtractor.defaults, is(equalTo(3)));
+    }
+
+}
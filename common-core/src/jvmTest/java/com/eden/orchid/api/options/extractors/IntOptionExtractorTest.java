@@ -66,6 +66,9 @@ public class IntOptionExtractorTest extends BaseExtractorTest {
                 Arguments.of(new TestClass1(), "45",         0, 45),
                 Arguments.of(new TestClass1(), null,         0, 10),
                 Arguments.of(new TestClass1(), "_nullValue", 0, 10),
+                Arguments.of(new TestClass1(), 45L,          0, 45),
+                Arguments.of(new TestClass1(), 3000000000L,  0, 10),
+                Arguments.of(new TestClass1(), 45.0,         0, 10),
 
                 Arguments.of(new TestClass2(), 45,           null, 45),
                 Arguments.of(new TestClass2(), "45",         null, 45),
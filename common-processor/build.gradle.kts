@@ -0,0 +1,35 @@
+plugins {
+    `java-library`
+    `copper-leaf-base`
+    `copper-leaf-version`
+    `copper-leaf-publish`
+}
+
+description = "Annotation processor generating reflection-free OptionsBinders for classes with Orchid options"
+
+java {
+    sourceCompatibility = JavaVersion.toVersion(Config.javaVersion)
+    targetCompatibility = JavaVersion.toVersion(Config.javaVersion)
+}
+
+dependencies {
+    testImplementation(project(":common-core"))
+    testImplementation("org.hamcrest:hamcrest-library:2.2")
+    testImplementation("org.junit.jupiter:junit-jupiter-api:5.7.1")
+    testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:5.7.1")
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
+    testLogging {
+        showStandardStreams = true
+    }
+}
+
+publishing {
+    publications {
+        create<MavenPublication>("processor") {
+            from(components["java"])
+        }
+    }
+}
@@ -0,0 +1,696 @@
+package com.eden.orchid.api.options.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates an `OptionsBinder` for every class which has options, either declared itself or inherited from its
+ * superclasses. The generated binder sets and gets options with plain field access and method calls, so the Extractor
+ * does not need reflection for them. The processor also writes a GraalVM native-image reflection configuration for
+ * every options holder, so that the reflection the Extractor still needs works in a native image.
+ *
+ * Binders only do exactly what the Extractor would otherwise do reflectively, so adding this processor never changes
+ * which values end up in an options holder:
+ *
+ * - options are set with a public `set[Key]` method taking the field's type, or else by assigning a public non-final
+ *   field
+ * - options are read with the first of `get[Key]()`, `is[Key]()` or `has[Key]()` for boolean options, `[key]()`, or
+ *   `get(String)` which is public, or else by reading a public field
+ * - the field annotated with `@AllOptions` is bound if it is the only such field in the class hierarchy, has type
+ *   `java.util.Map`, and is public and non-final
+ *
+ * Anything else, such as private fields without a setter, static members, or option keys declared by more than one
+ * field, is left out of the binder and continues to use reflection.
+ *
+ * Binders only replace reflective reads and writes of option values, and this is deliberately all they do. Default
+ * values and option descriptions are computed by `OptionExtractor`s from the option's `java.lang.reflect.Field`, its
+ * `*Default` annotations and its generic type, and `@ImpliedKey` and `@Archetype` are applied through those same
+ * extractors. Generating them would mean duplicating the logic of every extractor, including custom ones, in generated
+ * code. They are still resolved with reflection once per class instead, and the generated
+ * `META-INF/native-image/{directory}/reflect-config.json` registers what that needs:
+ *
+ * - every options holder and all of its supertypes, with their declared fields and constructors and public methods
+ * - every class named by an `@Archetype` on them, which is created and configured in the same way
+ * - the public constructor of each generated binder, which the Extractor loads by name
+ *
+ * The `{directory}` defaults to `options-binders`, and can be changed with the `optionsBinder.nativeImageDirectory`
+ * processor option, such as to the project's group and artifact ids so that the configuration of several projects can
+ * be merged into one jar.
+ *
+ * Because a class may inherit all of its options without being annotated itself, every class in the compilation is
+ * inspected, and the processor is registered with Gradle as an aggregating processor.
+ */
+public class OptionsBinderProcessor extends AbstractProcessor {
+
+    public static final String OPTION_ANNOTATION = "com.eden.orchid.api.options.annotations.Option";
+    public static final String ALL_OPTIONS_ANNOTATION = "com.eden.orchid.api.options.annotations.AllOptions";
+    public static final String ARCHETYPE_ANNOTATION = "com.eden.orchid.api.options.annotations.Archetype";
+    public static final String ARCHETYPES_ANNOTATION = "com.eden.orchid.api.options.annotations.Archetypes";
+    public static final String OPTIONS_BINDER_INTERFACE = "com.eden.orchid.api.options.OptionsBinder";
+    public static final String CLASS_NAME_SUFFIX = "$$OptionsBinder";
+
+    public static final String NATIVE_IMAGE_DIRECTORY_OPTION = "optionsBinder.nativeImageDirectory";
+    public static final String DEFAULT_NATIVE_IMAGE_DIRECTORY = "options-binders";
+
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+    private Messager messager;
+
+    private final Set<String> generatedBinders = new HashSet<>();
+
+    // the binary names of the classes to register for reflection, collected over every round and written in the last
+    private final Set<String> reflectedTypes = new TreeSet<>();
+    private final Set<String> reflectedBinders = new TreeSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // subclasses inherit options without being annotated themselves, so every class in the round is inspected. This
+        // is also why the processor is registered as aggregating rather than isolating for incremental builds.
+        return Collections.singleton("*");
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Collections.singleton(NATIVE_IMAGE_DIRECTORY_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        // the options binder interface is not on the classpath, so there is nothing these classes could bind to
+        if (elements.getTypeElement(OPTIONS_BINDER_INTERFACE) == null) {
+            return false;
+        }
+
+        List<TypeElement> optionsHolders = new ArrayList<>();
+        for (TypeElement rootType : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collectOptionsHolders(rootType, optionsHolders);
+        }
+
+        for (TypeElement optionsHolder : optionsHolders) {
+            BinderModel model = createModel(optionsHolder);
+            if (model.hasBindings() && generatedBinders.add(model.binderQualifiedName)) {
+                writeBinder(model);
+                reflectedBinders.add(model.binderQualifiedName);
+            }
+            collectReflectedTypes(optionsHolder);
+        }
+
+        if (roundEnv.processingOver() && !reflectedTypes.isEmpty()) {
+            writeReflectionConfig();
+        }
+
+        return false;
+    }
+
+// Find classes to bind
+//----------------------------------------------------------------------------------------------------------------------
+
+    private void collectOptionsHolders(TypeElement type, List<TypeElement> optionsHolders) {
+        if (!isBindable(type)) {
+            return;
+        }
+
+        if (type.getKind() == ElementKind.CLASS && hasOptions(type)) {
+            optionsHolders.add(type);
+        }
+
+        for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collectOptionsHolders(nestedType, optionsHolders);
+        }
+    }
+
+    private boolean isBindable(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return false;
+        }
+
+        return true;
+    }
+
+    private boolean hasOptions(TypeElement type) {
+        for (TypeElement currentType = type; currentType != null; currentType = getSuperclass(currentType)) {
+            for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                if (getAnnotation(field, OPTION_ANNOTATION) != null || getAnnotation(field, ALL_OPTIONS_ANNOTATION) != null) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+// Build the binder model
+//----------------------------------------------------------------------------------------------------------------------
+
+    private BinderModel createModel(TypeElement optionsHolder) {
+        BinderModel model = new BinderModel(optionsHolder);
+
+        // mirror Extractor.findOptionFields: options from subclasses come first, and the last @AllOptions field wins
+        Map<String, List<VariableElement>> optionFieldsByKey = new LinkedHashMap<>();
+        List<VariableElement> allOptionsFields = new ArrayList<>();
+        for (TypeElement currentType = optionsHolder; currentType != null; currentType = getSuperclass(currentType)) {
+            for (VariableElement field : ElementFilter.fieldsIn(currentType.getEnclosedElements())) {
+                AnnotationMirror option = getAnnotation(field, OPTION_ANNOTATION);
+                if (option != null) {
+                    String key = getOptionKey(field, option);
+                    if (!optionFieldsByKey.containsKey(key)) {
+                        optionFieldsByKey.put(key, new ArrayList<VariableElement>());
+                    }
+                    optionFieldsByKey.get(key).add(field);
+                }
+                else if (getAnnotation(field, ALL_OPTIONS_ANNOTATION) != null && isMapType(field.asType())) {
+                    allOptionsFields.add(field);
+                }
+            }
+        }
+
+        if (allOptionsFields.size() == 1 && isAssignableField(allOptionsFields.get(0))) {
+            model.allOptionsField = getFieldExpression(optionsHolder, allOptionsFields.get(0));
+        }
+
+        List<ExecutableElement> methods = getPublicMethods(optionsHolder);
+        for (Map.Entry<String, List<VariableElement>> entry : optionFieldsByKey.entrySet()) {
+            // the order fields are listed by reflection is unspecified, so only bind keys which are unambiguous
+            if (entry.getValue().size() != 1) {
+                continue;
+            }
+
+            String key = entry.getKey();
+            VariableElement field = entry.getValue().get(0);
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            String setter = getSetterExpression(optionsHolder, methods, field, key);
+            if (setter != null) {
+                model.setters.put(key, setter);
+            }
+
+            String getter = getGetterExpression(optionsHolder, methods, field, key);
+            if (getter != null) {
+                model.getters.put(key, getter);
+            }
+        }
+
+        return model;
+    }
+
+    private String getSetterExpression(TypeElement optionsHolder, List<ExecutableElement> methods, VariableElement field, String key) {
+        String capitalizedKey = key.substring(0, 1).toUpperCase() + key.substring(1);
+
+        ExecutableElement setter = findMethod(methods, "set" + capitalizedKey, field.asType());
+        if (setter != null) {
+            if (isCallable(setter)) {
+                // inherited generic setters take the type argument the holder class gives them, not their erasure
+                ExecutableType setterType = (ExecutableType) types.asMemberOf(
+                        (DeclaredType) types.erasure(optionsHolder.asType()),
+                        setter
+                );
+                String castValue = "(" + getCastType(setterType.getParameterTypes().get(0)) + ") value";
+                return "optionsHolder." + setter.getSimpleName() + "(" + castValue + ")";
+            }
+            return null;
+        }
+        else if (isAssignableField(field)) {
+            String castValue = "(" + getCastType(field.asType()) + ") value";
+            String fieldExpression = getFieldExpression(optionsHolder, field);
+            return (fieldExpression != null) ? fieldExpression + " = " + castValue : null;
+        }
+
+        return null;
+    }
+
+    private String getGetterExpression(TypeElement optionsHolder, List<ExecutableElement> methods, VariableElement field, String key) {
+        String capitalizedKey = key.substring(0, 1).toUpperCase() + key.substring(1);
+
+        List<String> getterNames = new ArrayList<>();
+        getterNames.add("get" + capitalizedKey);
+        if (isBooleanType(field.asType())) {
+            getterNames.add("is" + capitalizedKey);
+            getterNames.add("has" + capitalizedKey);
+        }
+        getterNames.add(key);
+
+        for (String getterName : getterNames) {
+            ExecutableElement getter = findMethod(methods, getterName);
+            if (getter != null) {
+                return (isCallable(getter)) ? "optionsHolder." + getterName + "()" : null;
+            }
+        }
+
+        ExecutableElement mapLikeGetter = findMethod(methods, "get", elements.getTypeElement("java.lang.String").asType());
+        if (mapLikeGetter != null) {
+            return (isCallable(mapLikeGetter)) ? "optionsHolder.get(" + elements.getConstantExpression(key) + ")" : null;
+        }
+
+        if (field.getModifiers().contains(Modifier.PUBLIC)) {
+            return getFieldExpression(optionsHolder, field);
+        }
+
+        return null;
+    }
+
+// Write the binder source
+//----------------------------------------------------------------------------------------------------------------------
+
+    private void writeBinder(BinderModel model) {
+        String holderType = types.erasure(model.optionsHolder.asType()).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!model.packageName.isEmpty()) {
+            source.append("package ").append(model.packageName).append(";\n\n");
+        }
+        source.append("/**\n");
+        source.append(" * Generated by ").append(OptionsBinderProcessor.class.getName()).append(" for {@link ").append(holderType).append("}.\n");
+        source.append(" * Do not edit, changes will be overwritten on the next build.\n");
+        source.append(" */\n");
+        source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        source.append("public final class ").append(model.binderSimpleName)
+                .append(" implements ").append(OPTIONS_BINDER_INTERFACE).append("<").append(holderType).append("> {\n\n");
+
+        // allOptions
+        source.append("    @Override\n");
+        source.append("    public boolean canSetAllOptions() {\n");
+        source.append("        return ").append(model.allOptionsField != null).append(";\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public void setAllOptions(").append(holderType).append(" optionsHolder, java.util.Map<java.lang.String, java.lang.Object> allOptions) {\n");
+        if (model.allOptionsField != null) {
+            source.append("        ").append(model.allOptionsField).append(" = allOptions;\n");
+        }
+        else {
+            String message = holderType + " has no @AllOptions field which can be set without reflection";
+            source.append("        throw new java.lang.IllegalStateException(").append(elements.getConstantExpression(message)).append(");\n");
+        }
+        source.append("    }\n\n");
+
+        // setters
+        appendCanBindMethod(source, "canSetOptionValue", model.setters.keySet());
+
+        source.append("    @Override\n");
+        source.append("    public void setOptionValue(").append(holderType).append(" optionsHolder, java.lang.String key, java.lang.Object value) {\n");
+        source.append("        switch (key) {\n");
+        for (Map.Entry<String, String> setter : model.setters.entrySet()) {
+            source.append("            case ").append(elements.getConstantExpression(setter.getKey())).append(":\n");
+            source.append("                ").append(setter.getValue()).append(";\n");
+            source.append("                return;\n");
+        }
+        source.append("            default:\n");
+        source.append("                throw new java.lang.IllegalArgumentException(key);\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+
+        // getters
+        appendCanBindMethod(source, "canGetOptionValue", model.getters.keySet());
+
+        source.append("    @Override\n");
+        source.append("    public java.lang.Object getOptionValue(").append(holderType).append(" optionsHolder, java.lang.String key) {\n");
+        source.append("        switch (key) {\n");
+        for (Map.Entry<String, String> getter : model.getters.entrySet()) {
+            source.append("            case ").append(elements.getConstantExpression(getter.getKey())).append(":\n");
+            source.append("                return ").append(getter.getValue()).append(";\n");
+        }
+        source.append("            default:\n");
+        source.append("                throw new java.lang.IllegalArgumentException(key);\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+
+        source.append("}\n");
+
+        try {
+            JavaFileObject sourceFile = filer.createSourceFile(model.binderQualifiedName, model.optionsHolder);
+            Writer writer = sourceFile.openWriter();
+            try {
+                writer.write(source.toString());
+            }
+            finally {
+                writer.close();
+            }
+        }
+        catch (IOException e) {
+            messager.printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Could not write options binder " + model.binderQualifiedName + ": " + e.getMessage(),
+                    model.optionsHolder
+            );
+        }
+    }
+
+// Write the native-image reflection config
+//----------------------------------------------------------------------------------------------------------------------
+
+    private void collectReflectedTypes(TypeElement optionsHolder) {
+        List<TypeElement> supertypes = new ArrayList<>();
+        collectSupertypes(optionsHolder.asType(), supertypes, new HashSet<String>());
+
+        for (TypeElement type : supertypes) {
+            if (!type.getQualifiedName().contentEquals("java.lang.Object")) {
+                reflectedTypes.add(elements.getBinaryName(type).toString());
+            }
+
+            for (AnnotationMirror archetype : getArchetypeAnnotations(type)) {
+                TypeElement archetypeType = getArchetypeType(archetype);
+                if (archetypeType != null) {
+                    reflectedTypes.add(elements.getBinaryName(archetypeType).toString());
+                }
+            }
+        }
+    }
+
+    private List<AnnotationMirror> getArchetypeAnnotations(TypeElement type) {
+        List<AnnotationMirror> archetypes = new ArrayList<>();
+
+        AnnotationMirror archetype = getAnnotation(type, ARCHETYPE_ANNOTATION);
+        if (archetype != null) {
+            archetypes.add(archetype);
+        }
+
+        AnnotationValue repeatedArchetypes = getAnnotationValue(getAnnotation(type, ARCHETYPES_ANNOTATION), "value");
+        if (repeatedArchetypes != null && repeatedArchetypes.getValue() instanceof List) {
+            for (Object repeatedArchetype : (List<?>) repeatedArchetypes.getValue()) {
+                Object value = ((AnnotationValue) repeatedArchetype).getValue();
+                if (value instanceof AnnotationMirror) {
+                    archetypes.add((AnnotationMirror) value);
+                }
+            }
+        }
+
+        return archetypes;
+    }
+
+    private TypeElement getArchetypeType(AnnotationMirror archetype) {
+        AnnotationValue value = getAnnotationValue(archetype, "value");
+        if (value != null && value.getValue() instanceof DeclaredType) {
+            return (TypeElement) ((DeclaredType) value.getValue()).asElement();
+        }
+        return null;
+    }
+
+    private void writeReflectionConfig() {
+        String directory = processingEnv.getOptions().get(NATIVE_IMAGE_DIRECTORY_OPTION);
+        if (directory == null || directory.isEmpty()) {
+            directory = DEFAULT_NATIVE_IMAGE_DIRECTORY;
+        }
+        String resourceName = "META-INF/native-image/" + directory + "/reflect-config.json";
+
+        List<String> entries = new ArrayList<>();
+        for (String type : reflectedTypes) {
+            entries.add(
+                    "  {\n" +
+                    "    \"name\": \"" + type + "\",\n" +
+                    "    \"allDeclaredConstructors\": true,\n" +
+                    "    \"allDeclaredFields\": true,\n" +
+                    "    \"allPublicMethods\": true\n" +
+                    "  }"
+            );
+        }
+        for (String binder : reflectedBinders) {
+            entries.add(
+                    "  {\n" +
+                    "    \"name\": \"" + binder + "\",\n" +
+                    "    \"allPublicConstructors\": true\n" +
+                    "  }"
+            );
+        }
+
+        StringBuilder config = new StringBuilder("[\n");
+        for (int i = 0; i < entries.size(); i++) {
+            config.append(entries.get(i)).append((i < entries.size() - 1) ? ",\n" : "\n");
+        }
+        config.append("]\n");
+
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+            Writer writer = resource.openWriter();
+            try {
+                writer.write(config.toString());
+            }
+            finally {
+                writer.close();
+            }
+        }
+        catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not write native-image config " + resourceName + ": " + e.getMessage());
+        }
+    }
+
+    private void appendCanBindMethod(StringBuilder source, String methodName, Set<String> keys) {
+        source.append("    @Override\n");
+        source.append("    public boolean ").append(methodName).append("(java.lang.String key) {\n");
+        source.append("        switch (key) {\n");
+        for (String key : keys) {
+            source.append("            case ").append(elements.getConstantExpression(key)).append(":\n");
+        }
+        if (!keys.isEmpty()) {
+            source.append("                return true;\n");
+        }
+        source.append("            default:\n");
+        source.append("                return false;\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() == TypeKind.DECLARED) {
+            return (TypeElement) ((DeclaredType) superclass).asElement();
+        }
+        return null;
+    }
+
+    private AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationValue getAnnotationValue(AnnotationMirror annotation, String name) {
+        if (annotation == null) {
+            return null;
+        }
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : annotation.getElementValues().entrySet()) {
+            if (value.getKey().getSimpleName().contentEquals(name)) {
+                return value.getValue();
+            }
+        }
+        return null;
+    }
+
+    private String getOptionKey(VariableElement field, AnnotationMirror option) {
+        AnnotationValue value = getAnnotationValue(option, "value");
+        if (value != null) {
+            String key = String.valueOf(value.getValue());
+            if (!key.isEmpty()) {
+                return key;
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    private boolean isMapType(TypeMirror type) {
+        return types.isSameType(types.erasure(type), types.erasure(elements.getTypeElement("java.util.Map").asType()));
+    }
+
+    private boolean isBooleanType(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || types.isSameType(type, elements.getTypeElement("java.lang.Boolean").asType());
+    }
+
+    private boolean isAssignableField(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.FINAL);
+    }
+
+    private String getCastType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        return types.erasure(type).toString();
+    }
+
+    /**
+     * Static methods would be called by reflection too, but are not worth generating calls for.
+     */
+    private boolean isCallable(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        return !method.getModifiers().contains(Modifier.STATIC) && SourceVersion.isIdentifier(name) && !SourceVersion.isKeyword(name);
+    }
+
+    /**
+     * Fields inherited from a superclass are accessed through a cast to that superclass, in case a subclass hides them
+     * with another field of the same name, and so that their type is always the erasure of the declared type. That
+     * requires the superclass to be accessible from the binder's package.
+     */
+    private String getFieldExpression(TypeElement optionsHolder, VariableElement field) {
+        TypeElement declaringType = (TypeElement) field.getEnclosingElement();
+        if (declaringType.equals(optionsHolder)) {
+            return "optionsHolder." + field.getSimpleName();
+        }
+        else if (isAccessibleFrom(declaringType, elements.getPackageOf(optionsHolder))) {
+            return "((" + types.erasure(declaringType.asType()) + ") optionsHolder)." + field.getSimpleName();
+        }
+
+        return null;
+    }
+
+    private boolean isAccessibleFrom(TypeElement type, PackageElement packageElement) {
+        boolean samePackage = elements.getPackageOf(type).equals(packageElement);
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collect the public methods of a class and all its supertypes, including methods which are overridden. Reflection
+     * finds overridden generic methods through their bridge methods, so they must be matched here as well.
+     */
+    private List<ExecutableElement> getPublicMethods(TypeElement type) {
+        List<TypeElement> supertypes = new ArrayList<>();
+        collectSupertypes(type.asType(), supertypes, new HashSet<String>());
+
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (TypeElement supertype : supertypes) {
+            for (ExecutableElement method : ElementFilter.methodsIn(supertype.getEnclosedElements())) {
+                if (method.getModifiers().contains(Modifier.PUBLIC)) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Collect a class and all of its superclasses and interfaces, each only once.
+     */
+    private void collectSupertypes(TypeMirror type, List<TypeElement> supertypes, Set<String> visitedTypes) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return;
+        }
+
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (!visitedTypes.add(typeElement.getQualifiedName().toString())) {
+            return;
+        }
+
+        supertypes.add(typeElement);
+        for (TypeMirror supertype : types.directSupertypes(type)) {
+            collectSupertypes(supertype, supertypes, visitedTypes);
+        }
+    }
+
+    private ExecutableElement findMethod(List<ExecutableElement> methods, String name, TypeMirror... parameterTypes) {
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(name) && matchesParameters(method, parameterTypes)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean matchesParameters(ExecutableElement method, TypeMirror[] parameterTypes) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.size() != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (!types.isSameType(types.erasure(parameters.get(i).asType()), types.erasure(parameterTypes[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final class BinderModel {
+        private final TypeElement optionsHolder;
+        private final String packageName;
+        private final String binderSimpleName;
+        private final String binderQualifiedName;
+
+        private String allOptionsField;
+        private final Map<String, String> setters = new LinkedHashMap<>();
+        private final Map<String, String> getters = new LinkedHashMap<>();
+
+        private BinderModel(TypeElement optionsHolder) {
+            this.optionsHolder = optionsHolder;
+
+            PackageElement packageElement = elements.getPackageOf(optionsHolder);
+            String binaryName = elements.getBinaryName(optionsHolder).toString();
+
+            this.packageName = (packageElement.isUnnamed()) ? "" : packageElement.getQualifiedName().toString();
+            this.binderSimpleName = ((packageName.isEmpty()) ? binaryName : binaryName.substring(packageName.length() + 1)) + CLASS_NAME_SUFFIX;
+            this.binderQualifiedName = ((packageName.isEmpty()) ? "" : packageName + ".") + binderSimpleName;
+        }
+
+        private boolean hasBindings() {
+            return allOptionsField != null || !setters.isEmpty() || !getters.isEmpty();
+        }
+    }
+
+}
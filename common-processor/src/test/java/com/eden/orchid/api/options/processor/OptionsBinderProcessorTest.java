@@ -0,0 +1,245 @@
+package com.eden.orchid.api.options.processor;
+
+import com.eden.orchid.api.options.Extractor;
+import com.eden.orchid.api.options.OptionExtractor;
+import com.eden.orchid.api.options.OptionsBinder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+public class OptionsBinderProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File classOutput;
+    private File sourceOutput;
+
+    @BeforeEach
+    void setupTest() throws Throwable {
+        classOutput = Files.createDirectory(tempDir.resolve("classes")).toFile();
+        sourceOutput = Files.createDirectory(tempDir.resolve("generated")).toFile();
+    }
+
+    @Test
+    void testBinderIsGeneratedForOptionsHolder() throws Throwable {
+        compile(
+                "com.example.Page",
+                "package com.example;\n" +
+                        "import com.eden.orchid.api.options.annotations.*;\n" +
+                        "import java.util.Map;\n" +
+                        "public class Page {\n" +
+                        "    @AllOptions public Map<String, Object> allOptions;\n" +
+                        "    @Option public String title;\n" +
+                        "    @Option(\"page-size\") public int pageSize;\n" +
+                        "    @Option public boolean draft;\n" +
+                        "    @Option private String description;\n" +
+                        "    @Option private String hidden;\n" +
+                        "    public int setterCalls;\n" +
+                        "    public boolean isDraft() { return draft; }\n" +
+                        "    public void setDescription(String description) { this.description = description; setterCalls++; }\n" +
+                        "    public String getDescription() { return description; }\n" +
+                        "    public static class Nested extends Page {\n" +
+                        "        @Option public String title;\n" +
+                        "    }\n" +
+                        "}\n"
+        );
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classOutput.toURI().toURL()}, getClass().getClassLoader());
+        Class<?> pageClass = classLoader.loadClass("com.example.Page");
+        OptionsBinder binder = (OptionsBinder) classLoader.loadClass("com.example.Page$$OptionsBinder").getConstructor().newInstance();
+
+        assertThat(binder.canSetAllOptions(), is(true));
+        assertThat(binder.canSetOptionValue("title"), is(true));
+        assertThat(binder.canSetOptionValue("page-size"), is(true));
+        assertThat(binder.canSetOptionValue("description"), is(true));
+        assertThat(binder.canSetOptionValue("hidden"), is(false));
+        assertThat(binder.canGetOptionValue("draft"), is(true));
+        assertThat(binder.canGetOptionValue("hidden"), is(false));
+
+        Object page = pageClass.getConstructor().newInstance();
+        binder.setAllOptions(page, Collections.<String, Object>singletonMap("title", "Home"));
+        binder.setOptionValue(page, "title", "Home");
+        binder.setOptionValue(page, "page-size", 10);
+        binder.setOptionValue(page, "draft", true);
+        binder.setOptionValue(page, "description", "The home page");
+
+        assertThat(pageClass.getField("allOptions").get(page), is(equalTo((Object) Collections.singletonMap("title", "Home"))));
+        assertThat(pageClass.getField("setterCalls").get(page), is(equalTo((Object) 1)));
+        assertThat(binder.getOptionValue(page, "title"), is(equalTo((Object) "Home")));
+        assertThat(binder.getOptionValue(page, "page-size"), is(equalTo((Object) 10)));
+        assertThat(binder.getOptionValue(page, "draft"), is(equalTo((Object) true)));
+        assertThat(binder.getOptionValue(page, "description"), is(equalTo((Object) "The home page")));
+
+        // the nested class hides the title option, so only the key it declares itself is bound
+        assertThat(new File(sourceOutput, "com/example/Page$Nested$$OptionsBinder.java").exists(), is(true));
+        OptionsBinder nestedBinder = (OptionsBinder) classLoader.loadClass("com.example.Page$Nested$$OptionsBinder").getConstructor().newInstance();
+        assertThat(nestedBinder.canSetOptionValue("title"), is(false));
+        assertThat(nestedBinder.canSetOptionValue("page-size"), is(true));
+    }
+
+    @Test
+    void testBinderIsUsedByExtractor() throws Throwable {
+        compile(
+                "com.example.Generic",
+                "package com.example;\n" +
+                        "import com.eden.orchid.api.options.annotations.*;\n" +
+                        "public class Generic<T> {\n" +
+                        "    @Option public T value;\n" +
+                        "    public void setValue(T value) { this.value = value; }\n" +
+                        "    public static class Concrete extends Generic<String> {\n" +
+                        "        public String lastSet;\n" +
+                        "        @Override public void setValue(String value) { super.setValue(value); lastSet = value; }\n" +
+                        "    }\n" +
+                        "}\n"
+        );
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classOutput.toURI().toURL()}, getClass().getClassLoader());
+        Class<?> concreteClass = classLoader.loadClass("com.example.Generic$Concrete");
+
+        Extractor extractor = Extractor.builder().extractors(new ArrayList<OptionExtractor>()).build();
+        OptionsBinder<Object> binder = extractor.getMetadata(concreteClass).getOptionsBinder();
+        assertThat(binder, is(notNullValue()));
+
+        Object concrete = concreteClass.getConstructor().newInstance();
+        binder.setOptionValue(concrete, "value", "bound value");
+
+        assertThat(concreteClass.getField("lastSet").get(concrete), is(equalTo((Object) "bound value")));
+        assertThat(extractor.getOptionsValues(concrete), hasEntry("value", (Object) "bound value"));
+
+        // without an @AllOptions field, setting all options is a mistake in the caller
+        assertThat(binder.canSetAllOptions(), is(false));
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> {
+            binder.setAllOptions(concrete, Collections.<String, Object>emptyMap());
+        });
+        assertThat(e.getMessage(), containsString("com.example.Generic.Concrete"));
+    }
+
+    @Test
+    void testNativeImageConfigIsGenerated() throws Throwable {
+        String source = "package com.example;\n" +
+                "import com.eden.orchid.api.options.OptionArchetype;\n" +
+                "import com.eden.orchid.api.options.annotations.*;\n" +
+                "import java.util.Map;\n" +
+                "public class Site {\n" +
+                "    public interface Named { String getTitle(); }\n" +
+                "    public static class Base {\n" +
+                "        @Option private String hidden;\n" +
+                "    }\n" +
+                "    public static class Config implements OptionArchetype {\n" +
+                "        public Map<String, Object> getOptions(Object target, String archetypeKey) { return null; }\n" +
+                "    }\n" +
+                "    @Archetype(key = \"config\", value = Config.class)\n" +
+                "    public static class Page extends Base implements Named {\n" +
+                "        @Option public String title;\n" +
+                "        public String getTitle() { return title; }\n" +
+                "    }\n" +
+                "}\n";
+
+        compile("com.example.Site", source);
+
+        String config = new String(Files.readAllBytes(classOutput.toPath().resolve("META-INF/native-image/options-binders/reflect-config.json")), StandardCharsets.UTF_8);
+        assertThat(config, containsString("\"name\": \"com.example.Site$Page\""));
+        assertThat(config, containsString("\"name\": \"com.example.Site$Base\""));
+        assertThat(config, containsString("\"name\": \"com.example.Site$Named\""));
+        assertThat(config, containsString("\"name\": \"com.example.Site$Config\""));
+        assertThat(config, containsString("\"name\": \"com.example.Site$Page$$OptionsBinder\""));
+        assertThat(config, not(containsString("\"name\": \"com.example.Site\"")));
+        assertThat(config, not(containsString("java.lang.Object")));
+
+        compile("com.example.Site", source, "-A" + OptionsBinderProcessor.NATIVE_IMAGE_DIRECTORY_OPTION + "=com.example/site");
+        assertThat(new File(classOutput, "META-INF/native-image/com.example/site/reflect-config.json").exists(), is(true));
+    }
+
+    @Test
+    void testNoBinderForClassesWithoutOptions() throws Throwable {
+        compile(
+                "com.example.Plain",
+                "package com.example;\n" +
+                        "public class Plain {\n" +
+                        "    public String title;\n" +
+                        "}\n"
+        );
+
+        assertThat(new File(sourceOutput, "com/example/Plain$$OptionsBinder.java").exists(), is(false));
+    }
+
+// Helpers
+//----------------------------------------------------------------------------------------------------------------------
+
+    private void compile(String className, String source, String... options) throws Throwable {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classOutput));
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(sourceOutput));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                fileManager,
+                diagnostics,
+                compilerOptions(options),
+                null,
+                Collections.singletonList(new StringSource(className, source))
+        );
+        task.setProcessors(Collections.singletonList(new OptionsBinderProcessor()));
+
+        boolean success = task.call();
+        fileManager.close();
+
+        assertThat(diagnostics.getDiagnostics().toString(), success, is(true));
+    }
+
+    private List<String> compilerOptions(String... options) throws Throwable {
+        List<String> compilerOptions = new ArrayList<>(Arrays.asList("-classpath", getClasspath()));
+        compilerOptions.addAll(Arrays.asList(options));
+        return compilerOptions;
+    }
+
+    /**
+     * The compiled sources need the option annotations and OptionsBinder from common-core, which may not be listed in
+     * `java.class.path` depending on how the tests are launched.
+     */
+    private String getClasspath() throws Throwable {
+        String commonCoreLocation = new File(OptionsBinder.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        return commonCoreLocation + File.pathSeparator + System.getProperty("java.class.path");
+    }
+
+    private static class StringSource extends SimpleJavaFileObject {
+        private final String source;
+
+        StringSource(String className, String source) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+}
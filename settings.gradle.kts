@@ -18,4 +18,6 @@ pluginManagement {
 rootProject.name = "common"
 
 include(":common-core")
+include(":common-processor")
+include(":common-benchmarks")
 include(":docs")